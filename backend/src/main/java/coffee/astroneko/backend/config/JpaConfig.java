@@ -31,6 +31,11 @@ public class JpaConfig {
     );
     jpaProperties.put("hibernate.hbm2ddl.auto", "update");
     jpaProperties.put("hibernate.show_sql", "true");
+    // Group inserts per table into JDBC batches; with reWriteBatchedInserts
+    // on the datasource URL the driver sends them as multi-row inserts
+    jpaProperties.put("hibernate.jdbc.batch_size", "50");
+    jpaProperties.put("hibernate.order_inserts", "true");
+    jpaProperties.put("hibernate.order_updates", "true");
     factoryBean.setJpaProperties(jpaProperties);
 
     return factoryBean;
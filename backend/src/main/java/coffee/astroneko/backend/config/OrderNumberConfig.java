@@ -0,0 +1,22 @@
+package coffee.astroneko.backend.config;
+
+import coffee.astroneko.backend.entity.Order;
+import coffee.astroneko.backend.util.OrderNumberGenerator;
+import coffee.astroneko.backend.util.SnowflakeOrderNumberGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class OrderNumberConfig {
+
+  @Bean
+  public OrderNumberGenerator orderNumberGenerator(
+    @Value("${app.orders.node-id:0}") long nodeId
+  ) {
+    OrderNumberGenerator generator = new SnowflakeOrderNumberGenerator(nodeId);
+    // Entities are not Spring beans, so hand the generator to Order directly
+    Order.setOrderNumberGenerator(generator);
+    return generator;
+  }
+}
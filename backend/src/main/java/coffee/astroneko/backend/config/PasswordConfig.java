@@ -0,0 +1,59 @@
+package coffee.astroneko.backend.config;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Password hashing. New hashes are stored as {id}hash using the configured
+ * algorithm and cost, while older hashes keep verifying; UserService
+ * rehashes those on the next successful login. PasswordHashingBenchmark
+ * picks the cost for a target login latency.
+ */
+@Configuration
+public class PasswordConfig {
+
+  public static final String BCRYPT = "bcrypt";
+  public static final String ARGON2 = "argon2";
+
+  @Bean
+  public PasswordEncoder passwordEncoder(
+    @Value("${app.password.algorithm:bcrypt}") String algorithm,
+    @Value("${app.password.bcrypt.strength:10}") int bcryptStrength,
+    @Value("${app.password.argon2.memory-kib:19456}") int argon2MemoryKib,
+    @Value("${app.password.argon2.iterations:2}") int argon2Iterations,
+    @Value("${app.password.argon2.parallelism:1}") int argon2Parallelism
+  ) {
+    Map<String, PasswordEncoder> encoders = new HashMap<>();
+    encoders.put(BCRYPT, new BCryptPasswordEncoder(bcryptStrength));
+    encoders.put(
+      ARGON2,
+      new Argon2PasswordEncoder(
+        16,
+        32,
+        argon2Parallelism,
+        argon2MemoryKib,
+        argon2Iterations
+      )
+    );
+    if (!encoders.containsKey(algorithm)) {
+      throw new IllegalStateException(
+        "Unknown app.password.algorithm: " + algorithm
+      );
+    }
+
+    DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(
+      algorithm,
+      encoders
+    );
+    // Hashes stored before the {id} prefix are plain bcrypt
+    encoder.setDefaultPasswordEncoderForMatches(encoders.get(BCRYPT));
+    return encoder;
+  }
+}
@@ -1,35 +1,104 @@
 package coffee.astroneko.backend.config;
 
+import static org.springframework.security.config.Customizer.withDefaults;
+
+import coffee.astroneko.backend.security.JwtAuthenticationFilter;
+import coffee.astroneko.backend.security.TokenDenyList;
+import coffee.astroneko.backend.util.JwtUtil;
+import java.util.Arrays;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
 
 @Configuration
+@EnableMethodSecurity
 public class SecurityConfig {
 
+  @Autowired
+  private JwtUtil jwtUtil;
+
+  @Autowired
+  private TokenDenyList tokenDenyList;
+
+  // Addresses Prometheus scrapes from; the metrics include revenue
+  @Value("${app.metrics.allowed-ips:127.0.0.1/32,::1/128}")
+  private String[] metricsAllowedIps;
+
   @Bean
   public SecurityFilterChain securityFilterChain(HttpSecurity http)
     throws Exception {
     http
       .csrf(csrf -> csrf.disable()) // Disable CSRF for simplicity during development
-      .authorizeHttpRequests(
-        auth -> auth.anyRequest().permitAll() // Allow all requests during testing
+      .cors(withDefaults()) // Let CORS preflights through before auth
+      .authorizeHttpRequests(auth ->
+        auth
+          .requestMatchers(HttpMethod.OPTIONS, "/**")
+          .permitAll()
+          .requestMatchers("/api/v1/secure/**")
+          .authenticated() // Secure APIs need a valid bearer token
+          .requestMatchers("/actuator/prometheus")
+          .access(metricsAccess()) // Business metrics stay internal
+          .anyRequest()
+          .permitAll()
       )
       .sessionManagement(session ->
         session.sessionCreationPolicy(SessionCreationPolicy.STATELESS)
       ) // Stateless for JWT
+      .exceptionHandling(ex ->
+        ex.authenticationEntryPoint(
+          new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED)
+        )
+      )
+      .addFilterBefore(
+        new JwtAuthenticationFilter(jwtUtil, tokenDenyList),
+        UsernamePasswordAuthenticationFilter.class
+      ) // Principal comes from the token claims, not the database
       .httpBasic(httpBasic -> httpBasic.disable()) // Disable HTTP Basic auth
       .formLogin(form -> form.disable()); // Disable form login for API-only
 
     return http.build();
   }
 
-  @Bean
-  public PasswordEncoder passwordEncoder() {
-    return new BCryptPasswordEncoder();
+  /**
+   * Scrapes from an allowed address, or an owner with a bearer token
+   */
+  private AuthorizationManager<RequestAuthorizationContext> metricsAccess() {
+    List<IpAddressMatcher> scrapers = Arrays.stream(metricsAllowedIps)
+      .map(String::trim)
+      .filter(ip -> !ip.isEmpty())
+      .map(IpAddressMatcher::new)
+      .toList();
+    return (authentication, context) -> {
+      if (
+        scrapers
+          .stream()
+          .anyMatch(scraper -> scraper.matches(context.getRequest()))
+      ) {
+        return new AuthorizationDecision(true);
+      }
+      Authentication user = authentication.get();
+      return new AuthorizationDecision(
+        user != null &&
+        user
+          .getAuthorities()
+          .stream()
+          .anyMatch(authority -> "ROLE_OWNER".equals(authority.getAuthority()))
+      );
+    };
   }
 }
@@ -2,15 +2,23 @@ package coffee.astroneko.backend.controller;
 
 import coffee.astroneko.backend.dto.request.LoginRequest;
 import coffee.astroneko.backend.dto.request.SignUpRequest;
-import coffee.astroneko.backend.dto.response.AuthResponse;
+import coffee.astroneko.backend.security.JwtAuthenticationFilter;
+import coffee.astroneko.backend.security.TokenDenyList;
 import coffee.astroneko.backend.service.UserService;
+import coffee.astroneko.backend.util.JwtUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -23,6 +31,12 @@ public class AuthController {
   @Autowired
   private UserService userService;
 
+  @Autowired
+  private JwtUtil jwtUtil;
+
+  @Autowired
+  private TokenDenyList tokenDenyList;
+
   @PostMapping("/signup")
   @Operation(
     summary = "Register a new user",
@@ -39,17 +53,22 @@ public class AuthController {
         description = "Bad request - validation error"
       ),
       @ApiResponse(responseCode = "409", description = "Email already exists"),
+      @ApiResponse(
+        responseCode = "503",
+        description = "Too many sign-ins at once - retry shortly"
+      ),
     }
   )
-  public ResponseEntity<?> registerUser(
+  public CompletableFuture<ResponseEntity<?>> registerUser(
     @Valid @RequestBody SignUpRequest signUpRequest
   ) {
     try {
-      AuthResponse authResponse = userService.signUp(signUpRequest);
-      return ResponseEntity.ok(authResponse);
+      return userService
+        .signUp(signUpRequest)
+        .<ResponseEntity<?>>thenApply(ResponseEntity::ok)
+        .exceptionally(AuthController::authFailure);
     } catch (RuntimeException e) {
-      return ResponseEntity.badRequest()
-        .body(Map.of("message", e.getMessage()));
+      return CompletableFuture.completedFuture(authFailure(e));
     }
   }
 
@@ -69,32 +88,59 @@ public class AuthController {
         description = "Bad request - validation error"
       ),
       @ApiResponse(responseCode = "401", description = "Invalid credentials"),
+      @ApiResponse(
+        responseCode = "503",
+        description = "Too many sign-ins at once - retry shortly"
+      ),
     }
   )
-  public ResponseEntity<?> authenticateUser(
+  public CompletableFuture<ResponseEntity<?>> authenticateUser(
     @Valid @RequestBody LoginRequest loginRequest
   ) {
     try {
-      AuthResponse authResponse = userService.login(loginRequest);
-      return ResponseEntity.ok(authResponse);
+      return userService
+        .login(loginRequest)
+        .<ResponseEntity<?>>thenApply(ResponseEntity::ok)
+        .exceptionally(AuthController::authFailure);
     } catch (RuntimeException e) {
-      return ResponseEntity.badRequest()
-        .body(Map.of("message", e.getMessage()));
+      return CompletableFuture.completedFuture(authFailure(e));
     }
   }
 
   @PostMapping("/logout")
   @Operation(
     summary = "Logout user",
-    description = "Logout user (token invalidation handled on client side)"
+    description = "Logout user and revoke the bearer token, if one is sent"
   )
   @ApiResponse(
     responseCode = "200",
     description = "User logged out successfully"
   )
-  public ResponseEntity<?> logoutUser() {
-    // Since JWT is stateless, we just return a success message
-    // The client should remove the token from storage
+  public ResponseEntity<?> logoutUser(HttpServletRequest request) {
+    // Revoke the token until it expires; the client should still remove it
+    String token = JwtAuthenticationFilter.bearerToken(request);
+    if (token != null) {
+      jwtUtil
+        .verify(token)
+        .ifPresent(claims ->
+          tokenDenyList.revoke(token, claims.getExpiresAt())
+        );
+    }
     return ResponseEntity.ok(Map.of("message", "User logged out successfully"));
   }
+
+  // A full hashing pool is a 503 so clients retry; anything else is a 400
+  private static ResponseEntity<?> authFailure(Throwable error) {
+    Throwable cause = error instanceof CompletionException &&
+      error.getCause() != null
+      ? error.getCause()
+      : error;
+    if (cause instanceof RejectedExecutionException) {
+      return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+        .header(HttpHeaders.RETRY_AFTER, "1")
+        .body(Map.of("message", "Too many sign-ins at once, please retry"));
+    }
+    return ResponseEntity.badRequest()
+      .body(Map.of("message", String.valueOf(cause.getMessage())));
+  }
 }
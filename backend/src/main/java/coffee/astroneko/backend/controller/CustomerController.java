@@ -1,5 +1,6 @@
 package coffee.astroneko.backend.controller;
 
+import coffee.astroneko.backend.dto.response.CursorPage;
 import coffee.astroneko.backend.dto.response.CustomerResponse;
 import coffee.astroneko.backend.service.CustomerService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -195,7 +196,7 @@ public class CustomerController {
       required = false
     ) Boolean active,
     @Parameter(
-      description = "Search term for name, email, or phone"
+      description = "Search term for name, username, email, or phone"
     ) @RequestParam(name = "search", required = false) String search
   ) {
     try {
@@ -222,4 +223,104 @@ public class CustomerController {
       return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
     }
   }
+
+  @GetMapping("/cursor")
+  @Operation(
+    summary = "Get customers with cursor pagination",
+    description = "Retrieves customers one page at a time by seeking past the given cursor, without offset scans or a total count"
+  )
+  @ApiResponses(
+    value = {
+      @ApiResponse(
+        responseCode = "200",
+        description = "Customer page retrieved successfully"
+      ),
+      @ApiResponse(
+        responseCode = "400",
+        description = "Invalid cursor or unsupported sort field"
+      ),
+    }
+  )
+  public ResponseEntity<CursorPage<CustomerResponse>> getCustomersByCursor(
+    @Parameter(
+      description = "Cursor from the previous page, omitted for the first page"
+    ) @RequestParam(name = "cursor", required = false) String cursor,
+    @Parameter(description = "Page size") @RequestParam(
+      name = "size",
+      defaultValue = "10"
+    ) int size,
+    @Parameter(
+      description = "Sort field (id, firstName, lastName, username, email, createdAt)"
+    ) @RequestParam(name = "sortBy", defaultValue = "firstName") String sortBy,
+    @Parameter(description = "Sort direction (asc/desc)") @RequestParam(
+      name = "sortDir",
+      defaultValue = "asc"
+    ) String sortDir,
+    @Parameter(description = "Filter by active status") @RequestParam(
+      name = "active",
+      required = false
+    ) Boolean active,
+    @Parameter(
+      description = "Search term for name, username, email, or phone"
+    ) @RequestParam(name = "search", required = false) String search
+  ) {
+    try {
+      CursorPage<CustomerResponse> customers =
+        customerService.getCustomersAfterCursor(
+          cursor,
+          size,
+          sortBy,
+          sortDir,
+          active != null && active,
+          search
+        );
+      return ResponseEntity.ok(customers);
+    } catch (IllegalArgumentException e) {
+      return ResponseEntity.badRequest().build();
+    } catch (Exception e) {
+      return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+    }
+  }
+
+  @GetMapping("/search")
+  @Operation(
+    summary = "Search customers",
+    description = "Customers whose name, username, email or phone contains the query, best matches first, for the cashier's customer lookup"
+  )
+  @ApiResponses(
+    value = {
+      @ApiResponse(responseCode = "200", description = "Matching customers"),
+      @ApiResponse(
+        responseCode = "400",
+        description = "Missing query or limit out of range"
+      ),
+    }
+  )
+  public ResponseEntity<List<CustomerResponse>> searchCustomers(
+    @Parameter(description = "Search text") @RequestParam(
+      name = "q"
+    ) String query,
+    @Parameter(description = "Only active customers") @RequestParam(
+      name = "active",
+      required = false
+    ) Boolean active,
+    @Parameter(description = "Maximum results (1-50)") @RequestParam(
+      name = "limit",
+      defaultValue = "10"
+    ) int limit
+  ) {
+    try {
+      return ResponseEntity.ok(
+        customerService.searchCustomers(
+          query,
+          active != null && active,
+          limit
+        )
+      );
+    } catch (IllegalArgumentException e) {
+      return ResponseEntity.badRequest().build();
+    } catch (Exception e) {
+      return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+    }
+  }
 }
@@ -0,0 +1,81 @@
+package coffee.astroneko.backend.controller;
+
+import coffee.astroneko.backend.dto.response.DashboardStatsResponse;
+import coffee.astroneko.backend.service.DashboardService;
+import coffee.astroneko.backend.service.SalesRollupService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(
+  name = "Dashboard",
+  description = "Secure API for sales statistics from the daily rollup"
+)
+@RestController
+@RequestMapping("/api/v1/secure/dashboard")
+public class DashboardController {
+
+  @Autowired
+  private DashboardService dashboardService;
+
+  @Autowired
+  private SalesRollupService salesRollupService;
+
+  @GetMapping("/stats")
+  @Operation(
+    summary = "Get dashboard statistics",
+    description = "Today's orders and revenue, average order value, and daily, top item and payment method breakdowns"
+  )
+  @ApiResponses(
+    value = {
+      @ApiResponse(
+        responseCode = "200",
+        description = "Statistics retrieved successfully"
+      ),
+      @ApiResponse(responseCode = "400", description = "Invalid window"),
+    }
+  )
+  public ResponseEntity<?> getStats(
+    @Parameter(description = "Business days to break down") @RequestParam(
+      defaultValue = "30"
+    ) int days,
+    @Parameter(description = "Number of top items") @RequestParam(
+      defaultValue = "10"
+    ) int topItems
+  ) {
+    try {
+      DashboardStatsResponse stats = dashboardService.getStats(days, topItems);
+      return ResponseEntity.ok(stats);
+    } catch (IllegalArgumentException e) {
+      return ResponseEntity.badRequest().body(
+        Map.of("message", e.getMessage())
+      );
+    } catch (Exception e) {
+      return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+    }
+  }
+
+  @PostMapping("/rollup/backfill")
+  @Operation(
+    summary = "Run sales rollup backfill",
+    description = "Recomputes rollup days after the last checkpoint now instead of waiting for the scheduled run"
+  )
+  @ApiResponse(responseCode = "200", description = "Backfill finished")
+  public ResponseEntity<?> backfillRollup() {
+    try {
+      salesRollupService.backfill();
+      return ResponseEntity.ok(Map.of("message", "Sales rollup backfilled"));
+    } catch (Exception e) {
+      return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(
+        Map.of("message", "Internal server error: " + e.getMessage())
+      );
+    }
+  }
+}
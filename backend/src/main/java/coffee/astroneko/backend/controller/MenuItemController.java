@@ -2,18 +2,27 @@ package coffee.astroneko.backend.controller;
 
 import coffee.astroneko.backend.dto.request.CreateMenuItemRequest;
 import coffee.astroneko.backend.dto.request.UpdateMenuItemRequest;
+import coffee.astroneko.backend.dto.response.CursorPage;
+import coffee.astroneko.backend.dto.response.MenuFacetsResponse;
 import coffee.astroneko.backend.dto.response.MenuItemResponse;
 import coffee.astroneko.backend.entity.MenuItem.ItemType;
 import coffee.astroneko.backend.service.MenuItemService;
+import coffee.astroneko.backend.service.MenuPageCache;
+import coffee.astroneko.backend.service.MenuSearch;
+import coffee.astroneko.backend.service.TagFilter;
 import jakarta.validation.Valid;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/v1")
@@ -23,27 +32,103 @@ public class MenuItemController {
   @Autowired
   private MenuItemService menuItemService;
 
+  @Autowired
+  private MenuPageCache menuPageCache;
+
+  @Autowired
+  private MenuSearch menuSearch;
+
   /**
    * PUBLIC ENDPOINTS - For customer menu display
    */
 
   @GetMapping("/expose/menu")
-  public ResponseEntity<Page<MenuItemResponse>> getPublicMenu(
+  public ResponseEntity<byte[]> getPublicMenu(
     @RequestParam(required = false) ItemType type,
+    @RequestParam(required = false) List<String> tags,
+    @RequestParam(required = false) String tagMatch,
     @RequestParam(defaultValue = "0") int page,
     @RequestParam(defaultValue = "10") int size,
     @RequestParam(defaultValue = "name") String sortBy,
-    @RequestParam(defaultValue = "asc") String sortDir
+    @RequestParam(defaultValue = "asc") String sortDir,
+    WebRequest webRequest
   ) {
-    Page<MenuItemResponse> menuItems = menuItemService.getPublicMenuItems(
+    TagFilter tagFilter;
+    try {
+      tagFilter = TagFilter.of(tags, tagMatch);
+    } catch (IllegalArgumentException e) {
+      return ResponseEntity.badRequest().build();
+    }
+
+    // Answer unchanged polls before building or encoding anything
+    String etag = menuPageCache.currentEtag(
       type,
+      tagFilter,
       page,
       size,
       sortBy,
       sortDir
     );
+    if (webRequest.checkNotModified(etag)) {
+      return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+        .eTag(etag)
+        .cacheControl(CacheControl.noCache())
+        .build();
+    }
+
+    MenuPageCache.CachedPage menuPage;
+    try {
+      menuPage = menuPageCache.getPublicPage(
+        type,
+        tagFilter,
+        page,
+        size,
+        sortBy,
+        sortDir
+      );
+    } catch (IllegalArgumentException e) {
+      return ResponseEntity.badRequest().build();
+    }
+
+    return ResponseEntity.ok()
+      .eTag(menuPage.getEtag())
+      .cacheControl(CacheControl.noCache())
+      .contentType(MediaType.APPLICATION_JSON)
+      .body(menuPage.getBody());
+  }
 
-    return ResponseEntity.ok(menuItems);
+  @GetMapping("/expose/menu/search")
+  public ResponseEntity<List<MenuItemResponse>> searchPublicMenu(
+    @RequestParam("q") String query,
+    @RequestParam(required = false) ItemType type,
+    @RequestParam(defaultValue = "10") int limit
+  ) {
+    try {
+      return ResponseEntity.ok(menuSearch.searchPublic(query, type, limit));
+    } catch (IllegalArgumentException e) {
+      return ResponseEntity.badRequest().build();
+    }
+  }
+
+  @GetMapping("/expose/menu/facets")
+  public ResponseEntity<MenuFacetsResponse> getMenuFacets(
+    @RequestParam(required = false) ItemType type,
+    @RequestParam(required = false) Boolean isOnSale,
+    @RequestParam(required = false) Boolean isCombo,
+    @RequestParam(required = false) List<String> tags,
+    @RequestParam(required = false) String tagMatch
+  ) {
+    try {
+      MenuFacetsResponse facets = menuItemService.getPublicMenuFacets(
+        type,
+        isOnSale,
+        isCombo,
+        TagFilter.of(tags, tagMatch)
+      );
+      return ResponseEntity.ok(facets);
+    } catch (IllegalArgumentException e) {
+      return ResponseEntity.badRequest().build();
+    }
   }
 
   @GetMapping("/expose/menu/{id}")
@@ -95,23 +180,61 @@ public class MenuItemController {
     @RequestParam(required = false) Boolean inStock,
     @RequestParam(required = false) Boolean isOnSale,
     @RequestParam(required = false) Boolean isCombo,
+    @RequestParam(required = false) List<String> tags,
+    @RequestParam(required = false) String tagMatch,
     @RequestParam(defaultValue = "0") int page,
     @RequestParam(defaultValue = "10") int size,
     @RequestParam(defaultValue = "name") String sortBy,
     @RequestParam(defaultValue = "asc") String sortDir
   ) {
-    Page<MenuItemResponse> menuItems = menuItemService.getMenuItems(
-      type,
-      inStock,
-      isOnSale,
-      isCombo,
-      page,
-      size,
-      sortBy,
-      sortDir
-    );
+    try {
+      Page<MenuItemResponse> menuItems = menuItemService.getMenuItems(
+        type,
+        inStock,
+        isOnSale,
+        isCombo,
+        TagFilter.of(tags, tagMatch),
+        page,
+        size,
+        sortBy,
+        sortDir
+      );
+      return ResponseEntity.ok(menuItems);
+    } catch (IllegalArgumentException e) {
+      return ResponseEntity.badRequest().build();
+    }
+  }
 
-    return ResponseEntity.ok(menuItems);
+  @GetMapping("/secure/menu/cursor")
+  public ResponseEntity<CursorPage<MenuItemResponse>> getMenuItemsByCursor(
+    @RequestParam(required = false) ItemType type,
+    @RequestParam(required = false) Boolean inStock,
+    @RequestParam(required = false) Boolean isOnSale,
+    @RequestParam(required = false) Boolean isCombo,
+    @RequestParam(required = false) List<String> tags,
+    @RequestParam(required = false) String tagMatch,
+    @RequestParam(required = false) String cursor,
+    @RequestParam(defaultValue = "10") int size,
+    @RequestParam(defaultValue = "name") String sortBy,
+    @RequestParam(defaultValue = "asc") String sortDir
+  ) {
+    try {
+      CursorPage<MenuItemResponse> menuItems =
+        menuItemService.getMenuItemsAfterCursor(
+          type,
+          inStock,
+          isOnSale,
+          isCombo,
+          TagFilter.of(tags, tagMatch),
+          cursor,
+          size,
+          sortBy,
+          sortDir
+        );
+      return ResponseEntity.ok(menuItems);
+    } catch (IllegalArgumentException e) {
+      return ResponseEntity.badRequest().build();
+    }
   }
 
   @GetMapping("/secure/menu/{id}")
@@ -130,6 +253,8 @@ public class MenuItemController {
     try {
       MenuItemResponse createdItem = menuItemService.createMenuItem(request);
       return ResponseEntity.status(HttpStatus.CREATED).body(createdItem);
+    } catch (AccessDeniedException e) {
+      throw e;
     } catch (Exception e) {
       return ResponseEntity.badRequest().build();
     }
@@ -0,0 +1,272 @@
+package coffee.astroneko.backend.controller;
+
+import coffee.astroneko.backend.dto.request.BulkCreateOrderRequest;
+import coffee.astroneko.backend.dto.request.CreateOrderRequest;
+import coffee.astroneko.backend.dto.request.UpdateOrderStatusRequest;
+import coffee.astroneko.backend.dto.response.BulkOrderResponse;
+import coffee.astroneko.backend.dto.response.OrderResponse;
+import coffee.astroneko.backend.entity.Order.OrderStatus;
+import coffee.astroneko.backend.service.OrderService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(
+  name = "Order Management",
+  description = "Secure API for placing orders and moving them through the kitchen"
+)
+@RestController
+@RequestMapping("/api/v1/secure/orders")
+public class OrderController {
+
+  @Autowired
+  private OrderService orderService;
+
+  @PostMapping
+  @Operation(
+    summary = "Place order",
+    description = "Creates a new PENDING order and puts it on the live board"
+  )
+  @ApiResponses(
+    value = {
+      @ApiResponse(responseCode = "201", description = "Order created"),
+      @ApiResponse(
+        responseCode = "400",
+        description = "Bad request - unknown customer, unavailable item or invalid promo code"
+      ),
+      @ApiResponse(
+        responseCode = "409",
+        description = "Conflict - promo code has reached its usage limit"
+      ),
+    }
+  )
+  public ResponseEntity<?> createOrder(
+    @Valid @RequestBody CreateOrderRequest request
+  ) {
+    try {
+      OrderResponse response = orderService.createOrder(request);
+      return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    } catch (IllegalArgumentException e) {
+      return ResponseEntity.badRequest().body(
+        Map.of("message", e.getMessage())
+      );
+    } catch (IllegalStateException e) {
+      return ResponseEntity.status(HttpStatus.CONFLICT).body(
+        Map.of("message", e.getMessage())
+      );
+    } catch (Exception e) {
+      return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(
+        Map.of("message", "Internal server error: " + e.getMessage())
+      );
+    }
+  }
+
+  @PostMapping("/bulk")
+  @Operation(
+    summary = "Import orders in bulk",
+    description = "Creates many orders in one transaction, for offline POS sync and catering imports. Orders keep the discounts, status and order date recorded at the till; running promos are not applied, only open orders join the live board and orders closed on an earlier day are numbered on that day"
+  )
+  @ApiResponses(
+    value = {
+      @ApiResponse(responseCode = "201", description = "Orders created"),
+      @ApiResponse(
+        responseCode = "400",
+        description = "Bad request - no orders were created"
+      ),
+    }
+  )
+  public ResponseEntity<?> createOrders(
+    @Valid @RequestBody BulkCreateOrderRequest request
+  ) {
+    try {
+      BulkOrderResponse response = orderService.createOrders(
+        request.getOrders()
+      );
+      return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    } catch (IllegalArgumentException e) {
+      return ResponseEntity.badRequest().body(
+        Map.of("message", e.getMessage())
+      );
+    } catch (Exception e) {
+      return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(
+        Map.of("message", "Internal server error: " + e.getMessage())
+      );
+    }
+  }
+
+  @GetMapping("/{id}")
+  @Operation(
+    summary = "Get order by ID",
+    description = "Retrieves an order, served from the live board while open"
+  )
+  @ApiResponses(
+    value = {
+      @ApiResponse(responseCode = "200", description = "Order found"),
+      @ApiResponse(responseCode = "404", description = "Order not found"),
+    }
+  )
+  public ResponseEntity<OrderResponse> getOrderById(
+    @Parameter(description = "Order ID") @PathVariable Long id
+  ) {
+    try {
+      Optional<OrderResponse> order = orderService.getOrderById(id);
+      return order
+        .map(ResponseEntity::ok)
+        .orElse(ResponseEntity.notFound().build());
+    } catch (Exception e) {
+      return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+    }
+  }
+
+  @GetMapping("/number/{orderNumber}")
+  @Operation(
+    summary = "Get order by number",
+    description = "Retrieves an order by its order number"
+  )
+  public ResponseEntity<OrderResponse> getOrderByNumber(
+    @Parameter(description = "Order number") @PathVariable String orderNumber
+  ) {
+    try {
+      Optional<OrderResponse> order = orderService.getOrderByNumber(
+        orderNumber
+      );
+      return order
+        .map(ResponseEntity::ok)
+        .orElse(ResponseEntity.notFound().build());
+    } catch (Exception e) {
+      return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+    }
+  }
+
+  @GetMapping("/board")
+  @Operation(
+    summary = "Get live order board",
+    description = "Open orders in queue order, optionally filtered by status and assignee"
+  )
+  @ApiResponse(responseCode = "200", description = "Board retrieved")
+  public ResponseEntity<List<OrderResponse>> getLiveBoard(
+    @Parameter(description = "Filter by status") @RequestParam(
+      required = false
+    ) OrderStatus status,
+    @Parameter(description = "Filter by assigned staff ID") @RequestParam(
+      required = false
+    ) Long assigneeId
+  ) {
+    try {
+      return ResponseEntity.ok(orderService.getLiveBoard(status, assigneeId));
+    } catch (Exception e) {
+      return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+    }
+  }
+
+  @GetMapping("/board/summary")
+  @Operation(
+    summary = "Get live board counts",
+    description = "Number of open orders per status"
+  )
+  public ResponseEntity<Map<OrderStatus, Integer>> getLiveBoardCounts() {
+    try {
+      return ResponseEntity.ok(orderService.getLiveBoardCounts());
+    } catch (Exception e) {
+      return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+    }
+  }
+
+  @PutMapping("/{id}/status")
+  @Operation(
+    summary = "Update order status",
+    description = "Moves an order to a new status if the lifecycle allows it"
+  )
+  @ApiResponses(
+    value = {
+      @ApiResponse(responseCode = "200", description = "Status updated"),
+      @ApiResponse(
+        responseCode = "400",
+        description = "Bad request - unknown staff member"
+      ),
+      @ApiResponse(responseCode = "404", description = "Order not found"),
+      @ApiResponse(
+        responseCode = "409",
+        description = "Conflict - transition not allowed"
+      ),
+    }
+  )
+  public ResponseEntity<?> updateOrderStatus(
+    @Parameter(description = "Order ID") @PathVariable Long id,
+    @Valid @RequestBody UpdateOrderStatusRequest request
+  ) {
+    try {
+      return ResponseEntity.ok(orderService.updateOrderStatus(id, request));
+    } catch (IllegalArgumentException e) {
+      return ResponseEntity.badRequest().body(
+        Map.of("message", e.getMessage())
+      );
+    } catch (IllegalStateException e) {
+      return ResponseEntity.status(HttpStatus.CONFLICT).body(
+        Map.of("message", e.getMessage())
+      );
+    } catch (RuntimeException e) {
+      return ResponseEntity.status(HttpStatus.NOT_FOUND).body(
+        Map.of("message", e.getMessage())
+      );
+    } catch (Exception e) {
+      return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(
+        Map.of("message", "Internal server error: " + e.getMessage())
+      );
+    }
+  }
+
+  @PutMapping("/{id}/assign")
+  @Operation(
+    summary = "Assign order",
+    description = "Hands an open order to a staff member"
+  )
+  @ApiResponses(
+    value = {
+      @ApiResponse(responseCode = "200", description = "Order assigned"),
+      @ApiResponse(
+        responseCode = "400",
+        description = "Bad request - unknown staff member"
+      ),
+      @ApiResponse(responseCode = "404", description = "Order not found"),
+      @ApiResponse(
+        responseCode = "409",
+        description = "Conflict - order is already closed"
+      ),
+    }
+  )
+  public ResponseEntity<?> assignOrder(
+    @Parameter(description = "Order ID") @PathVariable Long id,
+    @Parameter(description = "Staff member ID") @RequestParam Long staffId
+  ) {
+    try {
+      return ResponseEntity.ok(orderService.assignOrder(id, staffId));
+    } catch (IllegalArgumentException e) {
+      return ResponseEntity.badRequest().body(
+        Map.of("message", e.getMessage())
+      );
+    } catch (IllegalStateException e) {
+      return ResponseEntity.status(HttpStatus.CONFLICT).body(
+        Map.of("message", e.getMessage())
+      );
+    } catch (RuntimeException e) {
+      return ResponseEntity.status(HttpStatus.NOT_FOUND).body(
+        Map.of("message", e.getMessage())
+      );
+    } catch (Exception e) {
+      return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(
+        Map.of("message", "Internal server error: " + e.getMessage())
+      );
+    }
+  }
+}
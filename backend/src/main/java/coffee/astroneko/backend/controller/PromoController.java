@@ -0,0 +1,231 @@
+package coffee.astroneko.backend.controller;
+
+import coffee.astroneko.backend.dto.request.EvaluateCartRequest;
+import coffee.astroneko.backend.dto.request.PromoRequest;
+import coffee.astroneko.backend.dto.response.CartEvaluationResponse;
+import coffee.astroneko.backend.dto.response.PromoCodeResponse;
+import coffee.astroneko.backend.dto.response.PromoResponse;
+import coffee.astroneko.backend.service.PromoEngine;
+import coffee.astroneko.backend.service.PromoService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(
+  name = "Promo Management",
+  description = "Secure API for managing promos and pricing carts"
+)
+@RestController
+@RequestMapping("/api/v1/secure/promos")
+public class PromoController {
+
+  @Autowired
+  private PromoService promoService;
+
+  @Autowired
+  private PromoEngine promoEngine;
+
+  @GetMapping
+  @Operation(summary = "Get all promos", description = "Lists every promo")
+  public ResponseEntity<List<PromoResponse>> getAllPromos() {
+    try {
+      return ResponseEntity.ok(promoService.getAllPromos());
+    } catch (Exception e) {
+      return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+    }
+  }
+
+  @GetMapping("/{id}")
+  @Operation(summary = "Get promo by ID", description = "Retrieves a promo")
+  @ApiResponses(
+    value = {
+      @ApiResponse(responseCode = "200", description = "Promo found"),
+      @ApiResponse(responseCode = "404", description = "Promo not found"),
+    }
+  )
+  public ResponseEntity<PromoResponse> getPromoById(
+    @Parameter(description = "Promo ID") @PathVariable Long id
+  ) {
+    try {
+      Optional<PromoResponse> promo = promoService.getPromoById(id);
+      return promo
+        .map(ResponseEntity::ok)
+        .orElse(ResponseEntity.notFound().build());
+    } catch (Exception e) {
+      return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+    }
+  }
+
+  @GetMapping("/code/{code}")
+  @Operation(
+    summary = "Check promo code",
+    description = "Whether a promo code can be used right now, for validating the checkout field as it is typed"
+  )
+  @ApiResponses(
+    value = {
+      @ApiResponse(
+        responseCode = "200",
+        description = "Code checked; see valid and message"
+      ),
+      @ApiResponse(responseCode = "400", description = "Bad request - no code"),
+    }
+  )
+  public ResponseEntity<?> checkPromoCode(
+    @Parameter(description = "Promo code") @PathVariable String code
+  ) {
+    try {
+      PromoCodeResponse response = promoService.checkPromoCode(code);
+      return ResponseEntity.ok(response);
+    } catch (IllegalArgumentException e) {
+      return ResponseEntity.badRequest().body(
+        Map.of("message", e.getMessage())
+      );
+    } catch (Exception e) {
+      return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(
+        Map.of("message", "Internal server error: " + e.getMessage())
+      );
+    }
+  }
+
+  @PostMapping
+  @Operation(
+    summary = "Create promo",
+    description = "Creates a promo; carts are priced with it once it starts"
+  )
+  @ApiResponses(
+    value = {
+      @ApiResponse(responseCode = "201", description = "Promo created"),
+      @ApiResponse(
+        responseCode = "400",
+        description = "Bad request - invalid dates, discount or items"
+      ),
+    }
+  )
+  public ResponseEntity<?> createPromo(
+    @Valid @RequestBody PromoRequest request
+  ) {
+    try {
+      PromoResponse response = promoService.createPromo(request);
+      return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    } catch (AccessDeniedException e) {
+      throw e;
+    } catch (IllegalArgumentException e) {
+      return ResponseEntity.badRequest().body(
+        Map.of("message", e.getMessage())
+      );
+    } catch (Exception e) {
+      return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(
+        Map.of("message", "Internal server error: " + e.getMessage())
+      );
+    }
+  }
+
+  @PutMapping("/{id}")
+  @Operation(
+    summary = "Update promo",
+    description = "Replaces a promo's settings and linked menu items"
+  )
+  @ApiResponses(
+    value = {
+      @ApiResponse(responseCode = "200", description = "Promo updated"),
+      @ApiResponse(
+        responseCode = "400",
+        description = "Bad request - invalid dates, discount or items"
+      ),
+      @ApiResponse(responseCode = "404", description = "Promo not found"),
+    }
+  )
+  public ResponseEntity<?> updatePromo(
+    @Parameter(description = "Promo ID") @PathVariable Long id,
+    @Valid @RequestBody PromoRequest request
+  ) {
+    try {
+      return ResponseEntity.ok(promoService.updatePromo(id, request));
+    } catch (AccessDeniedException e) {
+      throw e;
+    } catch (IllegalArgumentException e) {
+      return ResponseEntity.badRequest().body(
+        Map.of("message", e.getMessage())
+      );
+    } catch (RuntimeException e) {
+      return ResponseEntity.status(HttpStatus.NOT_FOUND).body(
+        Map.of("message", e.getMessage())
+      );
+    } catch (Exception e) {
+      return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(
+        Map.of("message", "Internal server error: " + e.getMessage())
+      );
+    }
+  }
+
+  @DeleteMapping("/{id}")
+  @Operation(
+    summary = "Deactivate promo",
+    description = "Switches a promo off; it is kept for reporting"
+  )
+  @ApiResponses(
+    value = {
+      @ApiResponse(responseCode = "204", description = "Promo deactivated"),
+      @ApiResponse(responseCode = "404", description = "Promo not found"),
+    }
+  )
+  public ResponseEntity<Void> deactivatePromo(
+    @Parameter(description = "Promo ID") @PathVariable Long id
+  ) {
+    try {
+      promoService.deactivatePromo(id);
+      return ResponseEntity.noContent().build();
+    } catch (AccessDeniedException e) {
+      throw e;
+    } catch (RuntimeException e) {
+      return ResponseEntity.notFound().build();
+    } catch (Exception e) {
+      return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+    }
+  }
+
+  @PostMapping("/evaluate")
+  @Operation(
+    summary = "Price a cart",
+    description = "Applies the running promos to a cart at current menu prices, without placing an order"
+  )
+  @ApiResponses(
+    value = {
+      @ApiResponse(responseCode = "200", description = "Cart priced"),
+      @ApiResponse(
+        responseCode = "400",
+        description = "Bad request - unknown menu item"
+      ),
+    }
+  )
+  public ResponseEntity<?> evaluateCart(
+    @Valid @RequestBody EvaluateCartRequest request
+  ) {
+    try {
+      CartEvaluationResponse response = promoEngine.evaluateCart(
+        request.getItems(),
+        request.getPromoCode()
+      );
+      return ResponseEntity.ok(response);
+    } catch (IllegalArgumentException e) {
+      return ResponseEntity.badRequest().body(
+        Map.of("message", e.getMessage())
+      );
+    } catch (Exception e) {
+      return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(
+        Map.of("message", "Internal server error: " + e.getMessage())
+      );
+    }
+  }
+}
@@ -1,22 +1,30 @@
 package coffee.astroneko.backend.controller;
 
+import coffee.astroneko.backend.dto.response.CursorPage;
 import coffee.astroneko.backend.dto.response.PurchaseHistoryResponse;
 import coffee.astroneko.backend.service.PurchaseHistoryService;
+import coffee.astroneko.backend.service.PurchaseHistoryService.ExportFormat;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Tag(
   name = "Purchase History Management",
@@ -29,6 +37,10 @@ public class PurchaseHistoryController {
   @Autowired
   private PurchaseHistoryService purchaseHistoryService;
 
+  // Exports may outlive the container's default async timeout
+  @Value("${app.export.timeout-ms:600000}")
+  private long exportTimeoutMs;
+
   @GetMapping
   @Operation(
     summary = "Get all purchase history",
@@ -105,6 +117,46 @@ public class PurchaseHistoryController {
     }
   }
 
+  @GetMapping("/customer/{customerId}/cursor")
+  @Operation(
+    summary = "Get purchase history by customer ID with cursor pagination",
+    description = "Retrieves purchase history for a specific customer, newest first, by seeking past the given cursor instead of counting and offsetting"
+  )
+  @ApiResponses(
+    value = {
+      @ApiResponse(
+        responseCode = "200",
+        description = "Purchase history retrieved successfully"
+      ),
+      @ApiResponse(responseCode = "400", description = "Invalid cursor"),
+    }
+  )
+  public ResponseEntity<
+    CursorPage<PurchaseHistoryResponse>
+  > getPurchaseHistoryByCustomerIdCursor(
+    @Parameter(description = "Customer ID") @PathVariable Long customerId,
+    @Parameter(
+      description = "Cursor from the previous page, omitted for the first page"
+    ) @RequestParam(required = false) String cursor,
+    @Parameter(description = "Page size") @RequestParam(
+      defaultValue = "10"
+    ) int size
+  ) {
+    try {
+      CursorPage<PurchaseHistoryResponse> history =
+        purchaseHistoryService.getPurchaseHistoryByCustomerIdAfterCursor(
+          customerId,
+          cursor,
+          size
+        );
+      return ResponseEntity.ok(history);
+    } catch (IllegalArgumentException e) {
+      return ResponseEntity.badRequest().build();
+    } catch (Exception e) {
+      return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+    }
+  }
+
   @GetMapping("/{id}")
   @Operation(
     summary = "Get purchase history by ID",
@@ -249,4 +301,68 @@ public class PurchaseHistoryController {
       return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
     }
   }
+
+  @GetMapping("/export")
+  @Operation(
+    summary = "Export purchase history",
+    description = "Streams purchase history, oldest first, as NDJSON or CSV, optionally within a date range"
+  )
+  @ApiResponses(
+    value = {
+      @ApiResponse(responseCode = "200", description = "Export started"),
+      @ApiResponse(
+        responseCode = "400",
+        description = "Unknown format or invalid date"
+      ),
+    }
+  )
+  public ResponseEntity<StreamingResponseBody> exportPurchaseHistory(
+    @Parameter(description = "ndjson or csv") @RequestParam(
+      defaultValue = "ndjson"
+    ) String format,
+    @Parameter(
+      description = "Start date (yyyy-MM-dd'T'HH:mm:ss)"
+    ) @RequestParam(required = false) String startDate,
+    @Parameter(
+      description = "End date (yyyy-MM-dd'T'HH:mm:ss)"
+    ) @RequestParam(required = false) String endDate,
+    HttpServletRequest request
+  ) {
+    ExportFormat exportFormat;
+    LocalDateTime start;
+    LocalDateTime end;
+    try {
+      exportFormat = ExportFormat.valueOf(format.toUpperCase());
+      DateTimeFormatter formatter = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+      start = startDate != null
+        ? LocalDateTime.parse(startDate, formatter)
+        : null;
+      end = endDate != null ? LocalDateTime.parse(endDate, formatter) : null;
+    } catch (IllegalArgumentException | DateTimeParseException e) {
+      return ResponseEntity.badRequest().build();
+    }
+
+    boolean csv = exportFormat == ExportFormat.CSV;
+    StreamingResponseBody body = out -> {
+      // Async processing has started by now; only this request gets longer
+      request.getAsyncContext().setTimeout(exportTimeoutMs);
+      purchaseHistoryService.exportPurchaseHistory(
+        start,
+        end,
+        exportFormat,
+        out
+      );
+    };
+    return ResponseEntity.ok()
+      .contentType(
+        csv
+          ? MediaType.parseMediaType("text/csv")
+          : MediaType.APPLICATION_NDJSON
+      )
+      .header(
+        HttpHeaders.CONTENT_DISPOSITION,
+        "attachment; filename=purchase-history." + (csv ? "csv" : "ndjson")
+      )
+      .body(body);
+  }
 }
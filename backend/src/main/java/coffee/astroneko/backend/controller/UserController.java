@@ -1,16 +1,16 @@
 package coffee.astroneko.backend.controller;
 
 import coffee.astroneko.backend.entity.User;
+import coffee.astroneko.backend.security.AuthenticatedUser;
 import coffee.astroneko.backend.service.UserService;
-import coffee.astroneko.backend.util.JwtUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import jakarta.servlet.http.HttpServletRequest;
 import java.util.Optional;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -26,9 +26,6 @@ public class UserController {
   @Autowired
   private UserService userService;
 
-  @Autowired
-  private JwtUtil jwtUtil;
-
   @Operation(
     summary = "Get current user profile",
     description = "Retrieves the profile information of the currently authenticated user"
@@ -47,24 +44,18 @@ public class UserController {
     }
   )
   @GetMapping("/profile")
-  public ResponseEntity<?> getCurrentUserProfile(HttpServletRequest request) {
+  public ResponseEntity<?> getCurrentUserProfile(
+    @AuthenticationPrincipal AuthenticatedUser principal
+  ) {
     try {
-      // Extract JWT token from Authorization header
-      String authHeader = request.getHeader("Authorization");
-      if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+      // The security filter has already verified the bearer token
+      if (principal == null) {
         return ResponseEntity.status(401).body(
           "Missing or invalid Authorization header"
         );
       }
 
-      String token = authHeader.substring(7);
-
-      // Validate and extract email from token
-      if (!jwtUtil.validateJwtToken(token)) {
-        return ResponseEntity.status(401).body("Invalid or expired token");
-      }
-
-      String email = jwtUtil.getEmailFromJwtToken(token);
+      String email = principal.getEmail();
 
       // Find user by email
       Optional<User> userOptional = userService.findByEmail(email);
@@ -0,0 +1,29 @@
+package coffee.astroneko.backend.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import java.util.List;
+
+public class BulkCreateOrderRequest {
+
+  @NotEmpty(message = "At least one order is required")
+  @Size(max = 1000, message = "At most 1000 orders can be imported at once")
+  @Valid
+  private List<ImportOrderRequest> orders;
+
+  // Constructors
+  public BulkCreateOrderRequest() {}
+
+  public BulkCreateOrderRequest(List<ImportOrderRequest> orders) {
+    this.orders = orders;
+  }
+
+  // Getters and Setters
+  public List<ImportOrderRequest> getOrders() {
+    return orders;
+  }
+
+  public void setOrders(List<ImportOrderRequest> orders) {
+    this.orders = orders;
+  }
+}
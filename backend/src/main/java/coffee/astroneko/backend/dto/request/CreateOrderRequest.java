@@ -0,0 +1,100 @@
+package coffee.astroneko.backend.dto.request;
+
+import coffee.astroneko.backend.entity.Order.PaymentMethod;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import java.math.BigDecimal;
+import java.util.List;
+
+public class CreateOrderRequest {
+
+  // Optional; walk-in orders have no customer account
+  private Long customerId;
+
+  @NotBlank(message = "Customer name is required")
+  @Size(max = 100, message = "Customer name must not exceed 100 characters")
+  private String customerName;
+
+  @NotEmpty(message = "Order must contain at least one item")
+  @Valid
+  private List<OrderItemRequest> items;
+
+  private PaymentMethod paymentMethod;
+
+  @Size(
+    max = 500,
+    message = "Special instructions must not exceed 500 characters"
+  )
+  private String specialInstructions;
+
+  @Size(max = 500, message = "Notes must not exceed 500 characters")
+  private String notes;
+
+  @Size(max = 50, message = "Promo code must not exceed 50 characters")
+  private String promoCode;
+
+  // Constructors
+  public CreateOrderRequest() {}
+
+  public CreateOrderRequest(String customerName, List<OrderItemRequest> items) {
+    this.customerName = customerName;
+    this.items = items;
+  }
+
+  // Getters and Setters
+  public Long getCustomerId() {
+    return customerId;
+  }
+
+  public void setCustomerId(Long customerId) {
+    this.customerId = customerId;
+  }
+
+  public String getCustomerName() {
+    return customerName;
+  }
+
+  public void setCustomerName(String customerName) {
+    this.customerName = customerName;
+  }
+
+  public List<OrderItemRequest> getItems() {
+    return items;
+  }
+
+  public void setItems(List<OrderItemRequest> items) {
+    this.items = items;
+  }
+
+  public PaymentMethod getPaymentMethod() {
+    return paymentMethod;
+  }
+
+  public void setPaymentMethod(PaymentMethod paymentMethod) {
+    this.paymentMethod = paymentMethod;
+  }
+
+  public String getSpecialInstructions() {
+    return specialInstructions;
+  }
+
+  public void setSpecialInstructions(String specialInstructions) {
+    this.specialInstructions = specialInstructions;
+  }
+
+  public String getNotes() {
+    return notes;
+  }
+
+  public void setNotes(String notes) {
+    this.notes = notes;
+  }
+
+  public String getPromoCode() {
+    return promoCode;
+  }
+
+  public void setPromoCode(String promoCode) {
+    this.promoCode = promoCode;
+  }
+}
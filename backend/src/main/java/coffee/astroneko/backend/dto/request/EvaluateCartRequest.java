@@ -0,0 +1,40 @@
+package coffee.astroneko.backend.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import java.util.List;
+
+public class EvaluateCartRequest {
+
+  @NotEmpty(message = "Cart must contain at least one item")
+  @Valid
+  private List<OrderItemRequest> items;
+
+  @Size(max = 50, message = "Promo code must not exceed 50 characters")
+  private String promoCode;
+
+  // Constructors
+  public EvaluateCartRequest() {}
+
+  public EvaluateCartRequest(List<OrderItemRequest> items, String promoCode) {
+    this.items = items;
+    this.promoCode = promoCode;
+  }
+
+  // Getters and Setters
+  public List<OrderItemRequest> getItems() {
+    return items;
+  }
+
+  public void setItems(List<OrderItemRequest> items) {
+    this.items = items;
+  }
+
+  public String getPromoCode() {
+    return promoCode;
+  }
+
+  public void setPromoCode(String promoCode) {
+    this.promoCode = promoCode;
+  }
+}
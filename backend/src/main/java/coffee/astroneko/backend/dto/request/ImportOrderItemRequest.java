@@ -0,0 +1,30 @@
+package coffee.astroneko.backend.dto.request;
+
+import jakarta.validation.constraints.*;
+import java.math.BigDecimal;
+
+/**
+ * An order line as the POS sold it, for bulk imports
+ */
+public class ImportOrderItemRequest extends OrderItemRequest {
+
+  // The line discount the POS already gave
+  @DecimalMin(value = "0.00", message = "Discount must not be negative")
+  private BigDecimal discountAmount;
+
+  // Constructors
+  public ImportOrderItemRequest() {}
+
+  public ImportOrderItemRequest(Long menuItemId, Integer quantity) {
+    super(menuItemId, quantity);
+  }
+
+  // Getters and Setters
+  public BigDecimal getDiscountAmount() {
+    return discountAmount;
+  }
+
+  public void setDiscountAmount(BigDecimal discountAmount) {
+    this.discountAmount = discountAmount;
+  }
+}
@@ -0,0 +1,134 @@
+package coffee.astroneko.backend.dto.request;
+
+import coffee.astroneko.backend.entity.Order.OrderStatus;
+import coffee.astroneko.backend.entity.Order.PaymentMethod;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * An order as the POS recorded it, for bulk imports such as an offline
+ * sync. Unlike CreateOrderRequest it carries the discounts, status and
+ * order date the till already settled, and takes no promo code.
+ */
+public class ImportOrderRequest {
+
+  // Optional; walk-in orders have no customer account
+  private Long customerId;
+
+  @NotBlank(message = "Customer name is required")
+  @Size(max = 100, message = "Customer name must not exceed 100 characters")
+  private String customerName;
+
+  @NotEmpty(message = "Order must contain at least one item")
+  @Valid
+  private List<ImportOrderItemRequest> items;
+
+  private PaymentMethod paymentMethod;
+
+  @Size(
+    max = 500,
+    message = "Special instructions must not exceed 500 characters"
+  )
+  private String specialInstructions;
+
+  @Size(max = 500, message = "Notes must not exceed 500 characters")
+  private String notes;
+
+  // The order-level discount the POS already gave
+  @DecimalMin(value = "0.00", message = "Discount must not be negative")
+  private BigDecimal discountAmount;
+
+  // Where the order stood on the POS; defaults to PENDING
+  private OrderStatus status;
+
+  // When the POS took the order; defaults to now
+  @PastOrPresent(message = "Order date must not be in the future")
+  private LocalDateTime orderDate;
+
+  // Constructors
+  public ImportOrderRequest() {}
+
+  public ImportOrderRequest(
+    String customerName,
+    List<ImportOrderItemRequest> items
+  ) {
+    this.customerName = customerName;
+    this.items = items;
+  }
+
+  // Getters and Setters
+  public Long getCustomerId() {
+    return customerId;
+  }
+
+  public void setCustomerId(Long customerId) {
+    this.customerId = customerId;
+  }
+
+  public String getCustomerName() {
+    return customerName;
+  }
+
+  public void setCustomerName(String customerName) {
+    this.customerName = customerName;
+  }
+
+  public List<ImportOrderItemRequest> getItems() {
+    return items;
+  }
+
+  public void setItems(List<ImportOrderItemRequest> items) {
+    this.items = items;
+  }
+
+  public PaymentMethod getPaymentMethod() {
+    return paymentMethod;
+  }
+
+  public void setPaymentMethod(PaymentMethod paymentMethod) {
+    this.paymentMethod = paymentMethod;
+  }
+
+  public String getSpecialInstructions() {
+    return specialInstructions;
+  }
+
+  public void setSpecialInstructions(String specialInstructions) {
+    this.specialInstructions = specialInstructions;
+  }
+
+  public String getNotes() {
+    return notes;
+  }
+
+  public void setNotes(String notes) {
+    this.notes = notes;
+  }
+
+  public BigDecimal getDiscountAmount() {
+    return discountAmount;
+  }
+
+  public void setDiscountAmount(BigDecimal discountAmount) {
+    this.discountAmount = discountAmount;
+  }
+
+  public OrderStatus getStatus() {
+    return status;
+  }
+
+  public void setStatus(OrderStatus status) {
+    this.status = status;
+  }
+
+  public LocalDateTime getOrderDate() {
+    return orderDate;
+  }
+
+  public void setOrderDate(LocalDateTime orderDate) {
+    this.orderDate = orderDate;
+  }
+}
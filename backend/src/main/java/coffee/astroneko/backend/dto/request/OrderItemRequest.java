@@ -0,0 +1,53 @@
+package coffee.astroneko.backend.dto.request;
+
+import jakarta.validation.constraints.*;
+
+public class OrderItemRequest {
+
+  @NotNull(message = "Menu item is required")
+  private Long menuItemId;
+
+  @NotNull(message = "Quantity is required")
+  @Min(value = 1, message = "Quantity must be at least 1")
+  @Max(value = 99, message = "Quantity must not exceed 99")
+  private Integer quantity;
+
+  @Size(
+    max = 500,
+    message = "Special instructions must not exceed 500 characters"
+  )
+  private String specialInstructions;
+
+  // Constructors
+  public OrderItemRequest() {}
+
+  public OrderItemRequest(Long menuItemId, Integer quantity) {
+    this.menuItemId = menuItemId;
+    this.quantity = quantity;
+  }
+
+  // Getters and Setters
+  public Long getMenuItemId() {
+    return menuItemId;
+  }
+
+  public void setMenuItemId(Long menuItemId) {
+    this.menuItemId = menuItemId;
+  }
+
+  public Integer getQuantity() {
+    return quantity;
+  }
+
+  public void setQuantity(Integer quantity) {
+    this.quantity = quantity;
+  }
+
+  public String getSpecialInstructions() {
+    return specialInstructions;
+  }
+
+  public void setSpecialInstructions(String specialInstructions) {
+    this.specialInstructions = specialInstructions;
+  }
+}
@@ -0,0 +1,172 @@
+package coffee.astroneko.backend.dto.request;
+
+import coffee.astroneko.backend.entity.Promo.ApplicableTo;
+import coffee.astroneko.backend.entity.Promo.PromoType;
+import jakarta.validation.constraints.*;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+public class PromoRequest {
+
+  @NotBlank(message = "Name is required")
+  @Size(max = 100, message = "Name must not exceed 100 characters")
+  private String name;
+
+  @NotBlank(message = "Description is required")
+  @Size(max = 500, message = "Description must not exceed 500 characters")
+  private String description;
+
+  @NotNull(message = "Promo type is required")
+  private PromoType promoType;
+
+  @DecimalMin(value = "0.01", message = "Discount percentage must be > 0")
+  @DecimalMax(value = "100", message = "Discount percentage must be <= 100")
+  private BigDecimal discountPercentage;
+
+  @DecimalMin(value = "0.01", message = "Discount amount must be > 0")
+  private BigDecimal discountAmount;
+
+  @NotNull(message = "Start date is required")
+  private LocalDateTime startDate;
+
+  @NotNull(message = "End date is required")
+  private LocalDateTime endDate;
+
+  private Boolean isActive = true;
+
+  @Min(value = 1, message = "Usage limit must be at least 1")
+  private Integer usageLimit;
+
+  @DecimalMin(value = "0", message = "Minimum order amount must be >= 0")
+  private BigDecimal minimumOrderAmount;
+
+  @DecimalMin(value = "0.01", message = "Maximum discount must be > 0")
+  private BigDecimal maximumDiscountAmount;
+
+  @Size(max = 50, message = "Promo code must not exceed 50 characters")
+  private String promoCode;
+
+  @NotNull(message = "Applicable to is required")
+  private ApplicableTo applicableTo;
+
+  // Items for SPECIFIC_ITEMS promos; for CATEGORY_BASED their item types
+  // make up the category
+  private Set<Long> menuItemIds;
+
+  // Constructors
+  public PromoRequest() {}
+
+  // Getters and Setters
+  public String getName() {
+    return name;
+  }
+
+  public void setName(String name) {
+    this.name = name;
+  }
+
+  public String getDescription() {
+    return description;
+  }
+
+  public void setDescription(String description) {
+    this.description = description;
+  }
+
+  public PromoType getPromoType() {
+    return promoType;
+  }
+
+  public void setPromoType(PromoType promoType) {
+    this.promoType = promoType;
+  }
+
+  public BigDecimal getDiscountPercentage() {
+    return discountPercentage;
+  }
+
+  public void setDiscountPercentage(BigDecimal discountPercentage) {
+    this.discountPercentage = discountPercentage;
+  }
+
+  public BigDecimal getDiscountAmount() {
+    return discountAmount;
+  }
+
+  public void setDiscountAmount(BigDecimal discountAmount) {
+    this.discountAmount = discountAmount;
+  }
+
+  public LocalDateTime getStartDate() {
+    return startDate;
+  }
+
+  public void setStartDate(LocalDateTime startDate) {
+    this.startDate = startDate;
+  }
+
+  public LocalDateTime getEndDate() {
+    return endDate;
+  }
+
+  public void setEndDate(LocalDateTime endDate) {
+    this.endDate = endDate;
+  }
+
+  public Boolean getIsActive() {
+    return isActive;
+  }
+
+  public void setIsActive(Boolean isActive) {
+    this.isActive = isActive;
+  }
+
+  public Integer getUsageLimit() {
+    return usageLimit;
+  }
+
+  public void setUsageLimit(Integer usageLimit) {
+    this.usageLimit = usageLimit;
+  }
+
+  public BigDecimal getMinimumOrderAmount() {
+    return minimumOrderAmount;
+  }
+
+  public void setMinimumOrderAmount(BigDecimal minimumOrderAmount) {
+    this.minimumOrderAmount = minimumOrderAmount;
+  }
+
+  public BigDecimal getMaximumDiscountAmount() {
+    return maximumDiscountAmount;
+  }
+
+  public void setMaximumDiscountAmount(BigDecimal maximumDiscountAmount) {
+    this.maximumDiscountAmount = maximumDiscountAmount;
+  }
+
+  public String getPromoCode() {
+    return promoCode;
+  }
+
+  public void setPromoCode(String promoCode) {
+    this.promoCode = promoCode;
+  }
+
+  public ApplicableTo getApplicableTo() {
+    return applicableTo;
+  }
+
+  public void setApplicableTo(ApplicableTo applicableTo) {
+    this.applicableTo = applicableTo;
+  }
+
+  public Set<Long> getMenuItemIds() {
+    return menuItemIds;
+  }
+
+  public void setMenuItemIds(Set<Long> menuItemIds) {
+    this.menuItemIds = menuItemIds;
+  }
+}
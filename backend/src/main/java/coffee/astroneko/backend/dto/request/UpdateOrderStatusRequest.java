@@ -0,0 +1,50 @@
+package coffee.astroneko.backend.dto.request;
+
+import coffee.astroneko.backend.entity.Order.OrderStatus;
+import jakarta.validation.constraints.*;
+
+public class UpdateOrderStatusRequest {
+
+  @NotNull(message = "Status is required")
+  private OrderStatus status;
+
+  // Staff member acting on the order: becomes the assignee when work starts
+  // and is recorded as completer on COMPLETE
+  private Long staffId;
+
+  @Size(max = 500, message = "Notes must not exceed 500 characters")
+  private String notes;
+
+  // Constructors
+  public UpdateOrderStatusRequest() {}
+
+  public UpdateOrderStatusRequest(OrderStatus status, Long staffId) {
+    this.status = status;
+    this.staffId = staffId;
+  }
+
+  // Getters and Setters
+  public OrderStatus getStatus() {
+    return status;
+  }
+
+  public void setStatus(OrderStatus status) {
+    this.status = status;
+  }
+
+  public Long getStaffId() {
+    return staffId;
+  }
+
+  public void setStaffId(Long staffId) {
+    this.staffId = staffId;
+  }
+
+  public String getNotes() {
+    return notes;
+  }
+
+  public void setNotes(String notes) {
+    this.notes = notes;
+  }
+}
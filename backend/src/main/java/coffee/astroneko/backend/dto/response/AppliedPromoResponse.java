@@ -0,0 +1,83 @@
+package coffee.astroneko.backend.dto.response;
+
+import coffee.astroneko.backend.entity.Promo.ApplicableTo;
+import coffee.astroneko.backend.entity.Promo.PromoType;
+import java.math.BigDecimal;
+
+public class AppliedPromoResponse {
+
+  private Long promoId;
+  private String name;
+  private PromoType promoType;
+  private ApplicableTo applicableTo;
+  private String promoCode;
+  private BigDecimal discountAmount;
+
+  // Constructors
+  public AppliedPromoResponse() {}
+
+  public AppliedPromoResponse(
+    Long promoId,
+    String name,
+    PromoType promoType,
+    ApplicableTo applicableTo,
+    String promoCode,
+    BigDecimal discountAmount
+  ) {
+    this.promoId = promoId;
+    this.name = name;
+    this.promoType = promoType;
+    this.applicableTo = applicableTo;
+    this.promoCode = promoCode;
+    this.discountAmount = discountAmount;
+  }
+
+  // Getters and Setters
+  public Long getPromoId() {
+    return promoId;
+  }
+
+  public void setPromoId(Long promoId) {
+    this.promoId = promoId;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public void setName(String name) {
+    this.name = name;
+  }
+
+  public PromoType getPromoType() {
+    return promoType;
+  }
+
+  public void setPromoType(PromoType promoType) {
+    this.promoType = promoType;
+  }
+
+  public ApplicableTo getApplicableTo() {
+    return applicableTo;
+  }
+
+  public void setApplicableTo(ApplicableTo applicableTo) {
+    this.applicableTo = applicableTo;
+  }
+
+  public String getPromoCode() {
+    return promoCode;
+  }
+
+  public void setPromoCode(String promoCode) {
+    this.promoCode = promoCode;
+  }
+
+  public BigDecimal getDiscountAmount() {
+    return discountAmount;
+  }
+
+  public void setDiscountAmount(BigDecimal discountAmount) {
+    this.discountAmount = discountAmount;
+  }
+}
@@ -0,0 +1,45 @@
+package coffee.astroneko.backend.dto.response;
+
+import java.util.List;
+
+public class BulkOrderResponse {
+
+  private int created;
+  // In the same order as the submitted orders
+  private List<Long> orderIds;
+  private List<String> orderNumbers;
+
+  // Constructors
+  public BulkOrderResponse() {}
+
+  public BulkOrderResponse(List<Long> orderIds, List<String> orderNumbers) {
+    this.created = orderIds.size();
+    this.orderIds = orderIds;
+    this.orderNumbers = orderNumbers;
+  }
+
+  // Getters and Setters
+  public int getCreated() {
+    return created;
+  }
+
+  public void setCreated(int created) {
+    this.created = created;
+  }
+
+  public List<Long> getOrderIds() {
+    return orderIds;
+  }
+
+  public void setOrderIds(List<Long> orderIds) {
+    this.orderIds = orderIds;
+  }
+
+  public List<String> getOrderNumbers() {
+    return orderNumbers;
+  }
+
+  public void setOrderNumbers(List<String> orderNumbers) {
+    this.orderNumbers = orderNumbers;
+  }
+}
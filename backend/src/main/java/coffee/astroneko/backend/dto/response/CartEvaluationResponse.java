@@ -0,0 +1,95 @@
+package coffee.astroneko.backend.dto.response;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public class CartEvaluationResponse {
+
+  private BigDecimal subtotal;
+  private BigDecimal itemDiscount;
+  private BigDecimal orderDiscount;
+  private BigDecimal discountTotal;
+  private BigDecimal total;
+  // In the same order as the submitted items
+  private List<CartLineResponse> lines;
+  private List<AppliedPromoResponse> appliedPromos;
+  private String promoCode;
+  // False when a code was given but no running promo has it
+  private boolean promoCodeValid;
+
+  // Constructors
+  public CartEvaluationResponse() {}
+
+  // Getters and Setters
+  public BigDecimal getSubtotal() {
+    return subtotal;
+  }
+
+  public void setSubtotal(BigDecimal subtotal) {
+    this.subtotal = subtotal;
+  }
+
+  public BigDecimal getItemDiscount() {
+    return itemDiscount;
+  }
+
+  public void setItemDiscount(BigDecimal itemDiscount) {
+    this.itemDiscount = itemDiscount;
+  }
+
+  public BigDecimal getOrderDiscount() {
+    return orderDiscount;
+  }
+
+  public void setOrderDiscount(BigDecimal orderDiscount) {
+    this.orderDiscount = orderDiscount;
+  }
+
+  public BigDecimal getDiscountTotal() {
+    return discountTotal;
+  }
+
+  public void setDiscountTotal(BigDecimal discountTotal) {
+    this.discountTotal = discountTotal;
+  }
+
+  public BigDecimal getTotal() {
+    return total;
+  }
+
+  public void setTotal(BigDecimal total) {
+    this.total = total;
+  }
+
+  public List<CartLineResponse> getLines() {
+    return lines;
+  }
+
+  public void setLines(List<CartLineResponse> lines) {
+    this.lines = lines;
+  }
+
+  public List<AppliedPromoResponse> getAppliedPromos() {
+    return appliedPromos;
+  }
+
+  public void setAppliedPromos(List<AppliedPromoResponse> appliedPromos) {
+    this.appliedPromos = appliedPromos;
+  }
+
+  public String getPromoCode() {
+    return promoCode;
+  }
+
+  public void setPromoCode(String promoCode) {
+    this.promoCode = promoCode;
+  }
+
+  public boolean isPromoCodeValid() {
+    return promoCodeValid;
+  }
+
+  public void setPromoCodeValid(boolean promoCodeValid) {
+    this.promoCodeValid = promoCodeValid;
+  }
+}
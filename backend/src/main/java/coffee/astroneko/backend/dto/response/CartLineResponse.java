@@ -0,0 +1,82 @@
+package coffee.astroneko.backend.dto.response;
+
+import java.math.BigDecimal;
+
+public class CartLineResponse {
+
+  private Long menuItemId;
+  private Integer quantity;
+  private BigDecimal unitPrice;
+  private BigDecimal amount;
+  private BigDecimal discountAmount;
+  // Item-level promo that priced this line, if any
+  private Long promoId;
+
+  // Constructors
+  public CartLineResponse() {}
+
+  public CartLineResponse(
+    Long menuItemId,
+    Integer quantity,
+    BigDecimal unitPrice,
+    BigDecimal amount,
+    BigDecimal discountAmount,
+    Long promoId
+  ) {
+    this.menuItemId = menuItemId;
+    this.quantity = quantity;
+    this.unitPrice = unitPrice;
+    this.amount = amount;
+    this.discountAmount = discountAmount;
+    this.promoId = promoId;
+  }
+
+  // Getters and Setters
+  public Long getMenuItemId() {
+    return menuItemId;
+  }
+
+  public void setMenuItemId(Long menuItemId) {
+    this.menuItemId = menuItemId;
+  }
+
+  public Integer getQuantity() {
+    return quantity;
+  }
+
+  public void setQuantity(Integer quantity) {
+    this.quantity = quantity;
+  }
+
+  public BigDecimal getUnitPrice() {
+    return unitPrice;
+  }
+
+  public void setUnitPrice(BigDecimal unitPrice) {
+    this.unitPrice = unitPrice;
+  }
+
+  public BigDecimal getAmount() {
+    return amount;
+  }
+
+  public void setAmount(BigDecimal amount) {
+    this.amount = amount;
+  }
+
+  public BigDecimal getDiscountAmount() {
+    return discountAmount;
+  }
+
+  public void setDiscountAmount(BigDecimal discountAmount) {
+    this.discountAmount = discountAmount;
+  }
+
+  public Long getPromoId() {
+    return promoId;
+  }
+
+  public void setPromoId(Long promoId) {
+    this.promoId = promoId;
+  }
+}
@@ -0,0 +1,96 @@
+package coffee.astroneko.backend.dto.response;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+public class DashboardStatsResponse {
+
+  private LocalDate businessDate;
+  private Long todayOrders;
+  private BigDecimal todayRevenue;
+  // Over all completed orders
+  private BigDecimal averageOrderValue;
+  // Window the breakdowns below cover, inclusive
+  private LocalDate from;
+  private LocalDate to;
+  private List<SalesSummaryResponse> daily;
+  private List<SalesSummaryResponse> topItems;
+  private List<SalesSummaryResponse> paymentMethods;
+
+  // Constructors
+  public DashboardStatsResponse() {}
+
+  // Getters and Setters
+  public LocalDate getBusinessDate() {
+    return businessDate;
+  }
+
+  public void setBusinessDate(LocalDate businessDate) {
+    this.businessDate = businessDate;
+  }
+
+  public Long getTodayOrders() {
+    return todayOrders;
+  }
+
+  public void setTodayOrders(Long todayOrders) {
+    this.todayOrders = todayOrders;
+  }
+
+  public BigDecimal getTodayRevenue() {
+    return todayRevenue;
+  }
+
+  public void setTodayRevenue(BigDecimal todayRevenue) {
+    this.todayRevenue = todayRevenue;
+  }
+
+  public BigDecimal getAverageOrderValue() {
+    return averageOrderValue;
+  }
+
+  public void setAverageOrderValue(BigDecimal averageOrderValue) {
+    this.averageOrderValue = averageOrderValue;
+  }
+
+  public LocalDate getFrom() {
+    return from;
+  }
+
+  public void setFrom(LocalDate from) {
+    this.from = from;
+  }
+
+  public LocalDate getTo() {
+    return to;
+  }
+
+  public void setTo(LocalDate to) {
+    this.to = to;
+  }
+
+  public List<SalesSummaryResponse> getDaily() {
+    return daily;
+  }
+
+  public void setDaily(List<SalesSummaryResponse> daily) {
+    this.daily = daily;
+  }
+
+  public List<SalesSummaryResponse> getTopItems() {
+    return topItems;
+  }
+
+  public void setTopItems(List<SalesSummaryResponse> topItems) {
+    this.topItems = topItems;
+  }
+
+  public List<SalesSummaryResponse> getPaymentMethods() {
+    return paymentMethods;
+  }
+
+  public void setPaymentMethods(List<SalesSummaryResponse> paymentMethods) {
+    this.paymentMethods = paymentMethods;
+  }
+}
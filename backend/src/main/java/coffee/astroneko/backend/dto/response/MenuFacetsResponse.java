@@ -0,0 +1,87 @@
+package coffee.astroneko.backend.dto.response;
+
+import coffee.astroneko.backend.entity.MenuItem.ItemType;
+import java.util.Map;
+
+/**
+ * Filter chip counts for the menu. Each facet counts the items that match
+ * every other selected filter, so a count says how many items selecting
+ * that value would show; total counts the items matching all of them.
+ */
+public class MenuFacetsResponse {
+
+  private long version;
+  private long total;
+  private Map<ItemType, Long> types;
+  private Map<Boolean, Long> inStock;
+  private Map<Boolean, Long> onSale;
+  private Map<Boolean, Long> combo;
+
+  // Constructors
+  public MenuFacetsResponse() {}
+
+  public MenuFacetsResponse(
+    long version,
+    long total,
+    Map<ItemType, Long> types,
+    Map<Boolean, Long> inStock,
+    Map<Boolean, Long> onSale,
+    Map<Boolean, Long> combo
+  ) {
+    this.version = version;
+    this.total = total;
+    this.types = types;
+    this.inStock = inStock;
+    this.onSale = onSale;
+    this.combo = combo;
+  }
+
+  // Getters and Setters
+  public long getVersion() {
+    return version;
+  }
+
+  public void setVersion(long version) {
+    this.version = version;
+  }
+
+  public long getTotal() {
+    return total;
+  }
+
+  public void setTotal(long total) {
+    this.total = total;
+  }
+
+  public Map<ItemType, Long> getTypes() {
+    return types;
+  }
+
+  public void setTypes(Map<ItemType, Long> types) {
+    this.types = types;
+  }
+
+  public Map<Boolean, Long> getInStock() {
+    return inStock;
+  }
+
+  public void setInStock(Map<Boolean, Long> inStock) {
+    this.inStock = inStock;
+  }
+
+  public Map<Boolean, Long> getOnSale() {
+    return onSale;
+  }
+
+  public void setOnSale(Map<Boolean, Long> onSale) {
+    this.onSale = onSale;
+  }
+
+  public Map<Boolean, Long> getCombo() {
+    return combo;
+  }
+
+  public void setCombo(Map<Boolean, Long> combo) {
+    this.combo = combo;
+  }
+}
@@ -84,6 +84,30 @@ public class MenuItemResponse {
     this.updatedAt = menuItem.getUpdatedAt();
   }
 
+  public MenuItemResponse(MenuItemResponse other) {
+    this.id = other.id;
+    this.name = other.name;
+    this.description = other.description;
+    this.price = other.price;
+    this.originalPrice = other.originalPrice;
+    this.type = other.type;
+    this.image = other.image;
+    this.rating = other.rating;
+    this.reviewsCount = other.reviewsCount;
+    this.weeklyReviews = other.weeklyReviews;
+    this.monthlyReviews = other.monthlyReviews;
+    this.weeklyBuys = other.weeklyBuys;
+    this.monthlyBuys = other.monthlyBuys;
+    this.positiveReviewsWeekly = other.positiveReviewsWeekly;
+    this.positiveReviewsMonthly = other.positiveReviewsMonthly;
+    this.tags = other.tags;
+    this.inStock = other.inStock;
+    this.isOnSale = other.isOnSale;
+    this.isCombo = other.isCombo;
+    this.createdAt = other.createdAt;
+    this.updatedAt = other.updatedAt;
+  }
+
   // Static factory method
   public static MenuItemResponse from(MenuItem menuItem) {
     return new MenuItemResponse(menuItem);
@@ -0,0 +1,100 @@
+package coffee.astroneko.backend.dto.response;
+
+import coffee.astroneko.backend.entity.OrderItem;
+import java.math.BigDecimal;
+
+public class OrderItemResponse {
+
+  private Long id;
+  private Long menuItemId;
+  private String menuItemName;
+  private Integer quantity;
+  private BigDecimal unitPrice;
+  private BigDecimal subtotal;
+  private BigDecimal discountAmount;
+  private String specialInstructions;
+
+  // Constructors
+  public OrderItemResponse() {}
+
+  public OrderItemResponse(OrderItem orderItem) {
+    this.id = orderItem.getId();
+    this.menuItemId = orderItem.getMenuItem().getId();
+    this.menuItemName = orderItem.getMenuItem().getName();
+    this.quantity = orderItem.getQuantity();
+    this.unitPrice = orderItem.getUnitPrice();
+    this.subtotal = orderItem.getSubtotal();
+    this.discountAmount = orderItem.getDiscountAmount();
+    this.specialInstructions = orderItem.getSpecialInstructions();
+  }
+
+  // Static factory method
+  public static OrderItemResponse from(OrderItem orderItem) {
+    return new OrderItemResponse(orderItem);
+  }
+
+  // Getters and Setters
+  public Long getId() {
+    return id;
+  }
+
+  public void setId(Long id) {
+    this.id = id;
+  }
+
+  public Long getMenuItemId() {
+    return menuItemId;
+  }
+
+  public void setMenuItemId(Long menuItemId) {
+    this.menuItemId = menuItemId;
+  }
+
+  public String getMenuItemName() {
+    return menuItemName;
+  }
+
+  public void setMenuItemName(String menuItemName) {
+    this.menuItemName = menuItemName;
+  }
+
+  public Integer getQuantity() {
+    return quantity;
+  }
+
+  public void setQuantity(Integer quantity) {
+    this.quantity = quantity;
+  }
+
+  public BigDecimal getUnitPrice() {
+    return unitPrice;
+  }
+
+  public void setUnitPrice(BigDecimal unitPrice) {
+    this.unitPrice = unitPrice;
+  }
+
+  public BigDecimal getSubtotal() {
+    return subtotal;
+  }
+
+  public void setSubtotal(BigDecimal subtotal) {
+    this.subtotal = subtotal;
+  }
+
+  public BigDecimal getDiscountAmount() {
+    return discountAmount;
+  }
+
+  public void setDiscountAmount(BigDecimal discountAmount) {
+    this.discountAmount = discountAmount;
+  }
+
+  public String getSpecialInstructions() {
+    return specialInstructions;
+  }
+
+  public void setSpecialInstructions(String specialInstructions) {
+    this.specialInstructions = specialInstructions;
+  }
+}
@@ -0,0 +1,297 @@
+package coffee.astroneko.backend.dto.response;
+
+import coffee.astroneko.backend.entity.Order;
+import coffee.astroneko.backend.entity.Order.OrderStatus;
+import coffee.astroneko.backend.entity.Order.PaymentMethod;
+import coffee.astroneko.backend.entity.User;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class OrderResponse {
+
+  private Long id;
+  private String orderNumber;
+  private Integer queueNumber;
+  private Long customerId;
+  private String customerName;
+  private List<OrderItemResponse> items;
+  private Integer itemsCount;
+  private BigDecimal subtotal;
+  private BigDecimal discountAmount;
+  private BigDecimal taxAmount;
+  private BigDecimal totalAmount;
+  private OrderStatus status;
+  private PaymentMethod paymentMethod;
+  private Integer pointsEarned;
+  private Integer pointsUsed;
+  private Long assignedToId;
+  private String assignedToName;
+  private Long completedById;
+  private String specialInstructions;
+  private String notes;
+  private LocalDateTime orderDate;
+  private LocalDateTime estimatedReadyTime;
+  private LocalDateTime readyTime;
+  private LocalDateTime completedTime;
+  private LocalDateTime createdAt;
+  private LocalDateTime updatedAt;
+
+  // Constructors
+  public OrderResponse() {}
+
+  public OrderResponse(Order order) {
+    this.id = order.getId();
+    this.orderNumber = order.getOrderNumber();
+    this.queueNumber = order.getQueueNumber();
+    this.customerId = order.getCustomer() != null
+      ? order.getCustomer().getId()
+      : null;
+    this.customerName = order.getCustomerName();
+    this.items = order
+      .getOrderItems()
+      .stream()
+      .map(OrderItemResponse::from)
+      .collect(Collectors.toList());
+    this.itemsCount = order.getTotalItemsCount();
+    this.subtotal = order.getSubtotal();
+    this.discountAmount = order.getDiscountAmount();
+    this.taxAmount = order.getTaxAmount();
+    this.totalAmount = order.getTotalAmount();
+    this.status = order.getStatus();
+    this.paymentMethod = order.getPaymentMethod();
+    this.pointsEarned = order.getPointsEarned();
+    this.pointsUsed = order.getPointsUsed();
+    User assignedTo = order.getAssignedTo();
+    this.assignedToId = assignedTo != null ? assignedTo.getId() : null;
+    this.assignedToName = assignedTo != null
+      ? assignedTo.getFirstName() + " " + assignedTo.getLastName()
+      : null;
+    this.completedById = order.getCompletedBy() != null
+      ? order.getCompletedBy().getId()
+      : null;
+    this.specialInstructions = order.getSpecialInstructions();
+    this.notes = order.getNotes();
+    this.orderDate = order.getOrderDate();
+    this.estimatedReadyTime = order.getEstimatedReadyTime();
+    this.readyTime = order.getReadyTime();
+    this.completedTime = order.getCompletedTime();
+    this.createdAt = order.getCreatedAt();
+    this.updatedAt = order.getUpdatedAt();
+  }
+
+  // Static factory method
+  public static OrderResponse from(Order order) {
+    return new OrderResponse(order);
+  }
+
+  // Getters and Setters
+  public Long getId() {
+    return id;
+  }
+
+  public void setId(Long id) {
+    this.id = id;
+  }
+
+  public String getOrderNumber() {
+    return orderNumber;
+  }
+
+  public void setOrderNumber(String orderNumber) {
+    this.orderNumber = orderNumber;
+  }
+
+  public Integer getQueueNumber() {
+    return queueNumber;
+  }
+
+  public void setQueueNumber(Integer queueNumber) {
+    this.queueNumber = queueNumber;
+  }
+
+  public Long getCustomerId() {
+    return customerId;
+  }
+
+  public void setCustomerId(Long customerId) {
+    this.customerId = customerId;
+  }
+
+  public String getCustomerName() {
+    return customerName;
+  }
+
+  public void setCustomerName(String customerName) {
+    this.customerName = customerName;
+  }
+
+  public List<OrderItemResponse> getItems() {
+    return items;
+  }
+
+  public void setItems(List<OrderItemResponse> items) {
+    this.items = items;
+  }
+
+  public Integer getItemsCount() {
+    return itemsCount;
+  }
+
+  public void setItemsCount(Integer itemsCount) {
+    this.itemsCount = itemsCount;
+  }
+
+  public BigDecimal getSubtotal() {
+    return subtotal;
+  }
+
+  public void setSubtotal(BigDecimal subtotal) {
+    this.subtotal = subtotal;
+  }
+
+  public BigDecimal getDiscountAmount() {
+    return discountAmount;
+  }
+
+  public void setDiscountAmount(BigDecimal discountAmount) {
+    this.discountAmount = discountAmount;
+  }
+
+  public BigDecimal getTaxAmount() {
+    return taxAmount;
+  }
+
+  public void setTaxAmount(BigDecimal taxAmount) {
+    this.taxAmount = taxAmount;
+  }
+
+  public BigDecimal getTotalAmount() {
+    return totalAmount;
+  }
+
+  public void setTotalAmount(BigDecimal totalAmount) {
+    this.totalAmount = totalAmount;
+  }
+
+  public OrderStatus getStatus() {
+    return status;
+  }
+
+  public void setStatus(OrderStatus status) {
+    this.status = status;
+  }
+
+  public PaymentMethod getPaymentMethod() {
+    return paymentMethod;
+  }
+
+  public void setPaymentMethod(PaymentMethod paymentMethod) {
+    this.paymentMethod = paymentMethod;
+  }
+
+  public Integer getPointsEarned() {
+    return pointsEarned;
+  }
+
+  public void setPointsEarned(Integer pointsEarned) {
+    this.pointsEarned = pointsEarned;
+  }
+
+  public Integer getPointsUsed() {
+    return pointsUsed;
+  }
+
+  public void setPointsUsed(Integer pointsUsed) {
+    this.pointsUsed = pointsUsed;
+  }
+
+  public Long getAssignedToId() {
+    return assignedToId;
+  }
+
+  public void setAssignedToId(Long assignedToId) {
+    this.assignedToId = assignedToId;
+  }
+
+  public String getAssignedToName() {
+    return assignedToName;
+  }
+
+  public void setAssignedToName(String assignedToName) {
+    this.assignedToName = assignedToName;
+  }
+
+  public Long getCompletedById() {
+    return completedById;
+  }
+
+  public void setCompletedById(Long completedById) {
+    this.completedById = completedById;
+  }
+
+  public String getSpecialInstructions() {
+    return specialInstructions;
+  }
+
+  public void setSpecialInstructions(String specialInstructions) {
+    this.specialInstructions = specialInstructions;
+  }
+
+  public String getNotes() {
+    return notes;
+  }
+
+  public void setNotes(String notes) {
+    this.notes = notes;
+  }
+
+  public LocalDateTime getOrderDate() {
+    return orderDate;
+  }
+
+  public void setOrderDate(LocalDateTime orderDate) {
+    this.orderDate = orderDate;
+  }
+
+  public LocalDateTime getEstimatedReadyTime() {
+    return estimatedReadyTime;
+  }
+
+  public void setEstimatedReadyTime(LocalDateTime estimatedReadyTime) {
+    this.estimatedReadyTime = estimatedReadyTime;
+  }
+
+  public LocalDateTime getReadyTime() {
+    return readyTime;
+  }
+
+  public void setReadyTime(LocalDateTime readyTime) {
+    this.readyTime = readyTime;
+  }
+
+  public LocalDateTime getCompletedTime() {
+    return completedTime;
+  }
+
+  public void setCompletedTime(LocalDateTime completedTime) {
+    this.completedTime = completedTime;
+  }
+
+  public LocalDateTime getCreatedAt() {
+    return createdAt;
+  }
+
+  public void setCreatedAt(LocalDateTime createdAt) {
+    this.createdAt = createdAt;
+  }
+
+  public LocalDateTime getUpdatedAt() {
+    return updatedAt;
+  }
+
+  public void setUpdatedAt(LocalDateTime updatedAt) {
+    this.updatedAt = updatedAt;
+  }
+}
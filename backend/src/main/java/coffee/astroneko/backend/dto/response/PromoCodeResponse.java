@@ -0,0 +1,143 @@
+package coffee.astroneko.backend.dto.response;
+
+import coffee.astroneko.backend.entity.Promo.PromoType;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public class PromoCodeResponse {
+
+  private String promoCode;
+  private boolean valid;
+  // Why the code cannot be used right now; null when valid
+  private String message;
+  private Long promoId;
+  private String name;
+  private String description;
+  private PromoType promoType;
+  private BigDecimal discountPercentage;
+  private BigDecimal discountAmount;
+  private BigDecimal minimumOrderAmount;
+  private BigDecimal maximumDiscountAmount;
+  private LocalDateTime endDate;
+
+  // Constructors
+  public PromoCodeResponse() {}
+
+  public PromoCodeResponse(String promoCode, String message) {
+    this.promoCode = promoCode;
+    this.valid = false;
+    this.message = message;
+  }
+
+  public PromoCodeResponse(PromoResponse promo, String message) {
+    this.promoCode = promo.getPromoCode();
+    this.valid = message == null;
+    this.message = message;
+    this.promoId = promo.getId();
+    this.name = promo.getName();
+    this.description = promo.getDescription();
+    this.promoType = promo.getPromoType();
+    this.discountPercentage = promo.getDiscountPercentage();
+    this.discountAmount = promo.getDiscountAmount();
+    this.minimumOrderAmount = promo.getMinimumOrderAmount();
+    this.maximumDiscountAmount = promo.getMaximumDiscountAmount();
+    this.endDate = promo.getEndDate();
+  }
+
+  // Getters and Setters
+  public String getPromoCode() {
+    return promoCode;
+  }
+
+  public void setPromoCode(String promoCode) {
+    this.promoCode = promoCode;
+  }
+
+  public boolean isValid() {
+    return valid;
+  }
+
+  public void setValid(boolean valid) {
+    this.valid = valid;
+  }
+
+  public String getMessage() {
+    return message;
+  }
+
+  public void setMessage(String message) {
+    this.message = message;
+  }
+
+  public Long getPromoId() {
+    return promoId;
+  }
+
+  public void setPromoId(Long promoId) {
+    this.promoId = promoId;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public void setName(String name) {
+    this.name = name;
+  }
+
+  public String getDescription() {
+    return description;
+  }
+
+  public void setDescription(String description) {
+    this.description = description;
+  }
+
+  public PromoType getPromoType() {
+    return promoType;
+  }
+
+  public void setPromoType(PromoType promoType) {
+    this.promoType = promoType;
+  }
+
+  public BigDecimal getDiscountPercentage() {
+    return discountPercentage;
+  }
+
+  public void setDiscountPercentage(BigDecimal discountPercentage) {
+    this.discountPercentage = discountPercentage;
+  }
+
+  public BigDecimal getDiscountAmount() {
+    return discountAmount;
+  }
+
+  public void setDiscountAmount(BigDecimal discountAmount) {
+    this.discountAmount = discountAmount;
+  }
+
+  public BigDecimal getMinimumOrderAmount() {
+    return minimumOrderAmount;
+  }
+
+  public void setMinimumOrderAmount(BigDecimal minimumOrderAmount) {
+    this.minimumOrderAmount = minimumOrderAmount;
+  }
+
+  public BigDecimal getMaximumDiscountAmount() {
+    return maximumDiscountAmount;
+  }
+
+  public void setMaximumDiscountAmount(BigDecimal maximumDiscountAmount) {
+    this.maximumDiscountAmount = maximumDiscountAmount;
+  }
+
+  public LocalDateTime getEndDate() {
+    return endDate;
+  }
+
+  public void setEndDate(LocalDateTime endDate) {
+    this.endDate = endDate;
+  }
+}
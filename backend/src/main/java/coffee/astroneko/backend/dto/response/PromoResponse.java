@@ -0,0 +1,212 @@
+package coffee.astroneko.backend.dto.response;
+
+import coffee.astroneko.backend.entity.MenuItem;
+import coffee.astroneko.backend.entity.Promo;
+import coffee.astroneko.backend.entity.Promo.ApplicableTo;
+import coffee.astroneko.backend.entity.Promo.PromoType;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class PromoResponse {
+
+  private Long id;
+  private String name;
+  private String description;
+  private PromoType promoType;
+  private BigDecimal discountPercentage;
+  private BigDecimal discountAmount;
+  private LocalDateTime startDate;
+  private LocalDateTime endDate;
+  private Boolean isActive;
+  private Integer usageLimit;
+  private Integer currentUsage;
+  private BigDecimal minimumOrderAmount;
+  private BigDecimal maximumDiscountAmount;
+  private String promoCode;
+  private ApplicableTo applicableTo;
+  private List<Long> menuItemIds;
+  private LocalDateTime createdAt;
+  private LocalDateTime updatedAt;
+
+  // Constructors
+  public PromoResponse() {}
+
+  public PromoResponse(Promo promo) {
+    this.id = promo.getId();
+    this.name = promo.getName();
+    this.description = promo.getDescription();
+    this.promoType = promo.getPromoType();
+    this.discountPercentage = promo.getDiscountPercentage();
+    this.discountAmount = promo.getDiscountAmount();
+    this.startDate = promo.getStartDate();
+    this.endDate = promo.getEndDate();
+    this.isActive = promo.getIsActive();
+    this.usageLimit = promo.getUsageLimit();
+    this.currentUsage = promo.getCurrentUsage();
+    this.minimumOrderAmount = promo.getMinimumOrderAmount();
+    this.maximumDiscountAmount = promo.getMaximumDiscountAmount();
+    this.promoCode = promo.getPromoCode();
+    this.applicableTo = promo.getApplicableTo();
+    this.menuItemIds = promo.getMenuItems() != null
+      ? promo
+        .getMenuItems()
+        .stream()
+        .map(MenuItem::getId)
+        .sorted()
+        .collect(Collectors.toList())
+      : List.of();
+    this.createdAt = promo.getCreatedAt();
+    this.updatedAt = promo.getUpdatedAt();
+  }
+
+  public static PromoResponse from(Promo promo) {
+    return new PromoResponse(promo);
+  }
+
+  // Getters and Setters
+  public Long getId() {
+    return id;
+  }
+
+  public void setId(Long id) {
+    this.id = id;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public void setName(String name) {
+    this.name = name;
+  }
+
+  public String getDescription() {
+    return description;
+  }
+
+  public void setDescription(String description) {
+    this.description = description;
+  }
+
+  public PromoType getPromoType() {
+    return promoType;
+  }
+
+  public void setPromoType(PromoType promoType) {
+    this.promoType = promoType;
+  }
+
+  public BigDecimal getDiscountPercentage() {
+    return discountPercentage;
+  }
+
+  public void setDiscountPercentage(BigDecimal discountPercentage) {
+    this.discountPercentage = discountPercentage;
+  }
+
+  public BigDecimal getDiscountAmount() {
+    return discountAmount;
+  }
+
+  public void setDiscountAmount(BigDecimal discountAmount) {
+    this.discountAmount = discountAmount;
+  }
+
+  public LocalDateTime getStartDate() {
+    return startDate;
+  }
+
+  public void setStartDate(LocalDateTime startDate) {
+    this.startDate = startDate;
+  }
+
+  public LocalDateTime getEndDate() {
+    return endDate;
+  }
+
+  public void setEndDate(LocalDateTime endDate) {
+    this.endDate = endDate;
+  }
+
+  public Boolean getIsActive() {
+    return isActive;
+  }
+
+  public void setIsActive(Boolean isActive) {
+    this.isActive = isActive;
+  }
+
+  public Integer getUsageLimit() {
+    return usageLimit;
+  }
+
+  public void setUsageLimit(Integer usageLimit) {
+    this.usageLimit = usageLimit;
+  }
+
+  public Integer getCurrentUsage() {
+    return currentUsage;
+  }
+
+  public void setCurrentUsage(Integer currentUsage) {
+    this.currentUsage = currentUsage;
+  }
+
+  public BigDecimal getMinimumOrderAmount() {
+    return minimumOrderAmount;
+  }
+
+  public void setMinimumOrderAmount(BigDecimal minimumOrderAmount) {
+    this.minimumOrderAmount = minimumOrderAmount;
+  }
+
+  public BigDecimal getMaximumDiscountAmount() {
+    return maximumDiscountAmount;
+  }
+
+  public void setMaximumDiscountAmount(BigDecimal maximumDiscountAmount) {
+    this.maximumDiscountAmount = maximumDiscountAmount;
+  }
+
+  public String getPromoCode() {
+    return promoCode;
+  }
+
+  public void setPromoCode(String promoCode) {
+    this.promoCode = promoCode;
+  }
+
+  public ApplicableTo getApplicableTo() {
+    return applicableTo;
+  }
+
+  public void setApplicableTo(ApplicableTo applicableTo) {
+    this.applicableTo = applicableTo;
+  }
+
+  public List<Long> getMenuItemIds() {
+    return menuItemIds;
+  }
+
+  public void setMenuItemIds(List<Long> menuItemIds) {
+    this.menuItemIds = menuItemIds;
+  }
+
+  public LocalDateTime getCreatedAt() {
+    return createdAt;
+  }
+
+  public void setCreatedAt(LocalDateTime createdAt) {
+    this.createdAt = createdAt;
+  }
+
+  public LocalDateTime getUpdatedAt() {
+    return updatedAt;
+  }
+
+  public void setUpdatedAt(LocalDateTime updatedAt) {
+    this.updatedAt = updatedAt;
+  }
+}
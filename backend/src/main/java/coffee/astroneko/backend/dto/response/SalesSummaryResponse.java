@@ -0,0 +1,72 @@
+package coffee.astroneko.backend.dto.response;
+
+import java.math.BigDecimal;
+
+public class SalesSummaryResponse {
+
+  // Business date, menu item id or payment method depending on the list
+  private String key;
+  // Menu item name for item breakdowns, otherwise null
+  private String name;
+  private Long orderCount;
+  private Long itemQuantity;
+  private BigDecimal revenue;
+
+  // Constructors
+  public SalesSummaryResponse() {}
+
+  public SalesSummaryResponse(
+    String key,
+    String name,
+    Long orderCount,
+    Long itemQuantity,
+    BigDecimal revenue
+  ) {
+    this.key = key;
+    this.name = name;
+    this.orderCount = orderCount;
+    this.itemQuantity = itemQuantity;
+    this.revenue = revenue;
+  }
+
+  // Getters and Setters
+  public String getKey() {
+    return key;
+  }
+
+  public void setKey(String key) {
+    this.key = key;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public void setName(String name) {
+    this.name = name;
+  }
+
+  public Long getOrderCount() {
+    return orderCount;
+  }
+
+  public void setOrderCount(Long orderCount) {
+    this.orderCount = orderCount;
+  }
+
+  public Long getItemQuantity() {
+    return itemQuantity;
+  }
+
+  public void setItemQuantity(Long itemQuantity) {
+    this.itemQuantity = itemQuantity;
+  }
+
+  public BigDecimal getRevenue() {
+    return revenue;
+  }
+
+  public void setRevenue(BigDecimal revenue) {
+    this.revenue = revenue;
+  }
+}
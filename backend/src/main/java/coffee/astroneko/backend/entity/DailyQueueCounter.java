@@ -0,0 +1,60 @@
+package coffee.astroneko.backend.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Highest queue number reserved for a business day. Rows are only written
+ * through {@code QueueNumberAllocator}, which reserves numbers in blocks.
+ */
+@Entity
+@Table(name = "daily_queue_counters")
+public class DailyQueueCounter {
+
+  @Id
+  @Column(name = "business_date", nullable = false)
+  private LocalDate businessDate;
+
+  @Column(name = "last_reserved", nullable = false)
+  private Integer lastReserved = 0;
+
+  @Column(name = "updated_at", nullable = false)
+  private LocalDateTime updatedAt;
+
+  // Constructors
+  public DailyQueueCounter() {
+    this.updatedAt = LocalDateTime.now();
+  }
+
+  public DailyQueueCounter(LocalDate businessDate, Integer lastReserved) {
+    this();
+    this.businessDate = businessDate;
+    this.lastReserved = lastReserved;
+  }
+
+  // Getters and Setters
+  public LocalDate getBusinessDate() {
+    return businessDate;
+  }
+
+  public void setBusinessDate(LocalDate businessDate) {
+    this.businessDate = businessDate;
+  }
+
+  public Integer getLastReserved() {
+    return lastReserved;
+  }
+
+  public void setLastReserved(Integer lastReserved) {
+    this.lastReserved = lastReserved;
+  }
+
+  public LocalDateTime getUpdatedAt() {
+    return updatedAt;
+  }
+
+  public void setUpdatedAt(LocalDateTime updatedAt) {
+    this.updatedAt = updatedAt;
+  }
+}
@@ -0,0 +1,130 @@
+package coffee.astroneko.backend.entity;
+
+import jakarta.persistence.*;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Completed-order totals for one business day, either overall or broken down
+ * by menu item or payment method. Written by {@code SalesRollupService}.
+ */
+@Entity
+@Table(
+  name = "daily_sales_rollup",
+  uniqueConstraints = @UniqueConstraint(
+    name = "uk_daily_sales_rollup_day_dimension_key",
+    columnNames = { "business_date", "dimension", "dimension_key" }
+  ),
+  indexes = @Index(
+    name = "idx_daily_sales_rollup_dimension_day",
+    columnList = "dimension, business_date"
+  )
+)
+public class DailySalesRollup {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(name = "business_date", nullable = false)
+  private LocalDate businessDate;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "dimension", nullable = false, length = 20)
+  private Dimension dimension;
+
+  // "ALL" for TOTAL, the menu item id for ITEM, the method for PAYMENT_METHOD
+  @Column(name = "dimension_key", nullable = false, length = 50)
+  private String dimensionKey;
+
+  @Column(name = "order_count", nullable = false)
+  private Long orderCount = 0L;
+
+  @Column(name = "item_quantity", nullable = false)
+  private Long itemQuantity = 0L;
+
+  // Order totals for TOTAL and PAYMENT_METHOD, line subtotals for ITEM
+  @Column(name = "revenue", nullable = false, precision = 14, scale = 2)
+  private BigDecimal revenue = BigDecimal.ZERO;
+
+  @Column(name = "updated_at", nullable = false)
+  private LocalDateTime updatedAt;
+
+  // Enum for the breakdown a row belongs to
+  public enum Dimension {
+    TOTAL,
+    ITEM,
+    PAYMENT_METHOD,
+  }
+
+  // Constructors
+  public DailySalesRollup() {
+    this.updatedAt = LocalDateTime.now();
+  }
+
+  // Getters and Setters
+  public Long getId() {
+    return id;
+  }
+
+  public void setId(Long id) {
+    this.id = id;
+  }
+
+  public LocalDate getBusinessDate() {
+    return businessDate;
+  }
+
+  public void setBusinessDate(LocalDate businessDate) {
+    this.businessDate = businessDate;
+  }
+
+  public Dimension getDimension() {
+    return dimension;
+  }
+
+  public void setDimension(Dimension dimension) {
+    this.dimension = dimension;
+  }
+
+  public String getDimensionKey() {
+    return dimensionKey;
+  }
+
+  public void setDimensionKey(String dimensionKey) {
+    this.dimensionKey = dimensionKey;
+  }
+
+  public Long getOrderCount() {
+    return orderCount;
+  }
+
+  public void setOrderCount(Long orderCount) {
+    this.orderCount = orderCount;
+  }
+
+  public Long getItemQuantity() {
+    return itemQuantity;
+  }
+
+  public void setItemQuantity(Long itemQuantity) {
+    this.itemQuantity = itemQuantity;
+  }
+
+  public BigDecimal getRevenue() {
+    return revenue;
+  }
+
+  public void setRevenue(BigDecimal revenue) {
+    this.revenue = revenue;
+  }
+
+  public LocalDateTime getUpdatedAt() {
+    return updatedAt;
+  }
+
+  public void setUpdatedAt(LocalDateTime updatedAt) {
+    this.updatedAt = updatedAt;
+  }
+}
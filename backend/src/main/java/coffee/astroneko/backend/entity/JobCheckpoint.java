@@ -0,0 +1,58 @@
+package coffee.astroneko.backend.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Last business day a resumable background job finished, keyed by job name
+ */
+@Entity
+@Table(name = "job_checkpoints")
+public class JobCheckpoint {
+
+  @Id
+  @Column(name = "job_name", nullable = false, length = 50)
+  private String jobName;
+
+  @Column(name = "last_completed_date")
+  private LocalDate lastCompletedDate;
+
+  @Column(name = "updated_at", nullable = false)
+  private LocalDateTime updatedAt;
+
+  // Constructors
+  public JobCheckpoint() {
+    this.updatedAt = LocalDateTime.now();
+  }
+
+  public JobCheckpoint(String jobName) {
+    this();
+    this.jobName = jobName;
+  }
+
+  // Getters and Setters
+  public String getJobName() {
+    return jobName;
+  }
+
+  public void setJobName(String jobName) {
+    this.jobName = jobName;
+  }
+
+  public LocalDate getLastCompletedDate() {
+    return lastCompletedDate;
+  }
+
+  public void setLastCompletedDate(LocalDate lastCompletedDate) {
+    this.lastCompletedDate = lastCompletedDate;
+  }
+
+  public LocalDateTime getUpdatedAt() {
+    return updatedAt;
+  }
+
+  public void setUpdatedAt(LocalDateTime updatedAt) {
+    this.updatedAt = updatedAt;
+  }
+}
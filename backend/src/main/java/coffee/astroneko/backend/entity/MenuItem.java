@@ -2,6 +2,9 @@ package coffee.astroneko.backend.entity;
 
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Locale;
 import java.util.Set;
 
 @Entity
@@ -58,6 +61,21 @@ public class MenuItem {
   @Column(name = "tags")
   private String tags;
 
+  // One row per normalized tag, kept in step with tags by setTags, for
+  // reporting and other SQL consumers; the API filters on the catalog
+  // snapshot instead
+  @ElementCollection(fetch = FetchType.LAZY)
+  @CollectionTable(
+    name = "menu_item_tags",
+    joinColumns = @JoinColumn(name = "menu_item_id"),
+    indexes = @Index(
+      name = "idx_menu_item_tags_tag",
+      columnList = "tag, menu_item_id"
+    )
+  )
+  @Column(name = "tag", nullable = false)
+  private Set<String> tagSet = new HashSet<>();
+
   @Column(name = "in_stock", nullable = false)
   private Boolean inStock = true;
 
@@ -256,6 +274,14 @@ public class MenuItem {
 
   public void setTags(String tags) {
     this.tags = tags;
+    Set<String> parsed = parseTags(tags);
+    // Change the set in place so only added and removed tags are written
+    this.tagSet.retainAll(parsed);
+    this.tagSet.addAll(parsed);
+  }
+
+  public Set<String> getTagSet() {
+    return tagSet;
   }
 
   public Boolean getInStock() {
@@ -329,6 +355,33 @@ public class MenuItem {
   }
 
   // Helper methods
+  /**
+   * Normalized tags of a comma-separated tag string: trimmed, lower-cased,
+   * without blanks or duplicates, in their original order
+   */
+  public static Set<String> parseTags(String tags) {
+    Set<String> parsed = new LinkedHashSet<>();
+    if (tags != null) {
+      for (String tag : tags.split(",")) {
+        String normalized = normalizeTag(tag);
+        if (normalized != null) {
+          parsed.add(normalized);
+        }
+      }
+    }
+    return parsed;
+  }
+
+  /**
+   * A single tag as stored in menu_item_tags, or null if it is blank
+   */
+  public static String normalizeTag(String tag) {
+    if (tag == null || tag.isBlank()) {
+      return null;
+    }
+    return tag.trim().toLowerCase(Locale.ROOT);
+  }
+
   public boolean isOnSale() {
     return Boolean.TRUE.equals(this.isOnSale) && this.originalPrice != null;
   }
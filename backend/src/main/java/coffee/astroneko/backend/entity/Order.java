@@ -1,5 +1,7 @@
 package coffee.astroneko.backend.entity;
 
+import coffee.astroneko.backend.util.OrderNumberGenerator;
+import coffee.astroneko.backend.util.SnowflakeOrderNumberGenerator;
 import jakarta.persistence.*;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -10,8 +12,17 @@ import java.util.List;
 @Table(name = "orders")
 public class Order {
 
+  private static volatile OrderNumberGenerator orderNumberGenerator =
+    new SnowflakeOrderNumberGenerator(0);
+
+  // Pooled sequence ids let Hibernate batch inserts, which IDENTITY prevents
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orders_seq")
+  @SequenceGenerator(
+    name = "orders_seq",
+    sequenceName = "orders_seq",
+    allocationSize = 50
+  )
   private Long id;
 
   @Column(name = "order_number", nullable = false, unique = true)
@@ -101,7 +112,51 @@ public class Order {
     HAS_PROBLEM,
     CANCELLED,
     RETURN,
-    DELAYED,
+    DELAYED;
+
+    /**
+     * Whether the lifecycle allows moving from this status to the next one
+     */
+    public boolean canTransitionTo(OrderStatus next) {
+      switch (this) {
+        case PENDING:
+          return (
+            next == IN_PROGRESS ||
+            next == DELAYED ||
+            next == HAS_PROBLEM ||
+            next == CANCELLED
+          );
+        case IN_PROGRESS:
+          return (
+            next == READY ||
+            next == DELAYED ||
+            next == HAS_PROBLEM ||
+            next == CANCELLED
+          );
+        case DELAYED:
+          return (
+            next == IN_PROGRESS ||
+            next == READY ||
+            next == HAS_PROBLEM ||
+            next == CANCELLED
+          );
+        case HAS_PROBLEM:
+          return next == IN_PROGRESS || next == DELAYED || next == CANCELLED;
+        case READY:
+          return next == COMPLETE || next == HAS_PROBLEM || next == RETURN;
+        case COMPLETE:
+          return next == RETURN;
+        default:
+          return false;
+      }
+    }
+
+    /**
+     * Open orders are still on the live board
+     */
+    public boolean isOpen() {
+      return this != COMPLETE && this != CANCELLED && this != RETURN;
+    }
   }
 
   // Payment Method Enum
@@ -142,7 +197,11 @@ public class Order {
 
   // Helper methods
   private String generateOrderNumber() {
-    return "ORD-" + System.currentTimeMillis();
+    return orderNumberGenerator.next();
+  }
+
+  public static void setOrderNumberGenerator(OrderNumberGenerator generator) {
+    orderNumberGenerator = generator;
   }
 
   public void calculateTotals() {
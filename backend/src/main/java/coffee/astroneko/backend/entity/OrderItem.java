@@ -9,7 +9,15 @@ import java.time.LocalDateTime;
 public class OrderItem {
 
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(
+    strategy = GenerationType.SEQUENCE,
+    generator = "order_items_seq"
+  )
+  @SequenceGenerator(
+    name = "order_items_seq",
+    sequenceName = "order_items_seq",
+    allocationSize = 50
+  )
   private Long id;
 
   @ManyToOne(fetch = FetchType.LAZY, optional = false)
@@ -0,0 +1,48 @@
+package coffee.astroneko.backend.repository;
+
+import coffee.astroneko.backend.entity.DailySalesRollup;
+import coffee.astroneko.backend.entity.DailySalesRollup.Dimension;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface DailySalesRollupRepository
+  extends JpaRepository<DailySalesRollup, Long> {
+  // One row per day for the given breakdown
+  List<DailySalesRollup> findByDimensionAndBusinessDateBetweenOrderByBusinessDate(
+    Dimension dimension,
+    LocalDate from,
+    LocalDate to
+  );
+
+  Optional<DailySalesRollup> findByBusinessDateAndDimensionAndDimensionKey(
+    LocalDate businessDate,
+    Dimension dimension,
+    String dimensionKey
+  );
+
+  // Totals per key across a date range: key, orders, quantity, revenue
+  @Query(
+    "SELECT r.dimensionKey, SUM(r.orderCount), SUM(r.itemQuantity), " +
+    "SUM(r.revenue) FROM DailySalesRollup r WHERE r.dimension = :dimension " +
+    "AND r.businessDate BETWEEN :from AND :to " +
+    "GROUP BY r.dimensionKey ORDER BY SUM(r.revenue) DESC"
+  )
+  List<Object[]> sumByKeyBetween(
+    @Param("dimension") Dimension dimension,
+    @Param("from") LocalDate from,
+    @Param("to") LocalDate to
+  );
+
+  // All-time orders and revenue from the per-day totals: orders, revenue
+  @Query(
+    "SELECT COALESCE(SUM(r.orderCount), 0), COALESCE(SUM(r.revenue), 0) " +
+    "FROM DailySalesRollup r WHERE r.dimension = 'TOTAL'"
+  )
+  List<Object[]> sumAllTotals();
+}
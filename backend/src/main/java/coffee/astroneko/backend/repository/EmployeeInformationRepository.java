@@ -2,6 +2,7 @@ package coffee.astroneko.backend.repository;
 
 import coffee.astroneko.backend.entity.EmployeeInformation;
 import coffee.astroneko.backend.entity.User;
+import coffee.astroneko.backend.repository.projection.StaffSummary;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -33,6 +34,40 @@ public interface EmployeeInformationRepository
     @Param("roles") List<User.Role> roles
   );
 
+  // Staff list projections: only the listed columns, one join, filters in SQL
+  @Query(
+    "SELECT e.id AS id, u.id AS userId, u.firstName AS firstName, " +
+    "u.lastName AS lastName, u.username AS username, u.email AS email, " +
+    "u.role AS role, u.sex AS sex, u.avatar AS avatar, " +
+    "u.isActive AS isUserActive, e.employeeId AS employeeId, " +
+    "e.hireDate AS hireDate, e.employmentType AS employmentType, " +
+    "e.salary AS salary, " +
+    "e.phone AS phone, e.position AS position, e.department AS department, " +
+    "e.shiftStart AS shiftStart, e.shiftEnd AS shiftEnd, " +
+    "e.isActive AS isActive, e.createdAt AS createdAt, e.updatedAt AS updatedAt " +
+    "FROM EmployeeInformation e JOIN e.user u WHERE u.role IN :roles"
+  )
+  List<StaffSummary> findStaffSummariesByRoles(
+    @Param("roles") List<User.Role> roles
+  );
+
+  @Query(
+    "SELECT e.id AS id, u.id AS userId, u.firstName AS firstName, " +
+    "u.lastName AS lastName, u.username AS username, u.email AS email, " +
+    "u.role AS role, u.sex AS sex, u.avatar AS avatar, " +
+    "u.isActive AS isUserActive, e.employeeId AS employeeId, " +
+    "e.hireDate AS hireDate, e.employmentType AS employmentType, " +
+    "e.salary AS salary, " +
+    "e.phone AS phone, e.position AS position, e.department AS department, " +
+    "e.shiftStart AS shiftStart, e.shiftEnd AS shiftEnd, " +
+    "e.isActive AS isActive, e.createdAt AS createdAt, e.updatedAt AS updatedAt " +
+    "FROM EmployeeInformation e JOIN e.user u " +
+    "WHERE u.role IN :roles AND e.isActive = true AND u.isActive = true"
+  )
+  List<StaffSummary> findActiveStaffSummariesByRoles(
+    @Param("roles") List<User.Role> roles
+  );
+
   @Query("SELECT e FROM EmployeeInformation e WHERE e.user.role = :role")
   List<EmployeeInformation> findByUserRole(@Param("role") User.Role role);
 
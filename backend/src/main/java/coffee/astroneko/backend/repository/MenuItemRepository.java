@@ -78,6 +78,15 @@ public interface MenuItemRepository extends JpaRepository<MenuItem, Long> {
     Pageable pageable
   );
 
+  /**
+   * Find menu items whose tags have not been copied into menu_item_tags
+   * yet, e.g. rows written before the tag table existed
+   */
+  @Query(
+    "SELECT m FROM MenuItem m WHERE m.tags IS NOT NULL AND m.tagSet IS EMPTY"
+  )
+  List<MenuItem> findItemsWithUnsyncedTags();
+
   /**
    * Find top menu items by monthly buys for recommendations (excluding soft deleted)
    */
@@ -108,6 +117,14 @@ public interface MenuItemRepository extends JpaRepository<MenuItem, Long> {
   @Query("SELECT m FROM MenuItem m WHERE m.isDeleted = false")
   List<MenuItem> findAllNotDeleted();
 
+  /**
+   * Find all non-deleted menu items together with their promos
+   */
+  @Query(
+    "SELECT DISTINCT m FROM MenuItem m LEFT JOIN FETCH m.promos WHERE m.isDeleted = false"
+  )
+  List<MenuItem> findAllNotDeletedWithPromos();
+
   /**
    * Find all non-deleted menu items with pagination
    */
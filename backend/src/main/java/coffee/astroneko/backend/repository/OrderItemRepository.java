@@ -4,6 +4,7 @@ import coffee.astroneko.backend.entity.MenuItem;
 import coffee.astroneko.backend.entity.Order;
 import coffee.astroneko.backend.entity.OrderItem;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -32,6 +33,28 @@ public interface OrderItemRepository extends JpaRepository<OrderItem, Long> {
   )
   List<Object[]> findMenuItemPopularity();
 
+  // Completed quantities per menu item and day, used to seed the sliding-window
+  // popularity counters at startup
+  @Query(
+    "SELECT oi.menuItem.id, CAST(COALESCE(o.completedTime, o.orderDate) AS LocalDate), SUM(oi.quantity) " +
+    "FROM OrderItem oi JOIN oi.order o " +
+    "WHERE o.status = 'COMPLETE' AND COALESCE(o.completedTime, o.orderDate) >= :since " +
+    "GROUP BY oi.menuItem.id, CAST(COALESCE(o.completedTime, o.orderDate) AS LocalDate)"
+  )
+  List<Object[]> findDailyCompletedQuantitiesSince(
+    @Param("since") LocalDateTime since
+  );
+
+  // Total item quantity per order for a batch of orders, so listings do not
+  // have to load each order's items
+  @Query(
+    "SELECT oi.order.id, SUM(oi.quantity) FROM OrderItem oi " +
+    "WHERE oi.order.id IN :orderIds GROUP BY oi.order.id"
+  )
+  List<Object[]> sumQuantitiesByOrderIds(
+    @Param("orderIds") Collection<Long> orderIds
+  );
+
   // Statistics for menu item popularity by customer
   @Query(
     "SELECT oi.menuItem.id, SUM(oi.quantity) as totalQuantity FROM OrderItem oi " +
@@ -2,12 +2,16 @@ package coffee.astroneko.backend.repository;
 
 import coffee.astroneko.backend.entity.Order;
 import coffee.astroneko.backend.entity.User;
+import jakarta.persistence.LockModeType;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -44,6 +48,26 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     List<Order.OrderStatus> statuses
   );
 
+  // Orders for the live board, with everything the board shows in one select
+  @EntityGraph(
+    attributePaths = {
+      "orderItems",
+      "orderItems.menuItem",
+      "customer",
+      "assignedTo",
+      "completedBy",
+    }
+  )
+  @Query("SELECT o FROM Order o WHERE o.status IN :statuses")
+  List<Order> findBoardOrdersByStatusIn(
+    @Param("statuses") Collection<Order.OrderStatus> statuses
+  );
+
+  // Lock the order row so concurrent status changes are applied one at a time
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT o FROM Order o WHERE o.id = :id")
+  Optional<Order> findByIdForUpdate(@Param("id") Long id);
+
   // Find by queue number
   Optional<Order> findByQueueNumber(Integer queueNumber);
 
@@ -87,11 +111,18 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
   )
   Long countTodaysOrders();
 
-  // Get next queue number
+  // Highest queue number handed out within a business day, used once per day
+  // to seed the queue counter row
   @Query(
-    "SELECT COALESCE(MAX(o.queueNumber), 0) + 1 FROM Order o WHERE CAST(o.orderDate AS DATE) = CURRENT_DATE"
+    "SELECT COALESCE(MAX(o.queueNumber), 0) FROM Order o WHERE o.orderDate >= :start AND o.orderDate < :end"
   )
-  Integer getNextQueueNumber();
+  Integer findMaxQueueNumberBetween(
+    @Param("start") LocalDateTime start,
+    @Param("end") LocalDateTime end
+  );
+
+  @Query("SELECT MIN(o.orderDate) FROM Order o")
+  LocalDateTime findFirstOrderDate();
 
   // Statistics queries
   @Query(
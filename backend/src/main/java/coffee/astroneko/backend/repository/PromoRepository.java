@@ -5,7 +5,9 @@ import coffee.astroneko.backend.entity.Promo;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -21,6 +23,33 @@ public interface PromoRepository extends JpaRepository<Promo, Long> {
   )
   List<Promo> findActivePromos(@Param("currentDate") LocalDateTime currentDate);
 
+  // Promos that are active now or later, with their menu items, for the
+  // promo engine's index
+  @EntityGraph(attributePaths = { "menuItems" })
+  @Query(
+    "SELECT DISTINCT p FROM Promo p WHERE p.isActive = true AND p.endDate >= :now"
+  )
+  List<Promo> findLivePromosWithMenuItems(@Param("now") LocalDateTime now);
+
+  // Take one use of an active promo that is under its usage limit. The
+  // check and the increment are a single statement, so concurrent
+  // redemptions queue on the row and cannot overshoot the limit
+  @Modifying
+  @Query(
+    "UPDATE Promo p SET p.currentUsage = p.currentUsage + 1, p.updatedAt = :now " +
+    "WHERE p.id = :id AND p.isActive = true " +
+    "AND (p.usageLimit IS NULL OR p.currentUsage < p.usageLimit)"
+  )
+  int reserveUsage(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+  // Give back a use taken earlier in the same transaction
+  @Modifying
+  @Query(
+    "UPDATE Promo p SET p.currentUsage = p.currentUsage - 1, p.updatedAt = :now " +
+    "WHERE p.id = :id AND p.currentUsage > 0"
+  )
+  int releaseUsage(@Param("id") Long id, @Param("now") LocalDateTime now);
+
   // Find promos by type
   List<Promo> findByPromoType(Promo.PromoType promoType);
 
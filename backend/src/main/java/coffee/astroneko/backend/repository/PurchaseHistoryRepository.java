@@ -2,18 +2,51 @@ package coffee.astroneko.backend.repository;
 
 import coffee.astroneko.backend.entity.PurchaseHistory;
 import coffee.astroneko.backend.entity.User;
+import coffee.astroneko.backend.repository.projection.PurchaseHistoryExportRow;
+import jakarta.persistence.QueryHint;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface PurchaseHistoryRepository
   extends JpaRepository<PurchaseHistory, Long> {
+  String EXPORT_SELECT =
+    "SELECT p.id AS id, c.id AS customerId, " +
+    "c.firstName AS customerFirstName, c.lastName AS customerLastName, " +
+    "c.email AS customerEmail, o.orderNumber AS orderNumber, " +
+    "o.orderDate AS orderDate, o.status AS status, " +
+    "o.paymentMethod AS paymentMethod, " +
+    "(SELECT COALESCE(SUM(oi.quantity), 0) FROM OrderItem oi " +
+    "WHERE oi.order = o) AS itemsCount, " +
+    "o.totalAmount AS totalAmount, o.discountAmount AS discountAmount, " +
+    "o.pointsEarned AS pointsEarned, o.pointsUsed AS pointsUsed, " +
+    "p.notes AS notes, p.createdAt AS createdAt, p.updatedAt AS updatedAt " +
+    "FROM PurchaseHistory p JOIN p.customer c JOIN p.order o ";
+
+  String EXPORT_FETCH_SIZE = "500";
+
+  // Read paths fetch customer and order in the same select, since the
+  // response mapping touches both
+  @Override
+  @EntityGraph(attributePaths = { "customer", "order" })
+  List<PurchaseHistory> findAll();
+
+  @Override
+  @EntityGraph(attributePaths = { "customer", "order" })
+  Optional<PurchaseHistory> findById(Long id);
+
   List<PurchaseHistory> findByCustomerOrderByOrderOrderDateDesc(User customer);
 
   Page<PurchaseHistory> findByCustomerOrderByOrderOrderDateDesc(
@@ -21,22 +54,51 @@ public interface PurchaseHistoryRepository
     Pageable pageable
   );
 
+  @EntityGraph(attributePaths = { "customer", "order" })
   List<PurchaseHistory> findByCustomerIdOrderByOrderOrderDateDesc(
     Long customerId
   );
 
+  @EntityGraph(attributePaths = { "customer", "order" })
   Page<PurchaseHistory> findByCustomerIdOrderByOrderOrderDateDesc(
     Long customerId,
     Pageable pageable
   );
 
+  // Keyset pagination over (order date, id), newest first; no count query
+  @EntityGraph(attributePaths = { "customer", "order" })
+  @Query(
+    "SELECT p FROM PurchaseHistory p WHERE p.customer.id = :customerId " +
+    "ORDER BY p.order.orderDate DESC, p.id DESC"
+  )
+  List<PurchaseHistory> findFirstByCustomerIdKeyset(
+    @Param("customerId") Long customerId,
+    Limit limit
+  );
+
+  @EntityGraph(attributePaths = { "customer", "order" })
+  @Query(
+    "SELECT p FROM PurchaseHistory p WHERE p.customer.id = :customerId AND " +
+    "(p.order.orderDate < :orderDate OR (p.order.orderDate = :orderDate AND p.id < :id)) " +
+    "ORDER BY p.order.orderDate DESC, p.id DESC"
+  )
+  List<PurchaseHistory> findNextByCustomerIdKeyset(
+    @Param("customerId") Long customerId,
+    @Param("orderDate") LocalDateTime orderDate,
+    @Param("id") Long id,
+    Limit limit
+  );
+
+  @EntityGraph(attributePaths = { "customer", "order" })
   List<PurchaseHistory> findByOrderOrderNumber(String orderNumber);
 
+  @EntityGraph(attributePaths = { "customer", "order" })
   @Query("SELECT p FROM PurchaseHistory p WHERE p.order.status = :status")
   List<PurchaseHistory> findByOrderStatus(
     @Param("status") coffee.astroneko.backend.entity.Order.OrderStatus status
   );
 
+  @EntityGraph(attributePaths = { "customer", "order" })
   @Query(
     "SELECT p FROM PurchaseHistory p WHERE p.customer.id = :customerId AND p.order.orderDate BETWEEN :startDate AND :endDate ORDER BY p.order.orderDate DESC"
   )
@@ -46,6 +108,7 @@ public interface PurchaseHistoryRepository
     @Param("endDate") LocalDateTime endDate
   );
 
+  @EntityGraph(attributePaths = { "customer", "order" })
   @Query(
     "SELECT p FROM PurchaseHistory p WHERE p.order.orderDate BETWEEN :startDate AND :endDate ORDER BY p.order.orderDate DESC"
   )
@@ -65,4 +128,49 @@ public interface PurchaseHistoryRepository
   java.math.BigDecimal getTotalSpentByCustomerId(
     @Param("customerId") Long customerId
   );
+
+  // Export streams: forward-only cursor fetching EXPORT_FETCH_SIZE rows at a
+  // time; callers must close the stream inside a transaction
+  @QueryHints(
+    @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE)
+  )
+  @Query(EXPORT_SELECT + "ORDER BY o.orderDate, p.id")
+  Stream<PurchaseHistoryExportRow> streamAllForExport();
+
+  @QueryHints(
+    @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE)
+  )
+  @Query(
+    EXPORT_SELECT +
+    "WHERE o.orderDate BETWEEN :startDate AND :endDate " +
+    "ORDER BY o.orderDate, p.id"
+  )
+  Stream<PurchaseHistoryExportRow> streamByDateRangeForExport(
+    @Param("startDate") LocalDateTime startDate,
+    @Param("endDate") LocalDateTime endDate
+  );
+
+  @QueryHints(
+    @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE)
+  )
+  @Query(
+    EXPORT_SELECT +
+    "WHERE o.orderDate >= :startDate " +
+    "ORDER BY o.orderDate, p.id"
+  )
+  Stream<PurchaseHistoryExportRow> streamSinceForExport(
+    @Param("startDate") LocalDateTime startDate
+  );
+
+  @QueryHints(
+    @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE)
+  )
+  @Query(
+    EXPORT_SELECT +
+    "WHERE o.orderDate <= :endDate " +
+    "ORDER BY o.orderDate, p.id"
+  )
+  Stream<PurchaseHistoryExportRow> streamUntilForExport(
+    @Param("endDate") LocalDateTime endDate
+  );
 }
@@ -6,12 +6,47 @@ import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository
+  extends JpaRepository<User, Long>, JpaSpecificationExecutor<User> {
+  // Substring matches, prefix matches first
+  String CUSTOMER_SEARCH_MATCHES =
+    "SELECT u.* FROM users u " +
+    "WHERE u.is_deleted = false AND u.role = :role " +
+    "AND (u.is_active = true OR :activeOnly = false) " +
+    "AND (lower(u.first_name) LIKE :pattern " +
+    "OR lower(u.last_name) LIKE :pattern " +
+    "OR lower(u.username) LIKE :pattern " +
+    "OR lower(u.email) LIKE :pattern " +
+    "OR u.phone_number LIKE :pattern) " +
+    "ORDER BY (lower(u.first_name) LIKE :prefix " +
+    "OR lower(u.last_name) LIKE :prefix " +
+    "OR lower(u.username) LIKE :prefix " +
+    "OR lower(u.email) LIKE :prefix " +
+    "OR u.phone_number LIKE :prefix) DESC, ";
+
+  // Needs pg_trgm (CustomerSearchIndexes); shared with the customer search
+  // benchmark
+  String CUSTOMER_SEARCH_RANKED =
+    CUSTOMER_SEARCH_MATCHES +
+    "greatest(similarity(lower(u.first_name), :term), " +
+    "similarity(lower(u.last_name), :term), " +
+    "similarity(lower(u.username), :term), " +
+    "similarity(lower(u.email), :term)) DESC, " +
+    "u.id " +
+    "LIMIT :limit";
+
+  // Without pg_trgm: no similarity ranking, and the LIKEs scan the table
+  String CUSTOMER_SEARCH_UNRANKED =
+    CUSTOMER_SEARCH_MATCHES + "u.id LIMIT :limit";
+
   // Method name variations for consistency with Spring Data naming conventions
   @Query("SELECT u FROM User u WHERE u.isDeleted = false AND u.id = :id")
   Optional<User> findByIdAndIsDeletedFalse(@Param("id") Long id);
@@ -19,6 +54,20 @@ public interface UserRepository extends JpaRepository<User, Long> {
   @Query("SELECT u FROM User u WHERE u.isDeleted = false AND u.email = :email")
   Optional<User> findByEmailAndIsDeletedFalse(@Param("email") String email);
 
+  // Swap in an upgraded password hash, unless the password changed since
+  // the old hash was read
+  @Modifying
+  @Transactional
+  @Query(
+    "UPDATE User u SET u.password = :rehashed " +
+    "WHERE u.id = :id AND u.password = :current"
+  )
+  int rehashPassword(
+    @Param("id") Long id,
+    @Param("current") String current,
+    @Param("rehashed") String rehashed
+  );
+
   @Query("SELECT u FROM User u WHERE u.isDeleted = false AND u.role = :role")
   List<User> findByRoleAndIsDeletedFalse(@Param("role") User.Role role);
 
@@ -83,11 +132,13 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Pageable pageable
   );
 
-  // Search support with soft delete check
+  // Search support with soft delete check. The LOWER(...) LIKE '%term%'
+  // predicates are served by the trigram indexes from V6.
   @Query(
     "SELECT u FROM User u WHERE u.isDeleted = false AND u.role = :role AND " +
     "(LOWER(u.firstName) LIKE :searchTerm OR " +
     "LOWER(u.lastName) LIKE :searchTerm OR " +
+    "LOWER(u.username) LIKE :searchTerm OR " +
     "LOWER(u.email) LIKE :searchTerm OR " +
     "u.phoneNumber LIKE :searchTerm)"
   )
@@ -101,6 +152,7 @@ public interface UserRepository extends JpaRepository<User, Long> {
     "SELECT u FROM User u WHERE u.isDeleted = false AND u.role = :role AND u.isActive = true AND " +
     "(LOWER(u.firstName) LIKE :searchTerm OR " +
     "LOWER(u.lastName) LIKE :searchTerm OR " +
+    "LOWER(u.username) LIKE :searchTerm OR " +
     "LOWER(u.email) LIKE :searchTerm OR " +
     "u.phoneNumber LIKE :searchTerm)"
   )
@@ -110,6 +162,27 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Pageable pageable
   );
 
+  // Ranked customer search: prefix matches first, then trigram similarity
+  @Query(value = CUSTOMER_SEARCH_RANKED, nativeQuery = true)
+  List<User> searchByRoleRanked(
+    @Param("role") String role,
+    @Param("activeOnly") boolean activeOnly,
+    @Param("pattern") String pattern,
+    @Param("prefix") String prefix,
+    @Param("term") String term,
+    @Param("limit") int limit
+  );
+
+  // Customer search for databases without pg_trgm: prefix matches first
+  @Query(value = CUSTOMER_SEARCH_UNRANKED, nativeQuery = true)
+  List<User> searchByRole(
+    @Param("role") String role,
+    @Param("activeOnly") boolean activeOnly,
+    @Param("pattern") String pattern,
+    @Param("prefix") String prefix,
+    @Param("limit") int limit
+  );
+
   // Additional soft delete utility methods
   @Query("SELECT u FROM User u WHERE u.isDeleted = false")
   List<User> findAllNotDeleted();
@@ -0,0 +1,46 @@
+package coffee.astroneko.backend.repository.projection;
+
+import coffee.astroneko.backend.entity.Order.OrderStatus;
+import coffee.astroneko.backend.entity.Order.PaymentMethod;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * One purchase as exported for accounting. Read as a flat row so a long
+ * export never puts entities in the persistence context.
+ */
+public interface PurchaseHistoryExportRow {
+  Long getId();
+
+  Long getCustomerId();
+
+  String getCustomerFirstName();
+
+  String getCustomerLastName();
+
+  String getCustomerEmail();
+
+  String getOrderNumber();
+
+  LocalDateTime getOrderDate();
+
+  OrderStatus getStatus();
+
+  PaymentMethod getPaymentMethod();
+
+  Long getItemsCount();
+
+  BigDecimal getTotalAmount();
+
+  BigDecimal getDiscountAmount();
+
+  Integer getPointsEarned();
+
+  Integer getPointsUsed();
+
+  String getNotes();
+
+  LocalDateTime getCreatedAt();
+
+  LocalDateTime getUpdatedAt();
+}
@@ -0,0 +1,59 @@
+package coffee.astroneko.backend.repository.projection;
+
+import coffee.astroneko.backend.entity.EmployeeInformation.EmploymentType;
+import coffee.astroneko.backend.entity.User.Role;
+import coffee.astroneko.backend.entity.User.Sex;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * Columns the staff list shows, read in one join without hydrating the
+ * employee entity (no bank, identity or review data)
+ */
+public interface StaffSummary {
+  Long getId();
+
+  Long getUserId();
+
+  String getFirstName();
+
+  String getLastName();
+
+  String getUsername();
+
+  String getEmail();
+
+  Role getRole();
+
+  Sex getSex();
+
+  String getAvatar();
+
+  Boolean getIsUserActive();
+
+  String getEmployeeId();
+
+  LocalDate getHireDate();
+
+  EmploymentType getEmploymentType();
+
+  BigDecimal getSalary();
+
+  String getPhone();
+
+  String getPosition();
+
+  String getDepartment();
+
+  LocalTime getShiftStart();
+
+  LocalTime getShiftEnd();
+
+  Boolean getIsActive();
+
+  LocalDateTime getCreatedAt();
+
+  LocalDateTime getUpdatedAt();
+}
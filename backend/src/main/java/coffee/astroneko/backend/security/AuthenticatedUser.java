@@ -0,0 +1,35 @@
+package coffee.astroneko.backend.security;
+
+/**
+ * Principal of an authenticated request, taken from the verified token
+ * claims rather than loaded from the users table
+ */
+public final class AuthenticatedUser {
+
+  private final Long userId;
+  private final String email;
+  private final String role;
+
+  public AuthenticatedUser(Long userId, String email, String role) {
+    this.userId = userId;
+    this.email = email;
+    this.role = role;
+  }
+
+  public Long getUserId() {
+    return userId;
+  }
+
+  public String getEmail() {
+    return email;
+  }
+
+  public String getRole() {
+    return role;
+  }
+
+  @Override
+  public String toString() {
+    return email;
+  }
+}
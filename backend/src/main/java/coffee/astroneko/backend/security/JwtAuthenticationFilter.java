@@ -0,0 +1,90 @@
+package coffee.astroneko.backend.security;
+
+import coffee.astroneko.backend.util.JwtClaims;
+import coffee.astroneko.backend.util.JwtUtil;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Authenticates a request from its bearer token alone. The principal and
+ * its single ROLE_ authority come from the verified claims, so no request
+ * touches the users table; revoked tokens are refused via the deny-list.
+ * Requests without a usable token carry on unauthenticated.
+ */
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+  private static final String BEARER_PREFIX = "Bearer ";
+
+  private final JwtUtil jwtUtil;
+  private final TokenDenyList denyList;
+
+  public JwtAuthenticationFilter(JwtUtil jwtUtil, TokenDenyList denyList) {
+    this.jwtUtil = jwtUtil;
+    this.denyList = denyList;
+  }
+
+  @Override
+  protected void doFilterInternal(
+    HttpServletRequest request,
+    HttpServletResponse response,
+    FilterChain filterChain
+  ) throws ServletException, IOException {
+    String token = bearerToken(request);
+    if (token != null && !denyList.isRevoked(token)) {
+      jwtUtil
+        .verify(token)
+        .filter(claims -> claims.getRole() != null)
+        .ifPresent(claims -> authenticate(request, claims));
+    }
+    filterChain.doFilter(request, response);
+  }
+
+  private void authenticate(HttpServletRequest request, JwtClaims claims) {
+    AuthenticatedUser principal = new AuthenticatedUser(
+      claims.getUserId(),
+      claims.getEmail(),
+      claims.getRole()
+    );
+    UsernamePasswordAuthenticationToken authentication =
+      UsernamePasswordAuthenticationToken.authenticated(
+        principal,
+        null,
+        List.of(
+          new SimpleGrantedAuthority(
+            "ROLE_" + claims.getRole().toUpperCase(Locale.ROOT)
+          )
+        )
+      );
+    authentication.setDetails(
+      new WebAuthenticationDetailsSource().buildDetails(request)
+    );
+
+    SecurityContext context = SecurityContextHolder.createEmptyContext();
+    context.setAuthentication(authentication);
+    SecurityContextHolder.setContext(context);
+  }
+
+  /**
+   * Token from the Authorization header, or null if there is none
+   */
+  public static String bearerToken(HttpServletRequest request) {
+    String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+    if (header == null || !header.startsWith(BEARER_PREFIX)) {
+      return null;
+    }
+    String token = header.substring(BEARER_PREFIX.length()).trim();
+    return token.isEmpty() ? null : token;
+  }
+}
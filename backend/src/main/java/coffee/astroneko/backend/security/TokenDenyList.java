@@ -0,0 +1,47 @@
+package coffee.astroneko.backend.security;
+
+import coffee.astroneko.backend.util.JwtUtil;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tokens revoked before they expire, such as on logout. Entries are keyed
+ * by the token's SHA-256 and only kept until the token would have expired
+ * anyway, so the list stays as small as the number of live revoked tokens.
+ */
+@Component
+public class TokenDenyList {
+
+  private final Map<String, Instant> revoked = new ConcurrentHashMap<>();
+
+  public void revoke(String token, Instant expiresAt) {
+    if (expiresAt == null || expiresAt.isAfter(Instant.now())) {
+      revoked.put(
+        JwtUtil.hash(token),
+        expiresAt != null ? expiresAt : Instant.MAX
+      );
+    }
+  }
+
+  public boolean isRevoked(String token) {
+    return !revoked.isEmpty() && revoked.containsKey(JwtUtil.hash(token));
+  }
+
+  public int size() {
+    return revoked.size();
+  }
+
+  /**
+   * Drop entries whose tokens have expired; the filter rejects those anyway
+   */
+  @Scheduled(
+    fixedDelayString = "${app.jwt.deny-list.purge-interval-ms:60000}"
+  )
+  public void purgeExpired() {
+    Instant now = Instant.now();
+    revoked.values().removeIf(expiresAt -> !now.isBefore(expiresAt));
+  }
+}
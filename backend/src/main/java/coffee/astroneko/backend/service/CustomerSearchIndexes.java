@@ -0,0 +1,88 @@
+package coffee.astroneko.backend.service;
+
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * Installs pg_trgm and the trigram indexes behind customer search at
+ * startup, as V6__customer_search_trgm.sql does, since the schema is built
+ * by ddl-auto and migrations are not run. Every statement is idempotent.
+ * If the extension cannot be installed, e.g. the database user may not
+ * create it, search falls back to unranked matching.
+ */
+@Service
+public class CustomerSearchIndexes implements ApplicationRunner {
+
+  private static final Logger logger = LoggerFactory.getLogger(
+    CustomerSearchIndexes.class
+  );
+
+  private static final String EXTENSION_SQL =
+    "CREATE EXTENSION IF NOT EXISTS pg_trgm";
+
+  private static final String INSTALLED_SQL =
+    "SELECT COUNT(*) FROM pg_extension WHERE extname = 'pg_trgm'";
+
+  private static final List<String> INDEX_SQL = List.of(
+    "CREATE INDEX IF NOT EXISTS idx_users_first_name_trgm " +
+    "ON users USING GIN (lower(first_name) gin_trgm_ops)",
+    "CREATE INDEX IF NOT EXISTS idx_users_last_name_trgm " +
+    "ON users USING GIN (lower(last_name) gin_trgm_ops)",
+    "CREATE INDEX IF NOT EXISTS idx_users_username_trgm " +
+    "ON users USING GIN (lower(username) gin_trgm_ops)",
+    "CREATE INDEX IF NOT EXISTS idx_users_email_trgm " +
+    "ON users USING GIN (lower(email) gin_trgm_ops)",
+    "CREATE INDEX IF NOT EXISTS idx_users_phone_number_trgm " +
+    "ON users USING GIN (phone_number gin_trgm_ops)"
+  );
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  private volatile boolean trigramsAvailable;
+
+  @Override
+  public void run(ApplicationArguments args) {
+    if (!isPostgres()) {
+      return;
+    }
+    try {
+      jdbcTemplate.execute(EXTENSION_SQL);
+    } catch (DataAccessException e) {
+      logger.warn("Could not install pg_trgm: {}", e.getMessage());
+    }
+    Integer installed = jdbcTemplate.queryForObject(
+      INSTALLED_SQL,
+      Integer.class
+    );
+    if (installed == null || installed == 0) {
+      logger.warn("pg_trgm is missing; customer search is not ranked");
+      return;
+    }
+    INDEX_SQL.forEach(jdbcTemplate::execute);
+    trigramsAvailable = true;
+  }
+
+  /**
+   * Whether similarity() and the trigram indexes can be used
+   */
+  public boolean isTrigramsAvailable() {
+    return trigramsAvailable;
+  }
+
+  private boolean isPostgres() {
+    String product = jdbcTemplate.execute(
+      (ConnectionCallback<String>) connection ->
+        connection.getMetaData().getDatabaseProductName()
+    );
+    return "PostgreSQL".equals(product);
+  }
+}
@@ -1,16 +1,28 @@
 package coffee.astroneko.backend.service;
 
+import coffee.astroneko.backend.dto.response.CursorPage;
 import coffee.astroneko.backend.dto.response.CustomerResponse;
 import coffee.astroneko.backend.entity.User;
 import coffee.astroneko.backend.repository.UserRepository;
+import coffee.astroneko.backend.util.Cursor;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,9 +30,24 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 public class CustomerService {
 
+  // Non-null, directly comparable columns usable as a keyset sort key
+  private static final Set<String> CURSOR_SORT_KEYS = Set.of(
+    "id",
+    "firstName",
+    "lastName",
+    "username",
+    "email",
+    "createdAt"
+  );
+
+  private static final int MAX_SEARCH_LIMIT = 50;
+
   @Autowired
   private UserRepository userRepository;
 
+  @Autowired
+  private CustomerSearchIndexes customerSearchIndexes;
+
   @Transactional(readOnly = true)
   public List<CustomerResponse> getAllCustomers() {
     List<User> customers = userRepository.findByRole(User.Role.CLIENT);
@@ -85,7 +112,7 @@ public class CustomerService {
     Page<User> customers;
 
     if (search != null && !search.trim().isEmpty()) {
-      String searchTerm = "%" + search.toLowerCase() + "%";
+      String searchTerm = "%" + escapeLike(search) + "%";
       customers = userRepository.findByRoleAndSearchTerm(
         User.Role.CLIENT,
         searchTerm,
@@ -124,7 +151,7 @@ public class CustomerService {
     Page<User> customers;
 
     if (search != null && !search.trim().isEmpty()) {
-      String searchTerm = "%" + search.toLowerCase() + "%";
+      String searchTerm = "%" + escapeLike(search) + "%";
       customers = userRepository.findByRoleAndIsActiveTrueAndSearchTerm(
         User.Role.CLIENT,
         searchTerm,
@@ -140,6 +167,110 @@ public class CustomerService {
     return customers.map(this::mapToCustomerResponse);
   }
 
+  /**
+   * Keyset-paginated customers: seeks past the cursor on (sortBy, id) and
+   * reads one extra row to know whether another page exists, so there is no
+   * OFFSET and no count query
+   */
+  @Transactional(readOnly = true)
+  public CursorPage<CustomerResponse> getCustomersAfterCursor(
+    String cursor,
+    int size,
+    String sortBy,
+    String sortDir,
+    boolean activeOnly,
+    String search
+  ) {
+    if (!CURSOR_SORT_KEYS.contains(sortBy)) {
+      throw new IllegalArgumentException(
+        "Cursor pagination is not supported for sort field: " + sortBy
+      );
+    }
+    if (size < 1) {
+      throw new IllegalArgumentException("Page size must not be less than one");
+    }
+    boolean descending = sortDir.equalsIgnoreCase("desc");
+    Cursor after = null;
+    if (cursor != null && !cursor.isEmpty()) {
+      after = Cursor.decode(cursor);
+      after.checkSort(sortBy, sortDir);
+    }
+
+    Sort sort = descending
+      ? Sort.by(sortBy).descending().and(Sort.by("id").descending())
+      : Sort.by(sortBy).ascending().and(Sort.by("id").ascending());
+    Specification<User> spec = customerSpec(activeOnly, search, after);
+
+    List<User> rows = userRepository.findBy(spec, query ->
+      query.sortBy(sort).limit(size + 1).all()
+    );
+
+    boolean hasNext = rows.size() > size;
+    List<User> customers = hasNext ? rows.subList(0, size) : rows;
+    String nextCursor = null;
+    if (hasNext) {
+      User last = customers.get(customers.size() - 1);
+      nextCursor = Cursor.of(
+        sortBy,
+        sortDir,
+        last.getId(),
+        sortKeyOf(last, sortBy)
+      ).encode();
+    }
+
+    return new CursorPage<>(
+      customers
+        .stream()
+        .map(this::mapToCustomerResponse)
+        .collect(Collectors.toList()),
+      nextCursor,
+      size
+    );
+  }
+
+  /**
+   * Customers whose name, username, email or phone contains the query,
+   * best first: prefix matches, then closest by trigram similarity when
+   * pg_trgm is installed
+   */
+  @Transactional(readOnly = true)
+  public List<CustomerResponse> searchCustomers(
+    String query,
+    boolean activeOnly,
+    int limit
+  ) {
+    if (query == null || query.isBlank()) {
+      throw new IllegalArgumentException("Search term is required");
+    }
+    if (limit < 1 || limit > MAX_SEARCH_LIMIT) {
+      throw new IllegalArgumentException(
+        "Limit must be between 1 and " + MAX_SEARCH_LIMIT
+      );
+    }
+    String term = escapeLike(query);
+    String role = User.Role.CLIENT.name();
+    List<User> customers = customerSearchIndexes.isTrigramsAvailable()
+      ? userRepository.searchByRoleRanked(
+        role,
+        activeOnly,
+        "%" + term + "%",
+        term + "%",
+        query.trim().toLowerCase(Locale.ROOT),
+        limit
+      )
+      : userRepository.searchByRole(
+        role,
+        activeOnly,
+        "%" + term + "%",
+        term + "%",
+        limit
+      );
+    return customers
+      .stream()
+      .map(this::mapToCustomerResponse)
+      .collect(Collectors.toList());
+  }
+
   @Transactional
   public void deactivateCustomer(Long id) {
     Optional<User> customerOpt = userRepository.findByIdAndRole(
@@ -170,6 +301,106 @@ public class CustomerService {
     }
   }
 
+  private static Specification<User> customerSpec(
+    boolean activeOnly,
+    String search,
+    Cursor after
+  ) {
+    return (root, query, cb) -> {
+      List<Predicate> predicates = new ArrayList<>();
+      predicates.add(cb.isFalse(root.get("isDeleted")));
+      predicates.add(cb.equal(root.get("role"), User.Role.CLIENT));
+      if (activeOnly) {
+        predicates.add(cb.isTrue(root.get("isActive")));
+      }
+      if (search != null && !search.trim().isEmpty()) {
+        String searchTerm = "%" + escapeLike(search) + "%";
+        predicates.add(
+          cb.or(
+            cb.like(cb.lower(root.get("firstName")), searchTerm),
+            cb.like(cb.lower(root.get("lastName")), searchTerm),
+            cb.like(cb.lower(root.get("username")), searchTerm),
+            cb.like(cb.lower(root.get("email")), searchTerm),
+            cb.like(root.get("phoneNumber"), searchTerm)
+          )
+        );
+      }
+      if (after != null) {
+        predicates.add(seek(root, cb, after));
+      }
+      return cb.and(predicates.toArray(new Predicate[0]));
+    };
+  }
+
+  /**
+   * (key, id) > (value, lastId), or < when descending, spelled out so it
+   * works on any dialect: key > value OR (key = value AND id > lastId)
+   */
+  @SuppressWarnings({ "unchecked", "rawtypes" })
+  private static Predicate seek(
+    Root<User> root,
+    CriteriaBuilder cb,
+    Cursor after
+  ) {
+    Expression<Long> id = root.get("id");
+    Predicate idAfter = after.isDescending()
+      ? cb.lessThan(id, after.getId())
+      : cb.greaterThan(id, after.getId());
+    if ("id".equals(after.getSortBy())) {
+      return idAfter;
+    }
+
+    Expression key = root.get(after.getSortBy());
+    Comparable value = parseSortKey(after.getSortBy(), after.getValue());
+    Predicate keyAfter = after.isDescending()
+      ? cb.lessThan(key, value)
+      : cb.greaterThan(key, value);
+    return cb.or(keyAfter, cb.and(cb.equal(key, value), idAfter));
+  }
+
+  private static Comparable<?> parseSortKey(String sortBy, String value) {
+    if (value == null) {
+      throw new IllegalArgumentException("Invalid cursor");
+    }
+    if ("createdAt".equals(sortBy)) {
+      try {
+        return LocalDateTime.parse(value);
+      } catch (DateTimeParseException e) {
+        throw new IllegalArgumentException("Invalid cursor");
+      }
+    }
+    return value;
+  }
+
+  private static Object sortKeyOf(User user, String sortBy) {
+    switch (sortBy) {
+      case "firstName":
+        return user.getFirstName();
+      case "lastName":
+        return user.getLastName();
+      case "username":
+        return user.getUsername();
+      case "email":
+        return user.getEmail();
+      case "createdAt":
+        return user.getCreatedAt();
+      default:
+        return user.getId();
+    }
+  }
+
+  /**
+   * Lower-cased, trimmed search text with LIKE wildcards taken literally
+   */
+  private static String escapeLike(String search) {
+    return search
+      .trim()
+      .toLowerCase(Locale.ROOT)
+      .replace("\\", "\\\\")
+      .replace("%", "\\%")
+      .replace("_", "\\_");
+  }
+
   private CustomerResponse mapToCustomerResponse(User user) {
     CustomerResponse response = new CustomerResponse();
 
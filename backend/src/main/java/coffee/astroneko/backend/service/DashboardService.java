@@ -0,0 +1,133 @@
+package coffee.astroneko.backend.service;
+
+import coffee.astroneko.backend.dto.response.DashboardStatsResponse;
+import coffee.astroneko.backend.dto.response.MenuItemResponse;
+import coffee.astroneko.backend.dto.response.SalesSummaryResponse;
+import coffee.astroneko.backend.entity.DailySalesRollup;
+import coffee.astroneko.backend.entity.DailySalesRollup.Dimension;
+import coffee.astroneko.backend.repository.DailySalesRollupRepository;
+import coffee.astroneko.backend.util.BusinessCalendar;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Dashboard figures read from daily_sales_rollup, so every query touches
+ * one row per day (and per item or payment method) rather than raw orders
+ */
+@Service
+@Transactional(readOnly = true)
+public class DashboardService {
+
+  @Autowired
+  private DailySalesRollupRepository dailySalesRollupRepository;
+
+  @Autowired
+  private BusinessCalendar businessCalendar;
+
+  @Autowired
+  private MenuCatalog menuCatalog;
+
+  /**
+   * Today's totals, the all-time average order value and breakdowns for the
+   * last {@code days} business days including today
+   */
+  public DashboardStatsResponse getStats(int days, int topItems) {
+    if (days < 1 || topItems < 1) {
+      throw new IllegalArgumentException(
+        "Days and top items must not be less than one"
+      );
+    }
+
+    LocalDate today = businessCalendar.today();
+    LocalDate from = today.minusDays(days - 1);
+    DashboardStatsResponse stats = new DashboardStatsResponse();
+    stats.setBusinessDate(today);
+    stats.setFrom(from);
+    stats.setTo(today);
+
+    DailySalesRollup todayTotal = dailySalesRollupRepository
+      .findByBusinessDateAndDimensionAndDimensionKey(
+        today,
+        Dimension.TOTAL,
+        SalesRollupService.TOTAL_KEY
+      )
+      .orElse(null);
+    stats.setTodayOrders(todayTotal != null ? todayTotal.getOrderCount() : 0L);
+    stats.setTodayRevenue(
+      todayTotal != null ? todayTotal.getRevenue() : BigDecimal.ZERO
+    );
+
+    Object[] allTime = dailySalesRollupRepository.sumAllTotals().get(0);
+    long orderCount = ((Number) allTime[0]).longValue();
+    BigDecimal revenue = new BigDecimal(allTime[1].toString());
+    stats.setAverageOrderValue(
+      orderCount > 0
+        ? revenue.divide(
+          BigDecimal.valueOf(orderCount),
+          2,
+          RoundingMode.HALF_UP
+        )
+        : BigDecimal.ZERO
+    );
+
+    stats.setDaily(
+      dailySalesRollupRepository
+        .findByDimensionAndBusinessDateBetweenOrderByBusinessDate(
+          Dimension.TOTAL,
+          from,
+          today
+        )
+        .stream()
+        .map(row ->
+          new SalesSummaryResponse(
+            row.getBusinessDate().toString(),
+            null,
+            row.getOrderCount(),
+            row.getItemQuantity(),
+            row.getRevenue()
+          )
+        )
+        .collect(Collectors.toList())
+    );
+    List<SalesSummaryResponse> items = sumByKey(Dimension.ITEM, from, today);
+    items = items.subList(0, Math.min(topItems, items.size()));
+    items.forEach(item -> item.setName(menuItemName(item.getKey())));
+    stats.setTopItems(items);
+    stats.setPaymentMethods(sumByKey(Dimension.PAYMENT_METHOD, from, today));
+    return stats;
+  }
+
+  private List<SalesSummaryResponse> sumByKey(
+    Dimension dimension,
+    LocalDate from,
+    LocalDate to
+  ) {
+    return dailySalesRollupRepository
+      .sumByKeyBetween(dimension, from, to)
+      .stream()
+      .map(row ->
+        new SalesSummaryResponse(
+          (String) row[0],
+          null,
+          ((Number) row[1]).longValue(),
+          ((Number) row[2]).longValue(),
+          (BigDecimal) row[3]
+        )
+      )
+      .collect(Collectors.toList());
+  }
+
+  private String menuItemName(String menuItemId) {
+    return menuCatalog
+      .snapshot()
+      .findById(Long.valueOf(menuItemId))
+      .map(MenuItemResponse::getName)
+      .orElse(null);
+  }
+}
@@ -0,0 +1,196 @@
+package coffee.astroneko.backend.service;
+
+import coffee.astroneko.backend.dto.response.MenuItemResponse;
+import coffee.astroneko.backend.entity.MenuItem;
+import coffee.astroneko.backend.repository.MenuItemRepository;
+import coffee.astroneko.backend.util.AfterCommit;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * Read-through, in-process cache of the menu. Holds the current
+ * {@link MenuCatalogSnapshot} and swaps in a new one atomically whenever a
+ * menu write commits. Writes that commit close together can be applied out
+ * of order, so an item older than the one already held is dropped.
+ */
+@Service
+public class MenuCatalog {
+
+  @Autowired
+  private MenuItemRepository menuItemRepository;
+
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  private final AtomicReference<MenuCatalogSnapshot> current =
+    new AtomicReference<>();
+
+  // Seeded from the clock so versions (and ETags built on them) are not
+  // reused across restarts
+  private long lastVersion = System.currentTimeMillis();
+
+  // Removed items remembered so a late, stale upsert cannot bring them back
+  private static final int MAX_REMOVED = 10_000;
+  private final Map<Long, LocalDateTime> removed = new LinkedHashMap<>() {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<Long, LocalDateTime> e) {
+      return size() > MAX_REMOVED;
+    }
+  };
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void warmUp() {
+    reload();
+  }
+
+  /**
+   * Current snapshot, loading it from the database on first use
+   */
+  public MenuCatalogSnapshot snapshot() {
+    MenuCatalogSnapshot snapshot = current.get();
+    if (snapshot != null) {
+      return snapshot;
+    }
+    synchronized (this) {
+      snapshot = current.get();
+      return snapshot != null ? snapshot : reload();
+    }
+  }
+
+  public long version() {
+    return snapshot().getVersion();
+  }
+
+  /**
+   * Rebuild the snapshot from the database
+   */
+  public synchronized MenuCatalogSnapshot reload() {
+    List<MenuItemResponse> items = new ArrayList<>();
+    Map<Long, List<PromoWindow>> promoWindows = new HashMap<>();
+    for (MenuItem menuItem : menuItemRepository.findAllNotDeletedWithPromos()) {
+      items.add(MenuItemResponse.from(menuItem));
+      promoWindows.put(menuItem.getId(), promoWindowsOf(menuItem));
+    }
+    MenuCatalogSnapshot next = MenuCatalogSnapshot.of(
+      nextVersion(),
+      items,
+      promoWindows
+    );
+    current.set(next);
+    return next;
+  }
+
+  /**
+   * Publish a written menu item once the surrounding transaction commits.
+   * The write is flushed first so updatedAt is stamped, and the response
+   * is captured now, while the entity is still managed.
+   */
+  public void publish(MenuItem menuItem) {
+    entityManager.flush();
+    Long id = menuItem.getId();
+    if (Boolean.TRUE.equals(menuItem.getIsDeleted())) {
+      LocalDateTime removedAt = menuItem.getUpdatedAt();
+      AfterCommit.run(() -> remove(id, removedAt));
+    } else {
+      MenuItemResponse item = MenuItemResponse.from(menuItem);
+      List<PromoWindow> windows = promoWindowsOf(menuItem);
+      AfterCommit.run(() -> upsert(item, windows));
+    }
+  }
+
+  /**
+   * Apply flushed weekly/monthly buy counts without reloading from the
+   * database. Both maps are keyed by menu item id.
+   */
+  public synchronized void updateBuys(
+    Map<Long, Integer> weeklyBuys,
+    Map<Long, Integer> monthlyBuys
+  ) {
+    MenuCatalogSnapshot snapshot = current.get();
+    if (snapshot == null || weeklyBuys.isEmpty()) {
+      return;
+    }
+
+    List<MenuItemResponse> replaced = new ArrayList<>();
+    weeklyBuys.forEach((id, weekly) ->
+      snapshot
+        .findById(id)
+        .ifPresent(item -> {
+          MenuItemResponse copy = new MenuItemResponse(item);
+          copy.setWeeklyBuys(weekly);
+          copy.setMonthlyBuys(monthlyBuys.get(id));
+          replaced.add(copy);
+        })
+    );
+    if (!replaced.isEmpty()) {
+      current.set(snapshot.withItems(nextVersion(), replaced));
+    }
+  }
+
+  private synchronized void upsert(
+    MenuItemResponse item,
+    List<PromoWindow> windows
+  ) {
+    MenuCatalogSnapshot snapshot = current.get();
+    if (snapshot == null) {
+      reload();
+      return;
+    }
+    LocalDateTime heldAt = snapshot
+      .findById(item.getId())
+      .map(MenuItemResponse::getUpdatedAt)
+      .orElse(null);
+    if (
+      isOlder(item.getUpdatedAt(), heldAt) ||
+      isOlder(item.getUpdatedAt(), removed.get(item.getId()))
+    ) {
+      return;
+    }
+    removed.remove(item.getId());
+    current.set(snapshot.withItem(nextVersion(), item, windows));
+  }
+
+  private synchronized void remove(Long id, LocalDateTime removedAt) {
+    MenuCatalogSnapshot snapshot = current.get();
+    if (snapshot == null) {
+      reload();
+      return;
+    }
+    LocalDateTime heldAt = snapshot
+      .findById(id)
+      .map(MenuItemResponse::getUpdatedAt)
+      .orElse(null);
+    if (isOlder(removedAt, heldAt)) {
+      return;
+    }
+    removed.put(id, removedAt);
+    current.set(snapshot.withoutItem(nextVersion(), id));
+  }
+
+  private static boolean isOlder(LocalDateTime time, LocalDateTime than) {
+    return time != null && than != null && time.isBefore(than);
+  }
+
+  private static List<PromoWindow> promoWindowsOf(MenuItem menuItem) {
+    if (menuItem.getPromos() == null) {
+      return List.of();
+    }
+    return menuItem.getPromos().stream().map(PromoWindow::from).toList();
+  }
+
+  private long nextVersion() {
+    lastVersion++;
+    return lastVersion;
+  }
+}
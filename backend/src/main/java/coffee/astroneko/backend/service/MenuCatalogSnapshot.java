@@ -0,0 +1,638 @@
+package coffee.astroneko.backend.service;
+
+import coffee.astroneko.backend.dto.response.MenuFacetsResponse;
+import coffee.astroneko.backend.dto.response.MenuItemResponse;
+import coffee.astroneko.backend.entity.MenuItem;
+import coffee.astroneko.backend.entity.MenuItem.ItemType;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.stream.IntStream;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Immutable, versioned view of every non-deleted menu item, pre-indexed by
+ * type, by tag and by the boolean flags the menu screens filter on. A new
+ * snapshot is built for every menu write; readers never block and never
+ * touch JDBC.
+ *
+ * Each index is a bitset over item positions, so any filter combination is
+ * a few bitwise ANDs. Positions are listed once per sort order and reused,
+ * so a page is a walk down that list picking the set bits.
+ */
+public final class MenuCatalogSnapshot {
+
+  private static final Map<String, SortKey<?>> SORT_PROPERTIES =
+    sortProperties();
+
+  // Sort orders remembered per snapshot; the menu screens use a handful
+  private static final int MAX_CACHED_ORDERS = 32;
+
+  private static final BitSet NONE = new BitSet();
+
+  private final long version;
+  private final List<MenuItemResponse> items;
+  private final Map<Long, MenuItemResponse> byId;
+  // Bit i stands for items.get(i); the sets are never handed out or changed
+  private final BitSet all;
+  private final Map<ItemType, BitSet> byType;
+  private final Map<Boolean, BitSet> byInStock;
+  private final Map<Boolean, BitSet> byOnSale;
+  private final Map<Boolean, BitSet> byCombo;
+  private final Map<String, BitSet> byTag;
+  private final Map<Long, Set<String>> tagsById;
+  private final Map<Long, List<PromoWindow>> promoWindows;
+  // Item positions in sort order, built on first use of each sort
+  private final Map<Sort, int[]> orders = new ConcurrentHashMap<>();
+
+  private MenuCatalogSnapshot(
+    long version,
+    List<MenuItemResponse> items,
+    Map<Long, List<PromoWindow>> promoWindows
+  ) {
+    this.version = version;
+
+    List<MenuItemResponse> sorted = new ArrayList<>(items);
+    sorted.sort(Comparator.comparing(MenuItemResponse::getId));
+    this.items = Collections.unmodifiableList(sorted);
+
+    Map<Long, MenuItemResponse> ids = new HashMap<>();
+    Map<ItemType, BitSet> types = new EnumMap<>(ItemType.class);
+    Map<Boolean, BitSet> inStock = new HashMap<>();
+    Map<Boolean, BitSet> onSale = new HashMap<>();
+    Map<Boolean, BitSet> combo = new HashMap<>();
+    Map<String, BitSet> tags = new HashMap<>();
+    Map<Long, Set<String>> itemTags = new HashMap<>();
+
+    for (int position = 0; position < sorted.size(); position++) {
+      MenuItemResponse item = sorted.get(position);
+      ids.put(item.getId(), item);
+      Set<String> parsed = MenuItem.parseTags(item.getTags());
+      itemTags.put(item.getId(), Collections.unmodifiableSet(parsed));
+      for (String tag : parsed) {
+        index(tags, tag, position);
+      }
+      index(types, item.getType(), position);
+      index(inStock, item.getInStock(), position);
+      index(onSale, item.getIsOnSale(), position);
+      index(combo, item.getIsCombo(), position);
+    }
+
+    this.byId = Collections.unmodifiableMap(ids);
+    this.all = new BitSet(sorted.size());
+    this.all.set(0, sorted.size());
+    this.byType = Collections.unmodifiableMap(types);
+    this.byInStock = Collections.unmodifiableMap(inStock);
+    this.byOnSale = Collections.unmodifiableMap(onSale);
+    this.byCombo = Collections.unmodifiableMap(combo);
+    this.byTag = Collections.unmodifiableMap(tags);
+    this.tagsById = Collections.unmodifiableMap(itemTags);
+
+    Map<Long, List<PromoWindow>> windows = new HashMap<>();
+    promoWindows.forEach((id, list) -> {
+      if (ids.containsKey(id) && !list.isEmpty()) {
+        windows.put(id, List.copyOf(list));
+      }
+    });
+    this.promoWindows = Collections.unmodifiableMap(windows);
+  }
+
+  public static MenuCatalogSnapshot of(
+    long version,
+    List<MenuItemResponse> items,
+    Map<Long, List<PromoWindow>> promoWindows
+  ) {
+    return new MenuCatalogSnapshot(version, items, promoWindows);
+  }
+
+  public long getVersion() {
+    return version;
+  }
+
+  public List<MenuItemResponse> getItems() {
+    return items;
+  }
+
+  public int size() {
+    return items.size();
+  }
+
+  public Optional<MenuItemResponse> findById(Long id) {
+    return Optional.ofNullable(byId.get(id));
+  }
+
+  /**
+   * Windows of the promos linked to an item, empty when it has none
+   */
+  public List<PromoWindow> getPromoWindows(Long id) {
+    return promoWindows.getOrDefault(id, List.of());
+  }
+
+  /**
+   * Copy of this snapshot with the given item added or replaced
+   */
+  public MenuCatalogSnapshot withItem(
+    long newVersion,
+    MenuItemResponse item,
+    List<PromoWindow> windows
+  ) {
+    Map<Long, MenuItemResponse> next = new LinkedHashMap<>(byId);
+    next.put(item.getId(), item);
+    Map<Long, List<PromoWindow>> nextWindows = new HashMap<>(promoWindows);
+    nextWindows.put(item.getId(), windows);
+    return new MenuCatalogSnapshot(
+      newVersion,
+      new ArrayList<>(next.values()),
+      nextWindows
+    );
+  }
+
+  /**
+   * Copy of this snapshot with several existing items replaced; items that
+   * are no longer in the catalog are ignored
+   */
+  public MenuCatalogSnapshot withItems(
+    long newVersion,
+    List<MenuItemResponse> replaced
+  ) {
+    Map<Long, MenuItemResponse> next = new LinkedHashMap<>(byId);
+    for (MenuItemResponse item : replaced) {
+      next.replace(item.getId(), item);
+    }
+    return new MenuCatalogSnapshot(
+      newVersion,
+      new ArrayList<>(next.values()),
+      promoWindows
+    );
+  }
+
+  /**
+   * Copy of this snapshot with the given item removed
+   */
+  public MenuCatalogSnapshot withoutItem(long newVersion, Long id) {
+    Map<Long, MenuItemResponse> next = new LinkedHashMap<>(byId);
+    next.remove(id);
+    return new MenuCatalogSnapshot(
+      newVersion,
+      new ArrayList<>(next.values()),
+      promoWindows
+    );
+  }
+
+  /**
+   * Distinct normalized tags of an item, empty when it has none
+   */
+  public Set<String> getTags(Long id) {
+    return tagsById.getOrDefault(id, Set.of());
+  }
+
+  public List<MenuItemResponse> filter(
+    ItemType type,
+    Boolean inStock,
+    Boolean isOnSale,
+    Boolean isCombo
+  ) {
+    return filter(type, inStock, isOnSale, isCombo, TagFilter.NONE);
+  }
+
+  /**
+   * Items matching every non-null filter and the tag filter, in id order.
+   * Mirrors the semantics of MenuItemRepository.findMenuItemsWithFilters.
+   */
+  public List<MenuItemResponse> filter(
+    ItemType type,
+    Boolean inStock,
+    Boolean isOnSale,
+    Boolean isCombo,
+    TagFilter tags
+  ) {
+    BitSet matches = intersect(
+      tagged(tags),
+      selected(byType, type),
+      selected(byInStock, inStock),
+      selected(byOnSale, isOnSale),
+      selected(byCombo, isCombo)
+    );
+    List<MenuItemResponse> result = new ArrayList<>(matches.cardinality());
+    for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1)) {
+      result.add(items.get(i));
+    }
+    return result;
+  }
+
+  /**
+   * Facet counts for a filter selection. An item counts towards a facet
+   * value when it passes every filter except that facet's own, so each
+   * count is what selecting the value would show.
+   */
+  public MenuFacetsResponse facets(
+    ItemType type,
+    Boolean inStock,
+    Boolean isOnSale,
+    Boolean isCombo,
+    TagFilter tags
+  ) {
+    BitSet tagBits = tagged(tags);
+    BitSet typeBits = selected(byType, type);
+    BitSet stockBits = selected(byInStock, inStock);
+    BitSet saleBits = selected(byOnSale, isOnSale);
+    BitSet comboBits = selected(byCombo, isCombo);
+
+    BitSet exceptType = intersect(tagBits, stockBits, saleBits, comboBits);
+    Map<ItemType, Long> typeCounts = new EnumMap<>(ItemType.class);
+    for (ItemType value : ItemType.values()) {
+      typeCounts.put(value, countWith(exceptType, byType.get(value)));
+    }
+    BitSet matches = intersect(exceptType, typeBits);
+
+    return new MenuFacetsResponse(
+      version,
+      matches.cardinality(),
+      typeCounts,
+      flagCounts(intersect(tagBits, typeBits, saleBits, comboBits), byInStock),
+      flagCounts(intersect(tagBits, typeBits, stockBits, comboBits), byOnSale),
+      flagCounts(intersect(tagBits, typeBits, stockBits, saleBits), byCombo)
+    );
+  }
+
+  public Page<MenuItemResponse> page(
+    ItemType type,
+    Boolean inStock,
+    Boolean isOnSale,
+    Boolean isCombo,
+    Pageable pageable
+  ) {
+    return page(type, inStock, isOnSale, isCombo, TagFilter.NONE, pageable);
+  }
+
+  /**
+   * Filter, sort and slice the catalog the same way the paged JPQL query does
+   */
+  public Page<MenuItemResponse> page(
+    ItemType type,
+    Boolean inStock,
+    Boolean isOnSale,
+    Boolean isCombo,
+    TagFilter tags,
+    Pageable pageable
+  ) {
+    BitSet matches = intersect(
+      tagged(tags),
+      selected(byType, type),
+      selected(byInStock, inStock),
+      selected(byOnSale, isOnSale),
+      selected(byCombo, isCombo)
+    );
+    int[] order = orderFor(pageable.getSort());
+
+    long skip = pageable.getOffset();
+    List<MenuItemResponse> content = new ArrayList<>();
+    for (
+      int n = 0;
+      n < order.length && content.size() < pageable.getPageSize();
+      n++
+    ) {
+      if (matches.get(order[n])) {
+        if (skip > 0) {
+          skip--;
+        } else {
+          content.add(items.get(order[n]));
+        }
+      }
+    }
+    return new PageImpl<>(content, pageable, matches.cardinality());
+  }
+
+  /**
+   * Up to limit matching items that sort strictly after the item with the
+   * given id and encoded sort key (see {@link #sortKey}), found by binary
+   * search in the sorted positions. A null id starts from the beginning.
+   */
+  public List<MenuItemResponse> seek(
+    ItemType type,
+    Boolean inStock,
+    Boolean isOnSale,
+    Boolean isCombo,
+    TagFilter tags,
+    Sort.Order sortOrder,
+    Long afterId,
+    String afterKey,
+    int limit
+  ) {
+    BitSet matches = intersect(
+      tagged(tags),
+      selected(byType, type),
+      selected(byInStock, inStock),
+      selected(byOnSale, isOnSale),
+      selected(byCombo, isCombo)
+    );
+    int[] order = orderFor(Sort.by(sortOrder));
+
+    int from = 0;
+    if (afterId != null) {
+      ToIntFunction<MenuItemResponse> key = sortKeyOf(
+        sortOrder.getProperty()
+      ).against(afterKey);
+      int high = order.length;
+      while (from < high) {
+        int mid = (from + high) >>> 1;
+        MenuItemResponse item = items.get(order[mid]);
+        int compared = key.applyAsInt(item);
+        if (sortOrder.isDescending()) {
+          compared = -compared;
+        }
+        if (compared == 0) {
+          compared = item.getId().compareTo(afterId);
+        }
+        if (compared <= 0) {
+          from = mid + 1;
+        } else {
+          high = mid;
+        }
+      }
+    }
+
+    List<MenuItemResponse> result = new ArrayList<>();
+    for (int n = from; n < order.length && result.size() < limit; n++) {
+      if (matches.get(order[n])) {
+        result.add(items.get(order[n]));
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Comparator for a Spring Data sort over MenuItem properties. Nulls sort
+   * last ascending and first descending, matching PostgreSQL; ties fall
+   * back to id so paging is stable.
+   */
+  public static Comparator<MenuItemResponse> comparatorFor(Sort sort) {
+    Comparator<MenuItemResponse> comparator = null;
+    for (Sort.Order order : sort) {
+      Comparator<MenuItemResponse> property = sortKeyOf(
+        order.getProperty()
+      ).comparator();
+      if (order.isDescending()) {
+        property = property.reversed();
+      }
+      comparator = comparator == null
+        ? property
+        : comparator.thenComparing(property);
+    }
+
+    Comparator<MenuItemResponse> byId = Comparator.comparing(
+      MenuItemResponse::getId
+    );
+    return comparator == null ? byId : comparator.thenComparing(byId);
+  }
+
+  /**
+   * An item's value for a sort property, encoded for a cursor; null when
+   * the item has no value
+   */
+  public static String sortKey(String property, MenuItemResponse item) {
+    return sortKeyOf(property).encode(item);
+  }
+
+  private static SortKey<?> sortKeyOf(String property) {
+    SortKey<?> key = SORT_PROPERTIES.get(property);
+    if (key == null) {
+      throw new IllegalArgumentException("Unknown sort property: " + property);
+    }
+    return key;
+  }
+
+  /**
+   * Item positions in the given sort order, sorted once per snapshot
+   */
+  private int[] orderFor(Sort sort) {
+    int[] order = orders.get(sort);
+    if (order != null) {
+      return order;
+    }
+    Comparator<MenuItemResponse> comparator = comparatorFor(sort);
+    order = IntStream.range(0, items.size())
+      .boxed()
+      .sorted((a, b) -> comparator.compare(items.get(a), items.get(b)))
+      .mapToInt(Integer::intValue)
+      .toArray();
+    if (orders.size() < MAX_CACHED_ORDERS) {
+      orders.putIfAbsent(sort, order);
+    }
+    return order;
+  }
+
+  /**
+   * Positions carrying the given value, or every position when no value
+   * is selected
+   */
+  private <K> BitSet selected(Map<K, BitSet> index, K value) {
+    if (value == null) {
+      return all;
+    }
+    return index.getOrDefault(value, NONE);
+  }
+
+  /**
+   * Positions carrying all of the filter's tags, or any one of them
+   */
+  private BitSet tagged(TagFilter tags) {
+    if (tags.isEmpty()) {
+      return all;
+    }
+    BitSet result = null;
+    for (String tag : tags.getTags()) {
+      BitSet bits = byTag.getOrDefault(tag, NONE);
+      if (result == null) {
+        result = (BitSet) bits.clone();
+      } else if (tags.isMatchAll()) {
+        result.and(bits);
+      } else {
+        result.or(bits);
+      }
+    }
+    return result;
+  }
+
+  private static BitSet intersect(BitSet first, BitSet... rest) {
+    BitSet result = (BitSet) first.clone();
+    for (BitSet bits : rest) {
+      result.and(bits);
+    }
+    return result;
+  }
+
+  private static long countWith(BitSet base, BitSet bits) {
+    return bits == null ? 0 : intersect(base, bits).cardinality();
+  }
+
+  private static Map<Boolean, Long> flagCounts(
+    BitSet base,
+    Map<Boolean, BitSet> index
+  ) {
+    Map<Boolean, Long> flags = new LinkedHashMap<>();
+    flags.put(true, countWith(base, index.get(true)));
+    flags.put(false, countWith(base, index.get(false)));
+    return flags;
+  }
+
+  private static <K> void index(Map<K, BitSet> index, K key, int position) {
+    // NULL values match no filter value, same as in SQL
+    if (key != null) {
+      index.computeIfAbsent(key, k -> new BitSet()).set(position);
+    }
+  }
+
+  private static Map<String, SortKey<?>> sortProperties() {
+    Map<String, SortKey<?>> properties = new HashMap<>();
+    properties.put("id", natural(MenuItemResponse::getId, Long::valueOf));
+    properties.put("name", text(MenuItemResponse::getName));
+    properties.put("description", text(MenuItemResponse::getDescription));
+    properties.put(
+      "price",
+      natural(MenuItemResponse::getPrice, Double::valueOf)
+    );
+    properties.put(
+      "originalPrice",
+      natural(MenuItemResponse::getOriginalPrice, Double::valueOf)
+    );
+    properties.put("type", text(item -> nameOf(item.getType())));
+    properties.put(
+      "rating",
+      natural(MenuItemResponse::getRating, Double::valueOf)
+    );
+    properties.put(
+      "reviewsCount",
+      natural(MenuItemResponse::getReviewsCount, Integer::valueOf)
+    );
+    properties.put(
+      "weeklyReviews",
+      natural(MenuItemResponse::getWeeklyReviews, Integer::valueOf)
+    );
+    properties.put(
+      "monthlyReviews",
+      natural(MenuItemResponse::getMonthlyReviews, Integer::valueOf)
+    );
+    properties.put(
+      "weeklyBuys",
+      natural(MenuItemResponse::getWeeklyBuys, Integer::valueOf)
+    );
+    properties.put(
+      "monthlyBuys",
+      natural(MenuItemResponse::getMonthlyBuys, Integer::valueOf)
+    );
+    properties.put(
+      "positiveReviewsWeekly",
+      natural(MenuItemResponse::getPositiveReviewsWeekly, Integer::valueOf)
+    );
+    properties.put(
+      "positiveReviewsMonthly",
+      natural(MenuItemResponse::getPositiveReviewsMonthly, Integer::valueOf)
+    );
+    properties.put("tags", text(MenuItemResponse::getTags));
+    properties.put(
+      "inStock",
+      natural(MenuItemResponse::getInStock, Boolean::valueOf)
+    );
+    properties.put(
+      "isOnSale",
+      natural(MenuItemResponse::getIsOnSale, Boolean::valueOf)
+    );
+    properties.put(
+      "isCombo",
+      natural(MenuItemResponse::getIsCombo, Boolean::valueOf)
+    );
+    properties.put(
+      "createdAt",
+      natural(MenuItemResponse::getCreatedAt, LocalDateTime::parse)
+    );
+    properties.put(
+      "updatedAt",
+      natural(MenuItemResponse::getUpdatedAt, LocalDateTime::parse)
+    );
+    return Collections.unmodifiableMap(properties);
+  }
+
+  /**
+   * A naturally ordered key whose toString() round-trips through parse
+   */
+  private static <T extends Comparable<? super T>> SortKey<T> natural(
+    Function<MenuItemResponse, T> getter,
+    Function<String, T> parse
+  ) {
+    return new SortKey<>(getter, Comparator.naturalOrder(), parse);
+  }
+
+  private static SortKey<String> text(
+    Function<MenuItemResponse, String> getter
+  ) {
+    return new SortKey<>(
+      getter,
+      String.CASE_INSENSITIVE_ORDER,
+      Function.identity()
+    );
+  }
+
+  /**
+   * One sortable property: how to read it from an item, order it (nulls
+   * last) and round-trip it through a cursor as text
+   */
+  private static final class SortKey<T> {
+
+    private final Function<MenuItemResponse, T> getter;
+    private final Comparator<T> order;
+    private final Function<String, T> parse;
+
+    private SortKey(
+      Function<MenuItemResponse, T> getter,
+      Comparator<T> order,
+      Function<String, T> parse
+    ) {
+      this.getter = getter;
+      this.order = Comparator.nullsLast(order);
+      this.parse = parse;
+    }
+
+    Comparator<MenuItemResponse> comparator() {
+      return Comparator.comparing(getter, order);
+    }
+
+    String encode(MenuItemResponse item) {
+      T value = getter.apply(item);
+      return value == null ? null : value.toString();
+    }
+
+    /**
+     * How items compare with an encoded key; a null key is a NULL value
+     */
+    ToIntFunction<MenuItemResponse> against(String encoded) {
+      T key;
+      try {
+        key = encoded == null ? null : parse.apply(encoded);
+      } catch (RuntimeException e) {
+        throw new IllegalArgumentException("Invalid cursor");
+      }
+      return item -> order.compare(getter.apply(item), key);
+    }
+  }
+
+  private static String nameOf(ItemType type) {
+    return Objects.isNull(type) ? null : type.name();
+  }
+}
@@ -2,14 +2,20 @@ package coffee.astroneko.backend.service;
 
 import coffee.astroneko.backend.dto.request.CreateMenuItemRequest;
 import coffee.astroneko.backend.dto.request.UpdateMenuItemRequest;
+import coffee.astroneko.backend.dto.response.CursorPage;
+import coffee.astroneko.backend.dto.response.MenuFacetsResponse;
 import coffee.astroneko.backend.dto.response.MenuItemResponse;
 import coffee.astroneko.backend.entity.MenuItem;
 import coffee.astroneko.backend.entity.MenuItem.ItemType;
 import coffee.astroneko.backend.repository.MenuItemRepository;
+import coffee.astroneko.backend.util.Cursor;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -24,14 +30,22 @@ public class MenuItemService {
   @Autowired
   private MenuItemRepository menuItemRepository;
 
+  @Autowired
+  private MenuCatalog menuCatalog;
+
+  @Autowired
+  private MenuLeaderboard menuLeaderboard;
+
   /**
-   * Get all menu items with pagination and filtering
+   * Get all menu items with pagination and filtering, served from the
+   * in-memory catalog
    */
   public Page<MenuItemResponse> getMenuItems(
     ItemType type,
     Boolean inStock,
     Boolean isOnSale,
     Boolean isCombo,
+    TagFilter tags,
     int page,
     int size,
     String sortBy,
@@ -43,15 +57,92 @@ public class MenuItemService {
     Sort sort = Sort.by(direction, sortBy);
     Pageable pageable = PageRequest.of(page, size, sort);
 
-    Page<MenuItem> menuItems = menuItemRepository.findMenuItemsWithFilters(
-      type,
-      inStock,
-      isOnSale,
-      isCombo,
-      pageable
-    );
+    return menuCatalog
+      .snapshot()
+      .page(type, inStock, isOnSale, isCombo, tags, pageable);
+  }
 
-    return menuItems.map(MenuItemResponse::from);
+  /**
+   * Filter chip counts for the public menu, over in-stock items only,
+   * computed from the in-memory catalog
+   */
+  public MenuFacetsResponse getPublicMenuFacets(
+    ItemType type,
+    Boolean isOnSale,
+    Boolean isCombo,
+    TagFilter tags
+  ) {
+    // Same in-stock pin as the public listing; the stock facet would
+    // otherwise count the hidden items
+    MenuFacetsResponse facets = menuCatalog
+      .snapshot()
+      .facets(type, true, isOnSale, isCombo, tags);
+    Map<Boolean, Long> inStock = new LinkedHashMap<>();
+    inStock.put(true, facets.getTotal());
+    inStock.put(false, 0L);
+    facets.setInStock(inStock);
+    return facets;
+  }
+
+  /**
+   * Keyset-paginated menu items. The cursor carries the sort key and id of
+   * the last item returned, so pages stay stable while the menu changes.
+   */
+  public CursorPage<MenuItemResponse> getMenuItemsAfterCursor(
+    ItemType type,
+    Boolean inStock,
+    Boolean isOnSale,
+    Boolean isCombo,
+    TagFilter tags,
+    String cursor,
+    int size,
+    String sortBy,
+    String sortDir
+  ) {
+    if (size < 1) {
+      throw new IllegalArgumentException("Page size must not be less than one");
+    }
+    Sort.Direction direction = sortDir.equalsIgnoreCase("desc")
+      ? Sort.Direction.DESC
+      : Sort.Direction.ASC;
+    Sort.Order sortOrder = new Sort.Order(direction, sortBy);
+
+    Long afterId = null;
+    String afterKey = null;
+    if (cursor != null && !cursor.isEmpty()) {
+      Cursor decoded = Cursor.decode(cursor);
+      decoded.checkSort(sortBy, sortDir);
+      afterId = decoded.getId();
+      afterKey = decoded.getValue();
+    }
+
+    List<MenuItemResponse> rows = menuCatalog
+      .snapshot()
+      .seek(
+        type,
+        inStock,
+        isOnSale,
+        isCombo,
+        tags,
+        sortOrder,
+        afterId,
+        afterKey,
+        size + 1
+      );
+
+    boolean hasNext = rows.size() > size;
+    List<MenuItemResponse> items = hasNext ? rows.subList(0, size) : rows;
+    String nextCursor = null;
+    if (hasNext) {
+      MenuItemResponse last = items.get(items.size() - 1);
+      nextCursor = Cursor.of(
+        sortBy,
+        sortDir,
+        last.getId(),
+        MenuCatalogSnapshot.sortKey(sortBy, last)
+      ).encode();
+    }
+    return new CursorPage<>(items, nextCursor, size);
   }
 
   /**
@@ -59,6 +150,7 @@ public class MenuItemService {
    */
   public Page<MenuItemResponse> getPublicMenuItems(
     ItemType type,
+    TagFilter tags,
     int page,
     int size,
     String sortBy,
@@ -71,24 +163,16 @@ public class MenuItemService {
     Pageable pageable = PageRequest.of(page, size, sort);
 
     // Only show in-stock items for public menu
-    Page<MenuItem> menuItems = menuItemRepository.findMenuItemsWithFilters(
-      type,
-      true,
-      null,
-      null,
-      pageable
-    );
-
-    return menuItems.map(MenuItemResponse::from);
+    return menuCatalog
+      .snapshot()
+      .page(type, true, null, null, tags, pageable);
   }
 
   /**
    * Get menu item by ID
    */
   public Optional<MenuItemResponse> getMenuItemById(Long id) {
-    return menuItemRepository
-      .findByIdAndIsDeletedFalse(id)
-      .map(MenuItemResponse::from);
+    return menuCatalog.snapshot().findById(id);
   }
 
   /**
@@ -116,6 +200,7 @@ public class MenuItemService {
     );
 
     MenuItem savedMenuItem = menuItemRepository.save(menuItem);
+    menuCatalog.publish(savedMenuItem);
     return MenuItemResponse.from(savedMenuItem);
   }
 
@@ -163,6 +248,7 @@ public class MenuItemService {
         }
 
         MenuItem updatedMenuItem = menuItemRepository.save(menuItem);
+        menuCatalog.publish(updatedMenuItem);
         return MenuItemResponse.from(updatedMenuItem);
       });
   }
@@ -183,6 +269,7 @@ public class MenuItemService {
       .map(menuItem -> {
         menuItem.setInStock(inStock);
         MenuItem updatedMenuItem = menuItemRepository.save(menuItem);
+        menuCatalog.publish(updatedMenuItem);
         return MenuItemResponse.from(updatedMenuItem);
       });
   }
@@ -197,7 +284,7 @@ public class MenuItemService {
       .findByIdAndIsDeletedFalse(id)
       .map(menuItem -> {
         menuItem.setInStock(false);
-        menuItemRepository.save(menuItem);
+        menuCatalog.publish(menuItemRepository.save(menuItem));
         return true;
       })
       .orElse(false);
@@ -215,57 +302,50 @@ public class MenuItemService {
       MenuItem menuItem = menuItemOpt.get();
       if (!menuItem.getIsDeleted()) {
         menuItem.setIsDeleted(true);
-        menuItemRepository.save(menuItem);
+        menuCatalog.publish(menuItemRepository.save(menuItem));
         return true;
       }
     }
     return false;
   }
 
+  /**
+   * Copy tags into menu_item_tags for items saved before the tag table
+   * existed; a no-op once every item is in step
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  @Transactional
+  public void backfillTags() {
+    for (MenuItem menuItem : menuItemRepository.findItemsWithUnsyncedTags()) {
+      menuItem.setTags(menuItem.getTags());
+    }
+  }
+
   /**
    * Get top bought items for recommendations
    */
   public List<MenuItemResponse> getTopBoughtItems(int limit) {
-    Pageable pageable = PageRequest.of(0, limit);
-    List<MenuItem> items = menuItemRepository.findTopBoughtItems(pageable);
-    return items
-      .stream()
-      .map(MenuItemResponse::from)
-      .collect(Collectors.toList());
+    return menuLeaderboard.topBought(limit);
   }
 
   /**
    * Get top rated items for favorites
    */
   public List<MenuItemResponse> getTopRatedItems(int limit) {
-    Pageable pageable = PageRequest.of(0, limit);
-    List<MenuItem> items = menuItemRepository.findTopRatedItems(pageable);
-    return items
-      .stream()
-      .map(MenuItemResponse::from)
-      .collect(Collectors.toList());
+    return menuLeaderboard.topRated(limit);
   }
 
   /**
    * Get promotional items
    */
   public List<MenuItemResponse> getPromotionalItems(int limit) {
-    Pageable pageable = PageRequest.of(0, limit);
-    List<MenuItem> items = menuItemRepository.findPromotionalItems(pageable);
-    return items
-      .stream()
-      .map(MenuItemResponse::from)
-      .collect(Collectors.toList());
+    return menuLeaderboard.promotional(limit);
   }
 
   /**
    * Get items by type (excluding soft deleted)
    */
   public List<MenuItemResponse> getItemsByType(ItemType type) {
-    List<MenuItem> items = menuItemRepository.findByTypeAndIsDeletedFalse(type);
-    return items
-      .stream()
-      .map(MenuItemResponse::from)
-      .collect(Collectors.toList());
+    return menuCatalog.snapshot().filter(type, null, null, null);
   }
 }
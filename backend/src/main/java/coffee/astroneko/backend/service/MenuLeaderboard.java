@@ -0,0 +1,213 @@
+package coffee.astroneko.backend.service;
+
+import coffee.astroneko.backend.dto.response.MenuItemResponse;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.Predicate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Precomputed top-K rankings for the recommendations, favorites and
+ * promotions endpoints. Boards are rebuilt from the menu catalog whenever it
+ * moves to a new version, so reads are a copy of at most K entries.
+ */
+@Service
+public class MenuLeaderboard {
+
+  private static final Comparator<MenuItemResponse> BY_MONTHLY_BUYS =
+    Comparator.comparing(
+      MenuItemResponse::getMonthlyBuys,
+      Comparator.nullsFirst(Comparator.<Integer>naturalOrder())
+    )
+      .reversed()
+      .thenComparing(MenuItemResponse::getId);
+
+  private static final Comparator<MenuItemResponse> BY_RATING =
+    Comparator.comparing(
+      MenuItemResponse::getRating,
+      Comparator.nullsFirst(Comparator.<Double>naturalOrder())
+    )
+      .reversed()
+      .thenComparing(BY_MONTHLY_BUYS);
+
+  @Autowired
+  private MenuCatalog menuCatalog;
+
+  @Value("${app.menu.leaderboard-size:50}")
+  private int capacity;
+
+  private volatile Boards boards;
+
+  /**
+   * In-stock items with the most monthly buys
+   */
+  public List<MenuItemResponse> topBought(int limit) {
+    checkLimit(limit);
+    Boards current = current();
+    if (limit > capacity) {
+      return topK(current.snapshot, this::isInStock, BY_MONTHLY_BUYS, limit);
+    }
+    return head(current.topBought, limit);
+  }
+
+  /**
+   * In-stock, rated items ordered by rating then monthly buys
+   */
+  public List<MenuItemResponse> topRated(int limit) {
+    checkLimit(limit);
+    Boards current = current();
+    if (limit > capacity) {
+      return topK(current.snapshot, this::isRated, BY_RATING, limit);
+    }
+    return head(current.topRated, limit);
+  }
+
+  /**
+   * In-stock items with a promo running right now, by monthly buys
+   */
+  public List<MenuItemResponse> promotional(int limit) {
+    checkLimit(limit);
+    Boards current = current();
+    LocalDateTime now = LocalDateTime.now();
+
+    // Candidates hold every item with a promo that has not ended yet, so
+    // only the start/end check is left for read time
+    List<MenuItemResponse> result = new ArrayList<>(limit);
+    for (MenuItemResponse item : current.promotional) {
+      if (result.size() == limit) {
+        break;
+      }
+      if (hasPromoAt(current.snapshot, item, now)) {
+        result.add(item);
+      }
+    }
+    return result;
+  }
+
+  private Boards current() {
+    MenuCatalogSnapshot snapshot = menuCatalog.snapshot();
+    Boards current = boards;
+    if (current != null && current.snapshot == snapshot) {
+      return current;
+    }
+    synchronized (this) {
+      current = boards;
+      if (current == null || current.snapshot != snapshot) {
+        current = build(snapshot);
+        boards = current;
+      }
+      return current;
+    }
+  }
+
+  private Boards build(MenuCatalogSnapshot snapshot) {
+    LocalDateTime now = LocalDateTime.now();
+    List<MenuItemResponse> promotional = new ArrayList<>();
+    for (MenuItemResponse item : snapshot.getItems()) {
+      if (
+        isInStock(item) &&
+        snapshot
+          .getPromoWindows(item.getId())
+          .stream()
+          .anyMatch(window -> window.isLiveAfter(now))
+      ) {
+        promotional.add(item);
+      }
+    }
+    promotional.sort(BY_MONTHLY_BUYS);
+
+    return new Boards(
+      snapshot,
+      topK(snapshot, this::isInStock, BY_MONTHLY_BUYS, capacity),
+      topK(snapshot, this::isRated, BY_RATING, capacity),
+      Collections.unmodifiableList(promotional)
+    );
+  }
+
+  /**
+   * Best k matching items using a bounded heap, O(n log k)
+   */
+  private static List<MenuItemResponse> topK(
+    MenuCatalogSnapshot snapshot,
+    Predicate<MenuItemResponse> filter,
+    Comparator<MenuItemResponse> ranking,
+    int k
+  ) {
+    // Head of the heap is the weakest entry kept so far
+    PriorityQueue<MenuItemResponse> heap = new PriorityQueue<>(
+      k + 1,
+      ranking.reversed()
+    );
+    for (MenuItemResponse item : snapshot.getItems()) {
+      if (!filter.test(item)) {
+        continue;
+      }
+      heap.offer(item);
+      if (heap.size() > k) {
+        heap.poll();
+      }
+    }
+
+    List<MenuItemResponse> result = new ArrayList<>(heap);
+    result.sort(ranking);
+    return Collections.unmodifiableList(result);
+  }
+
+  private static List<MenuItemResponse> head(
+    List<MenuItemResponse> board,
+    int limit
+  ) {
+    return new ArrayList<>(board.subList(0, Math.min(limit, board.size())));
+  }
+
+  private static boolean hasPromoAt(
+    MenuCatalogSnapshot snapshot,
+    MenuItemResponse item,
+    LocalDateTime now
+  ) {
+    return snapshot
+      .getPromoWindows(item.getId())
+      .stream()
+      .anyMatch(window -> window.isActiveAt(now));
+  }
+
+  private boolean isInStock(MenuItemResponse item) {
+    return Boolean.TRUE.equals(item.getInStock());
+  }
+
+  private boolean isRated(MenuItemResponse item) {
+    return isInStock(item) && item.getRating() != null && item.getRating() > 0;
+  }
+
+  private static void checkLimit(int limit) {
+    if (limit < 1) {
+      throw new IllegalArgumentException("Limit must not be less than one");
+    }
+  }
+
+  private static final class Boards {
+
+    private final MenuCatalogSnapshot snapshot;
+    private final List<MenuItemResponse> topBought;
+    private final List<MenuItemResponse> topRated;
+    private final List<MenuItemResponse> promotional;
+
+    private Boards(
+      MenuCatalogSnapshot snapshot,
+      List<MenuItemResponse> topBought,
+      List<MenuItemResponse> topRated,
+      List<MenuItemResponse> promotional
+    ) {
+      this.snapshot = snapshot;
+      this.topBought = topBought;
+      this.topRated = topRated;
+      this.promotional = promotional;
+    }
+  }
+}
@@ -0,0 +1,166 @@
+package coffee.astroneko.backend.service;
+
+import coffee.astroneko.backend.dto.response.MenuItemResponse;
+import coffee.astroneko.backend.entity.MenuItem.ItemType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Service;
+
+/**
+ * Keeps the encoded JSON of public menu pages, keyed by query and tagged
+ * with a strong ETag derived from the catalog version. Entries are dropped
+ * as soon as the catalog moves to a new version, and every entry carries
+ * the version it was built from, so a page that lands after the clear is
+ * never served for a newer version.
+ */
+@Service
+public class MenuPageCache {
+
+  private static final int MAX_ENTRIES = 512;
+
+  @Autowired
+  private MenuCatalog menuCatalog;
+
+  @Autowired
+  private MenuItemService menuItemService;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  private final Map<String, CachedPage> pages = new ConcurrentHashMap<>();
+
+  private volatile long cachedVersion = -1;
+
+  /**
+   * ETag the given public menu page has at the current catalog version
+   */
+  public String currentEtag(
+    ItemType type,
+    TagFilter tags,
+    int page,
+    int size,
+    String sortBy,
+    String sortDir
+  ) {
+    return etag(
+      menuCatalog.version(),
+      key(type, tags, page, size, sortBy, sortDir)
+    );
+  }
+
+  /**
+   * Encoded public menu page, built and cached on first request
+   */
+  public CachedPage getPublicPage(
+    ItemType type,
+    TagFilter tags,
+    int page,
+    int size,
+    String sortBy,
+    String sortDir
+  ) {
+    long version = menuCatalog.version();
+    if (version != cachedVersion) {
+      pages.clear();
+      cachedVersion = version;
+    }
+
+    String key = key(type, tags, page, size, sortBy, sortDir);
+    CachedPage cached = pages.get(key);
+    if (cached != null) {
+      if (cached.getVersion() == version) {
+        return cached;
+      }
+      // A page built from an older version slipped in after the clear
+      pages.remove(key, cached);
+    }
+
+    Page<MenuItemResponse> menuItems = menuItemService.getPublicMenuItems(
+      type,
+      tags,
+      page,
+      size,
+      sortBy,
+      sortDir
+    );
+    cached = new CachedPage(version, etag(version, key), encode(menuItems));
+
+    // Only keep pages that were built from the version they are tagged with
+    if (menuCatalog.version() == version) {
+      if (pages.size() >= MAX_ENTRIES) {
+        pages.clear();
+      }
+      pages.put(key, cached);
+    }
+    return cached;
+  }
+
+  private byte[] encode(Page<MenuItemResponse> menuItems) {
+    try {
+      return objectMapper.writeValueAsBytes(menuItems);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Failed to encode menu page", e);
+    }
+  }
+
+  private static String key(
+    ItemType type,
+    TagFilter tags,
+    int page,
+    int size,
+    String sortBy,
+    String sortDir
+  ) {
+    return (
+      type +
+      "|" +
+      tags.key() +
+      "|" +
+      page +
+      "|" +
+      size +
+      "|" +
+      sortBy +
+      "|" +
+      sortDir.toLowerCase()
+    );
+  }
+
+  private static String etag(long version, String key) {
+    return (
+      "\"menu-" + version + "-" + Integer.toHexString(key.hashCode()) + "\""
+    );
+  }
+
+  /**
+   * Encoded page body and its ETag
+   */
+  public static final class CachedPage {
+
+    private final long version;
+    private final String etag;
+    private final byte[] body;
+
+    public CachedPage(long version, String etag, byte[] body) {
+      this.version = version;
+      this.etag = etag;
+      this.body = body;
+    }
+
+    public long getVersion() {
+      return version;
+    }
+
+    public String getEtag() {
+      return etag;
+    }
+
+    public byte[] getBody() {
+      return body;
+    }
+  }
+}
@@ -0,0 +1,76 @@
+package coffee.astroneko.backend.service;
+
+import coffee.astroneko.backend.dto.response.MenuItemResponse;
+import coffee.astroneko.backend.entity.MenuItem.ItemType;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+/**
+ * Full-text menu search over a {@link MenuSearchIndex} built from the
+ * current catalog snapshot. The index is rebuilt the first time it is used
+ * after a menu write.
+ */
+@Service
+public class MenuSearch {
+
+  private static final int MAX_LIMIT = 50;
+
+  @Autowired
+  private MenuCatalog menuCatalog;
+
+  private volatile Indexed indexed;
+
+  /**
+   * In-stock items matching the query, optionally of one type, best first
+   */
+  public List<MenuItemResponse> searchPublic(
+    String query,
+    ItemType type,
+    int limit
+  ) {
+    if (limit < 1 || limit > MAX_LIMIT) {
+      throw new IllegalArgumentException(
+        "Limit must be between 1 and " + MAX_LIMIT
+      );
+    }
+    return current()
+      .search(
+        query,
+        item ->
+          Boolean.TRUE.equals(item.getInStock()) &&
+          (type == null || type == item.getType()),
+        limit
+      );
+  }
+
+  private MenuSearchIndex current() {
+    MenuCatalogSnapshot snapshot = menuCatalog.snapshot();
+    Indexed current = indexed;
+    if (current != null && current.snapshot == snapshot) {
+      return current.index;
+    }
+    synchronized (this) {
+      current = indexed;
+      if (current == null || current.snapshot != snapshot) {
+        current = new Indexed(
+          snapshot,
+          MenuSearchIndex.of(snapshot.getItems())
+        );
+        indexed = current;
+      }
+      return current.index;
+    }
+  }
+
+  private static final class Indexed {
+
+    private final MenuCatalogSnapshot snapshot;
+    private final MenuSearchIndex index;
+
+    private Indexed(MenuCatalogSnapshot snapshot, MenuSearchIndex index) {
+      this.snapshot = snapshot;
+      this.index = index;
+    }
+  }
+}
@@ -0,0 +1,277 @@
+package coffee.astroneko.backend.service;
+
+import coffee.astroneko.backend.dto.response.MenuItemResponse;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * Immutable inverted index over menu item names, tags and descriptions.
+ * Every term is indexed under each of its prefixes, for typeahead, and
+ * under its trigrams, so a fragment from the middle of a word
+ * ("spresso") still finds it.
+ */
+public final class MenuSearchIndex {
+
+  private static final int NAME_WEIGHT = 4;
+  private static final int TAG_WEIGHT = 2;
+  private static final int DESCRIPTION_WEIGHT = 1;
+  // Longer query tokens are looked up by their first MAX_PREFIX chars
+  private static final int MAX_PREFIX = 16;
+  private static final int GRAM = 3;
+
+  private static final Pattern SEPARATORS = Pattern.compile(
+    "[^\\p{L}\\p{N}]+"
+  );
+  private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+
+  private static final Comparator<MenuItemResponse> BY_MONTHLY_BUYS =
+    Comparator.comparing(
+      MenuItemResponse::getMonthlyBuys,
+      Comparator.nullsFirst(Comparator.<Integer>naturalOrder())
+    ).reversed();
+
+  private final List<MenuItemResponse> items;
+  private final String[] terms;
+  // Per term: the items containing it and the best field weight in each
+  private final int[][] postingItems;
+  private final int[][] postingWeights;
+  private final Map<String, int[]> byPrefix;
+  private final Map<String, int[]> byTrigram;
+
+  private MenuSearchIndex(List<MenuItemResponse> items) {
+    this.items = List.copyOf(items);
+
+    Map<String, Map<Integer, Integer>> postings = new TreeMap<>();
+    for (int i = 0; i < this.items.size(); i++) {
+      MenuItemResponse item = this.items.get(i);
+      addField(postings, i, item.getName(), NAME_WEIGHT);
+      if (item.getTags() != null) {
+        for (String tag : item.getTags().split(",")) {
+          addField(postings, i, tag, TAG_WEIGHT);
+        }
+      }
+      addField(postings, i, item.getDescription(), DESCRIPTION_WEIGHT);
+    }
+
+    this.terms = postings.keySet().toArray(new String[0]);
+    this.postingItems = new int[terms.length][];
+    this.postingWeights = new int[terms.length][];
+    Map<String, List<Integer>> prefixes = new HashMap<>();
+    Map<String, Set<Integer>> trigrams = new HashMap<>();
+    for (int termId = 0; termId < terms.length; termId++) {
+      String term = terms[termId];
+      Map<Integer, Integer> weights = postings.get(term);
+      int[] termItems = new int[weights.size()];
+      int[] termWeights = new int[weights.size()];
+      int n = 0;
+      for (Map.Entry<Integer, Integer> posting : weights.entrySet()) {
+        termItems[n] = posting.getKey();
+        termWeights[n] = posting.getValue();
+        n++;
+      }
+      postingItems[termId] = termItems;
+      postingWeights[termId] = termWeights;
+
+      int longest = Math.min(term.length(), MAX_PREFIX);
+      for (int length = 1; length <= longest; length++) {
+        prefixes
+          .computeIfAbsent(term.substring(0, length), k -> new ArrayList<>())
+          .add(termId);
+      }
+      for (int start = 0; start + GRAM <= term.length(); start++) {
+        trigrams
+          .computeIfAbsent(term.substring(start, start + GRAM), k ->
+            new LinkedHashSet<>()
+          )
+          .add(termId);
+      }
+    }
+
+    this.byPrefix = new HashMap<>();
+    prefixes.forEach((prefix, ids) -> byPrefix.put(prefix, toArray(ids)));
+    this.byTrigram = new HashMap<>();
+    trigrams.forEach((gram, ids) -> byTrigram.put(gram, toArray(ids)));
+  }
+
+  public static MenuSearchIndex of(List<MenuItemResponse> items) {
+    return new MenuSearchIndex(items);
+  }
+
+  /**
+   * Items matching every word of the query, best first. A word matches a
+   * term it is a prefix of or, failing that, a term containing it; exact
+   * terms and name hits rank higher than prefixes and description hits.
+   */
+  public List<MenuItemResponse> search(
+    String query,
+    Predicate<MenuItemResponse> filter,
+    int limit
+  ) {
+    List<String> tokens = tokenize(query);
+    if (tokens.isEmpty() || items.isEmpty()) {
+      return List.of();
+    }
+
+    int[] scores = null;
+    for (String token : tokens) {
+      int[] tokenScores = new int[items.size()];
+      for (int termId : matchingTerms(token)) {
+        int bonus = terms[termId].equals(token) ? 2 : 1;
+        int[] termItems = postingItems[termId];
+        int[] termWeights = postingWeights[termId];
+        for (int n = 0; n < termItems.length; n++) {
+          int score = termWeights[n] * bonus;
+          if (score > tokenScores[termItems[n]]) {
+            tokenScores[termItems[n]] = score;
+          }
+        }
+      }
+      if (scores == null) {
+        scores = tokenScores;
+      } else {
+        for (int i = 0; i < scores.length; i++) {
+          scores[i] = scores[i] > 0 && tokenScores[i] > 0
+            ? scores[i] + tokenScores[i]
+            : 0;
+        }
+      }
+    }
+
+    List<Integer> hits = new ArrayList<>();
+    for (int i = 0; i < scores.length; i++) {
+      if (scores[i] > 0 && filter.test(items.get(i))) {
+        hits.add(i);
+      }
+    }
+    int[] finalScores = scores;
+    Comparator<Integer> ranking = Comparator.<Integer>comparingInt(
+      i -> -finalScores[i]
+    )
+      .thenComparing(items::get, BY_MONTHLY_BUYS)
+      .thenComparing(i -> items.get(i).getId());
+    hits.sort(ranking);
+
+    List<MenuItemResponse> result = new ArrayList<>();
+    for (int i = 0; i < Math.min(limit, hits.size()); i++) {
+      result.add(items.get(hits.get(i)));
+    }
+    return result;
+  }
+
+  public int size() {
+    return items.size();
+  }
+
+  public int termCount() {
+    return terms.length;
+  }
+
+  /**
+   * Lower-cased, accent-free words of a text
+   */
+  static List<String> tokenize(String text) {
+    if (text == null || text.isBlank()) {
+      return List.of();
+    }
+    String folded = MARKS.matcher(
+      Normalizer.normalize(text, Normalizer.Form.NFD)
+    )
+      .replaceAll("")
+      .toLowerCase(Locale.ROOT);
+    List<String> tokens = new ArrayList<>();
+    for (String token : SEPARATORS.split(folded)) {
+      if (!token.isEmpty()) {
+        tokens.add(token);
+      }
+    }
+    return tokens;
+  }
+
+  private int[] matchingTerms(String token) {
+    if (token.length() <= MAX_PREFIX) {
+      int[] ids = byPrefix.get(token);
+      if (ids != null) {
+        return ids;
+      }
+    } else {
+      int[] ids = byPrefix.get(token.substring(0, MAX_PREFIX));
+      if (ids != null) {
+        int[] matches = Arrays.stream(ids)
+          .filter(id -> terms[id].startsWith(token))
+          .toArray();
+        if (matches.length > 0) {
+          return matches;
+        }
+      }
+    }
+    return containing(token);
+  }
+
+  /**
+   * Terms containing the token, found by intersecting its trigrams' term
+   * lists, rarest first, then checked for the whole token
+   */
+  private int[] containing(String token) {
+    if (token.length() < GRAM) {
+      return new int[0];
+    }
+    List<int[]> lists = new ArrayList<>();
+    for (int start = 0; start + GRAM <= token.length(); start++) {
+      int[] ids = byTrigram.get(token.substring(start, start + GRAM));
+      if (ids == null) {
+        return new int[0];
+      }
+      lists.add(ids);
+    }
+    lists.sort(Comparator.comparingInt(ids -> ids.length));
+
+    Set<Integer> candidates = new LinkedHashSet<>();
+    for (int id : lists.get(0)) {
+      candidates.add(id);
+    }
+    for (int n = 1; n < lists.size() && !candidates.isEmpty(); n++) {
+      Set<Integer> next = new LinkedHashSet<>();
+      for (int id : lists.get(n)) {
+        if (candidates.contains(id)) {
+          next.add(id);
+        }
+      }
+      candidates = next;
+    }
+    return candidates
+      .stream()
+      .filter(id -> terms[id].contains(token))
+      .mapToInt(Integer::intValue)
+      .toArray();
+  }
+
+  private static void addField(
+    Map<String, Map<Integer, Integer>> postings,
+    int item,
+    String text,
+    int weight
+  ) {
+    for (String token : tokenize(text)) {
+      postings
+        .computeIfAbsent(token, k -> new TreeMap<>())
+        .merge(item, weight, Math::max);
+    }
+  }
+
+  private static int[] toArray(Iterable<Integer> ids) {
+    List<Integer> list = new ArrayList<>();
+    ids.forEach(list::add);
+    return list.stream().mapToInt(Integer::intValue).toArray();
+  }
+}
@@ -0,0 +1,216 @@
+package coffee.astroneko.backend.service;
+
+import coffee.astroneko.backend.dto.response.OrderResponse;
+import coffee.astroneko.backend.entity.Order;
+import coffee.astroneko.backend.entity.Order.OrderStatus;
+import coffee.astroneko.backend.repository.OrderRepository;
+import coffee.astroneko.backend.util.AfterCommit;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * Live board of open orders held in memory and indexed by status and
+ * assignee. Loaded once at startup and then kept current by the order
+ * engine after each committed transition, so screens never poll the DB.
+ * Recently closed orders stay in a bounded LRU, so a receipt or status
+ * lookup right after completion does not hit the database either.
+ */
+@Service
+public class OrderBoard {
+
+  // Closed orders remembered for lookups, and so a late, stale publish
+  // cannot reopen them
+  private static final int MAX_CLOSED = 10_000;
+
+  private static final Comparator<OrderResponse> QUEUE_ORDER =
+    Comparator.comparing(
+      OrderResponse::getOrderDate,
+      Comparator.nullsLast(Comparator.<LocalDateTime>naturalOrder())
+    ).thenComparing(OrderResponse::getId);
+
+  @Autowired
+  private OrderRepository orderRepository;
+
+  private final Map<Long, OrderResponse> orders = new ConcurrentHashMap<>();
+  private final Map<OrderStatus, Set<Long>> byStatus = new EnumMap<>(
+    OrderStatus.class
+  );
+  private final Map<Long, Set<Long>> byAssignee = new ConcurrentHashMap<>();
+  // Access-ordered, guarded by this board's lock
+  private final Map<Long, OrderResponse> closed = new LinkedHashMap<>(
+    16,
+    0.75f,
+    true
+  ) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<Long, OrderResponse> e) {
+      return size() > MAX_CLOSED;
+    }
+  };
+
+  public OrderBoard() {
+    // Every status gets its set up front, so the map itself never changes
+    for (OrderStatus status : OrderStatus.values()) {
+      byStatus.put(status, ConcurrentHashMap.newKeySet());
+    }
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public synchronized void load() {
+    List<OrderStatus> open = Arrays.stream(OrderStatus.values())
+      .filter(OrderStatus::isOpen)
+      .toList();
+
+    orders.clear();
+    byStatus.values().forEach(Set::clear);
+    byAssignee.clear();
+    for (Order order : orderRepository.findBoardOrdersByStatusIn(open)) {
+      apply(OrderResponse.from(order));
+    }
+  }
+
+  /**
+   * Show the order's current state once the surrounding transaction
+   * commits. The response is captured now, while the entity is managed.
+   */
+  public void publish(Order order) {
+    OrderResponse snapshot = OrderResponse.from(order);
+    AfterCommit.run(() -> apply(snapshot));
+  }
+
+  /**
+   * An open order, or one closed recently enough to still be remembered
+   */
+  public Optional<OrderResponse> find(Long id) {
+    OrderResponse open = orders.get(id);
+    if (open != null) {
+      return Optional.of(open);
+    }
+    synchronized (this) {
+      return Optional.ofNullable(closed.get(id));
+    }
+  }
+
+  /**
+   * All open orders, oldest first
+   */
+  public List<OrderResponse> getOpenOrders() {
+    return sorted(orders.values());
+  }
+
+  public List<OrderResponse> getByStatus(OrderStatus status) {
+    return lookup(byStatus.get(status), order -> order.getStatus() == status);
+  }
+
+  public List<OrderResponse> getByAssignee(Long staffId) {
+    return lookup(byAssignee.get(staffId), order ->
+      staffId.equals(order.getAssignedToId())
+    );
+  }
+
+  public int count(OrderStatus status) {
+    return byStatus.get(status).size();
+  }
+
+  /**
+   * Number of open orders per status
+   */
+  public Map<OrderStatus, Integer> countByStatus() {
+    Map<OrderStatus, Integer> counts = new EnumMap<>(OrderStatus.class);
+    byStatus.forEach((status, ids) -> {
+      if (status.isOpen()) {
+        counts.put(status, ids.size());
+      }
+    });
+    return counts;
+  }
+
+  private synchronized void apply(OrderResponse next) {
+    Long id = next.getId();
+    OrderResponse previous = orders.get(id);
+
+    // Transitions are serialized by a row lock, but their after-commit
+    // callbacks may still arrive out of order
+    if (previous != null && isOlder(next, previous.getUpdatedAt())) {
+      return;
+    }
+    OrderResponse closedAs = closed.get(id);
+    if (closedAs != null && isOlder(next, closedAs.getUpdatedAt())) {
+      return;
+    }
+
+    if (previous != null) {
+      byStatus.get(previous.getStatus()).remove(id);
+      if (previous.getAssignedToId() != null) {
+        Set<Long> assigned = byAssignee.get(previous.getAssignedToId());
+        if (assigned != null) {
+          assigned.remove(id);
+        }
+      }
+    }
+
+    if (!next.getStatus().isOpen()) {
+      orders.remove(id);
+      closed.put(id, next);
+      return;
+    }
+    closed.remove(id);
+    orders.put(id, next);
+    byStatus.get(next.getStatus()).add(id);
+    if (next.getAssignedToId() != null) {
+      byAssignee
+        .computeIfAbsent(next.getAssignedToId(), k ->
+          ConcurrentHashMap.newKeySet()
+        )
+        .add(id);
+    }
+  }
+
+  private List<OrderResponse> lookup(
+    Set<Long> ids,
+    Predicate<OrderResponse> stillMatches
+  ) {
+    if (ids == null) {
+      return List.of();
+    }
+    // Re-check each entry: a reader may race with an update in progress
+    List<OrderResponse> result = new ArrayList<>();
+    for (Long id : ids) {
+      OrderResponse order = orders.get(id);
+      if (order != null && stillMatches.test(order)) {
+        result.add(order);
+      }
+    }
+    result.sort(QUEUE_ORDER);
+    return result;
+  }
+
+  private static List<OrderResponse> sorted(Collection<OrderResponse> orders) {
+    List<OrderResponse> result = new ArrayList<>(orders);
+    result.sort(QUEUE_ORDER);
+    return result;
+  }
+
+  private static boolean isOlder(OrderResponse order, LocalDateTime than) {
+    return (
+      order.getUpdatedAt() != null &&
+      than != null &&
+      order.getUpdatedAt().isBefore(than)
+    );
+  }
+}
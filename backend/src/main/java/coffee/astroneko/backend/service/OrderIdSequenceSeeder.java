@@ -0,0 +1,70 @@
+package coffee.astroneko.backend.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * Moves the order id sequences past the highest existing id at startup.
+ * Schema updates create orders_seq and order_items_seq starting at 1 on a
+ * database whose rows were numbered by IDENTITY, so without this the first
+ * inserts would collide; it does what V4__order_id_sequences.sql does, on
+ * every start. Sequences are only ever moved forward.
+ */
+@Service
+public class OrderIdSequenceSeeder implements ApplicationRunner {
+
+  private static final Logger logger = LoggerFactory.getLogger(
+    OrderIdSequenceSeeder.class
+  );
+
+  // Must match allocationSize on Order and OrderItem
+  private static final int ALLOCATION_SIZE = 50;
+
+  // Hibernate's pooled optimizer hands out the ids up to each sequence
+  // value, so the next block starts ALLOCATION_SIZE - 1 below it
+  private static final String SEED_SQL =
+    "SELECT setval('%1$s', m.max_id + %3$d, false) " +
+    "FROM (SELECT COALESCE(MAX(id), 0) AS max_id FROM %2$s) m, %1$s s " +
+    "WHERE CASE WHEN s.is_called THEN s.last_value + %3$d " +
+    "ELSE s.last_value END - %3$d < m.max_id";
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Override
+  public void run(ApplicationArguments args) {
+    if (!isPostgres()) {
+      return;
+    }
+    seed("orders_seq", "orders");
+    seed("order_items_seq", "order_items");
+  }
+
+  private void seed(String sequence, String table) {
+    Long next = jdbcTemplate
+      .queryForList(
+        String.format(SEED_SQL, sequence, table, ALLOCATION_SIZE),
+        Long.class
+      )
+      .stream()
+      .findFirst()
+      .orElse(null);
+    if (next != null) {
+      logger.info("Moved {} past the ids in {} to {}", sequence, table, next);
+    }
+  }
+
+  private boolean isPostgres() {
+    String product = jdbcTemplate.execute(
+      (ConnectionCallback<String>) connection ->
+        connection.getMetaData().getDatabaseProductName()
+    );
+    return "PostgreSQL".equals(product);
+  }
+}
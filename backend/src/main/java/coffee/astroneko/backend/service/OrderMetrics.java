@@ -0,0 +1,148 @@
+package coffee.astroneko.backend.service;
+
+import coffee.astroneko.backend.entity.Order;
+import coffee.astroneko.backend.entity.Order.OrderStatus;
+import coffee.astroneko.backend.entity.OrderItem;
+import coffee.astroneko.backend.util.AfterCommit;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Business metrics for the order engine, scraped from /actuator/prometheus.
+ * Everything is recorded after the transaction commits, so rolled-back
+ * orders and transitions never show up.
+ */
+@Component
+public class OrderMetrics implements MeterBinder {
+
+  private static final double[] PERCENTILES = { 0.5, 0.9, 0.95, 0.99 };
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  @Autowired
+  private OrderBoard orderBoard;
+
+  /**
+   * Open orders per status, read straight from the live board
+   */
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    for (OrderStatus status : OrderStatus.values()) {
+      if (status.isOpen()) {
+        Gauge.builder("astroneko.orders.open", orderBoard, board ->
+          board.count(status)
+        )
+          .description("Open orders on the live board")
+          .tag("status", status.name())
+          .register(registry);
+      }
+    }
+  }
+
+  /**
+   * Count a new order and its basket size and value
+   */
+  public void recordCreated(Order order, String channel) {
+    String paymentMethod = paymentMethodOf(order);
+    int items = order
+      .getOrderItems()
+      .stream()
+      .mapToInt(OrderItem::getQuantity)
+      .sum();
+    double amount = order.getTotalAmount().doubleValue();
+
+    AfterCommit.run(() -> {
+      Counter.builder("astroneko.orders.created")
+        .description("Orders placed")
+        .tag("channel", channel)
+        .tag("payment_method", paymentMethod)
+        .register(meterRegistry)
+        .increment();
+      DistributionSummary.builder("astroneko.orders.basket.items")
+        .description("Items per order")
+        .publishPercentiles(PERCENTILES)
+        .publishPercentileHistogram()
+        .register(meterRegistry)
+        .record(items);
+      DistributionSummary.builder("astroneko.orders.basket.amount")
+        .description("Order total")
+        .publishPercentiles(PERCENTILES)
+        .publishPercentileHistogram()
+        .register(meterRegistry)
+        .record(amount);
+    });
+  }
+
+  /**
+   * Count a status transition. Reaching READY or COMPLETE also records how
+   * long the ticket took; completing adds the order total to revenue and a
+   * return from COMPLETE adds it to returned revenue.
+   */
+  public void recordTransition(Order order, OrderStatus from, OrderStatus to) {
+    LocalDateTime orderDate = order.getOrderDate();
+    LocalDateTime readyTime = order.getReadyTime();
+    LocalDateTime completedTime = order.getCompletedTime();
+    String paymentMethod = paymentMethodOf(order);
+    double amount = order.getTotalAmount().doubleValue();
+
+    AfterCommit.run(() -> {
+      Counter.builder("astroneko.orders.transitions")
+        .description("Order status transitions")
+        .tag("from", from.name())
+        .tag("to", to.name())
+        .register(meterRegistry)
+        .increment();
+
+      if (to == OrderStatus.READY) {
+        recordTicketTime("queued_to_ready", orderDate, readyTime);
+      } else if (to == OrderStatus.COMPLETE) {
+        recordTicketTime("ready_to_complete", readyTime, completedTime);
+        recordTicketTime("total", orderDate, completedTime);
+        revenue("astroneko.orders.revenue", paymentMethod).increment(amount);
+      } else if (to == OrderStatus.RETURN && from == OrderStatus.COMPLETE) {
+        revenue("astroneko.orders.returned.revenue", paymentMethod).increment(
+          amount
+        );
+      }
+    });
+  }
+
+  private void recordTicketTime(
+    String stage,
+    LocalDateTime start,
+    LocalDateTime end
+  ) {
+    if (start == null || end == null || end.isBefore(start)) {
+      return;
+    }
+    Timer.builder("astroneko.orders.ticket.time")
+      .description("Time an order spends between lifecycle points")
+      .tag("stage", stage)
+      .publishPercentiles(PERCENTILES)
+      .publishPercentileHistogram()
+      .register(meterRegistry)
+      .record(Duration.between(start, end));
+  }
+
+  private Counter revenue(String name, String paymentMethod) {
+    return Counter.builder(name)
+      .description("Order totals, in the menu currency")
+      .tag("payment_method", paymentMethod)
+      .register(meterRegistry);
+  }
+
+  private static String paymentMethodOf(Order order) {
+    return order.getPaymentMethod() != null
+      ? order.getPaymentMethod().name()
+      : SalesRollupService.UNKNOWN_PAYMENT_METHOD;
+  }
+}
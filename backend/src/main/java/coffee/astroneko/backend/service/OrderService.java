@@ -0,0 +1,536 @@
+package coffee.astroneko.backend.service;
+
+import coffee.astroneko.backend.dto.request.CreateOrderRequest;
+import coffee.astroneko.backend.dto.request.ImportOrderRequest;
+import coffee.astroneko.backend.dto.request.OrderItemRequest;
+import coffee.astroneko.backend.dto.request.UpdateOrderStatusRequest;
+import coffee.astroneko.backend.dto.response.BulkOrderResponse;
+import coffee.astroneko.backend.dto.response.CartEvaluationResponse;
+import coffee.astroneko.backend.dto.response.CartLineResponse;
+import coffee.astroneko.backend.dto.response.OrderResponse;
+import coffee.astroneko.backend.entity.MenuItem;
+import coffee.astroneko.backend.entity.Order;
+import coffee.astroneko.backend.entity.Order.OrderStatus;
+import coffee.astroneko.backend.entity.OrderItem;
+import coffee.astroneko.backend.entity.PurchaseHistory;
+import coffee.astroneko.backend.entity.User;
+import coffee.astroneko.backend.repository.MenuItemRepository;
+import coffee.astroneko.backend.repository.OrderRepository;
+import coffee.astroneko.backend.repository.PurchaseHistoryRepository;
+import coffee.astroneko.backend.repository.UserRepository;
+import coffee.astroneko.backend.util.BusinessCalendar;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Transactional
+public class OrderService {
+
+  private static final int BULK_CHUNK_SIZE = 50;
+
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  @Autowired
+  private OrderRepository orderRepository;
+
+  @Autowired
+  private MenuItemRepository menuItemRepository;
+
+  @Autowired
+  private UserRepository userRepository;
+
+  @Autowired
+  private PurchaseHistoryRepository purchaseHistoryRepository;
+
+  @Autowired
+  private OrderBoard orderBoard;
+
+  @Autowired
+  private PopularityCounterService popularityCounterService;
+
+  @Autowired
+  private QueueNumberAllocator queueNumberAllocator;
+
+  @Autowired
+  private BusinessCalendar businessCalendar;
+
+  @Autowired
+  private SalesRollupService salesRollupService;
+
+  @Autowired
+  private OrderMetrics orderMetrics;
+
+  @Autowired
+  private PromoService promoService;
+
+  /**
+   * Place a new order; it starts PENDING and appears on the live board
+   */
+  public OrderResponse createOrder(CreateOrderRequest request) {
+    User customer = null;
+    if (request.getCustomerId() != null) {
+      customer = userRepository
+        .findByIdAndRole(request.getCustomerId(), User.Role.CLIENT)
+        .orElseThrow(() ->
+          new IllegalArgumentException(
+            "Customer not found with id: " + request.getCustomerId()
+          )
+        );
+    }
+
+    Order order = newOrder(
+      request.getCustomerName(),
+      customer,
+      request.getItems(),
+      loadOrderableItems(request.getItems())
+    );
+    order.setPaymentMethod(request.getPaymentMethod());
+    order.setSpecialInstructions(request.getSpecialInstructions());
+    order.setNotes(request.getNotes());
+    applyPromos(order, request.getPromoCode());
+    order.calculateTotals();
+    order.setQueueNumber(queueNumberAllocator.next());
+    Order saved = orderRepository.save(order);
+    orderBoard.publish(saved);
+    orderMetrics.recordCreated(saved, "single");
+    return OrderResponse.from(saved);
+  }
+
+  /**
+   * Import many orders in one transaction, e.g. an offline POS sync. All
+   * orders are built and validated before anything is written or
+   * numbered, so one bad order rejects the batch; they are then persisted
+   * in chunks that Hibernate sends as JDBC batches. Imported orders keep
+   * the discounts, status and order date the POS recorded: running promos
+   * are not applied and no promo use is counted, and only orders still
+   * open reach the live board. Completed ones are booked like any
+   * completion, on their own day.
+   */
+  public BulkOrderResponse createOrders(List<ImportOrderRequest> requests) {
+    Map<Long, User> customers = loadCustomers(requests);
+    Map<Long, MenuItem> menuItems = loadOrderableItems(
+      requests
+        .stream()
+        .flatMap(request -> request.getItems().stream())
+        .collect(Collectors.toList())
+    );
+
+    List<Order> orders = new ArrayList<>(requests.size());
+    for (ImportOrderRequest request : requests) {
+      orders.add(
+        buildImportedOrder(
+          request,
+          customers.get(request.getCustomerId()),
+          menuItems
+        )
+      );
+    }
+    numberImportedOrders(orders);
+
+    List<Long> orderIds = new ArrayList<>(orders.size());
+    List<String> orderNumbers = new ArrayList<>(orders.size());
+    for (int i = 0; i < orders.size(); i++) {
+      Order order = orders.get(i);
+      entityManager.persist(order);
+      if (order.getStatus() == OrderStatus.COMPLETE) {
+        recordPurchase(order);
+        popularityCounterService.recordCompletedOrder(order);
+        salesRollupService.recordCompletedOrder(order);
+      }
+      orderIds.add(order.getId());
+      orderNumbers.add(order.getOrderNumber());
+      orderBoard.publish(order);
+      orderMetrics.recordCreated(order, "bulk");
+
+      if ((i + 1) % BULK_CHUNK_SIZE == 0) {
+        // Write the chunk and detach it so the persistence context, and
+        // dirty checking at commit, stay small for large imports
+        entityManager.flush();
+        entityManager.clear();
+      }
+    }
+    return new BulkOrderResponse(orderIds, orderNumbers);
+  }
+
+  /**
+   * Open and recently closed orders come from the live board, older ones
+   * from the database
+   */
+  @Transactional(readOnly = true)
+  public Optional<OrderResponse> getOrderById(Long id) {
+    Optional<OrderResponse> live = orderBoard.find(id);
+    if (live.isPresent()) {
+      return live;
+    }
+    return orderRepository.findById(id).map(OrderResponse::from);
+  }
+
+  @Transactional(readOnly = true)
+  public Optional<OrderResponse> getOrderByNumber(String orderNumber) {
+    return orderRepository
+      .findByOrderNumber(orderNumber)
+      .map(OrderResponse::from);
+  }
+
+  /**
+   * Open orders from memory, optionally narrowed to a status and/or assignee
+   */
+  public List<OrderResponse> getLiveBoard(OrderStatus status, Long assigneeId) {
+    List<OrderResponse> orders;
+    if (assigneeId != null) {
+      orders = orderBoard.getByAssignee(assigneeId);
+      if (status != null) {
+        orders = orders
+          .stream()
+          .filter(order -> order.getStatus() == status)
+          .collect(Collectors.toList());
+      }
+    } else if (status != null) {
+      orders = orderBoard.getByStatus(status);
+    } else {
+      orders = orderBoard.getOpenOrders();
+    }
+    return orders;
+  }
+
+  public Map<OrderStatus, Integer> getLiveBoardCounts() {
+    return orderBoard.countByStatus();
+  }
+
+  /**
+   * Move an order to a new status if the lifecycle allows it. The row is
+   * locked for the duration so concurrent updates cannot both pass the
+   * check.
+   */
+  public OrderResponse updateOrderStatus(
+    Long id,
+    UpdateOrderStatusRequest request
+  ) {
+    Order order = orderRepository
+      .findByIdForUpdate(id)
+      .orElseThrow(() ->
+        new RuntimeException("Order not found with id: " + id)
+      );
+
+    OrderStatus from = order.getStatus();
+    OrderStatus to = request.getStatus();
+    if (!from.canTransitionTo(to)) {
+      throw new IllegalStateException(
+        "Cannot move order " +
+        order.getOrderNumber() +
+        " from " +
+        from +
+        " to " +
+        to
+      );
+    }
+
+    User staff = request.getStaffId() != null
+      ? loadStaff(request.getStaffId())
+      : null;
+    LocalDateTime now = LocalDateTime.now();
+    switch (to) {
+      case IN_PROGRESS:
+        if (staff != null) {
+          order.setAssignedTo(staff);
+        }
+        break;
+      case READY:
+        order.setReadyTime(now);
+        break;
+      case COMPLETE:
+        order.setCompletedTime(now);
+        if (staff != null) {
+          order.setCompletedBy(staff);
+        }
+        break;
+      default:
+        break;
+    }
+    if (request.getNotes() != null) {
+      order.setNotes(request.getNotes());
+    }
+    order.setStatus(to);
+
+    // Flush now so updatedAt is stamped before the board snapshot is taken
+    Order saved = orderRepository.saveAndFlush(order);
+    if (to == OrderStatus.COMPLETE) {
+      recordPurchase(saved);
+      popularityCounterService.recordCompletedOrder(saved);
+      salesRollupService.recordCompletedOrder(saved);
+    } else if (to == OrderStatus.RETURN && from == OrderStatus.COMPLETE) {
+      popularityCounterService.recordReturnedOrder(saved);
+      salesRollupService.recordReturnedOrder(saved);
+    }
+    orderBoard.publish(saved);
+    orderMetrics.recordTransition(saved, from, to);
+    return OrderResponse.from(saved);
+  }
+
+  /**
+   * Hand an open order to a staff member
+   */
+  public OrderResponse assignOrder(Long id, Long staffId) {
+    Order order = orderRepository
+      .findByIdForUpdate(id)
+      .orElseThrow(() ->
+        new RuntimeException("Order not found with id: " + id)
+      );
+    if (!order.getStatus().isOpen()) {
+      throw new IllegalStateException(
+        "Order " + order.getOrderNumber() + " is already " + order.getStatus()
+      );
+    }
+
+    order.setAssignedTo(loadStaff(staffId));
+    Order saved = orderRepository.saveAndFlush(order);
+    orderBoard.publish(saved);
+    return OrderResponse.from(saved);
+  }
+
+  private Order newOrder(
+    String customerName,
+    User customer,
+    List<? extends OrderItemRequest> items,
+    Map<Long, MenuItem> menuItems
+  ) {
+    Order order = new Order(customerName, customer);
+    for (OrderItemRequest itemRequest : items) {
+      OrderItem orderItem = new OrderItem(
+        order,
+        menuItems.get(itemRequest.getMenuItemId()),
+        itemRequest.getQuantity()
+      );
+      orderItem.setSpecialInstructions(itemRequest.getSpecialInstructions());
+      order.getOrderItems().add(orderItem);
+    }
+    return order;
+  }
+
+  /**
+   * An imported order as the POS recorded it, priced but not yet numbered
+   */
+  private Order buildImportedOrder(
+    ImportOrderRequest request,
+    User customer,
+    Map<Long, MenuItem> menuItems
+  ) {
+    Order order = newOrder(
+      request.getCustomerName(),
+      customer,
+      request.getItems(),
+      menuItems
+    );
+    order.setPaymentMethod(request.getPaymentMethod());
+    order.setSpecialInstructions(request.getSpecialInstructions());
+    order.setNotes(request.getNotes());
+    applyRecordedDiscounts(order, request);
+    applyRecordedState(order, request);
+    order.calculateTotals();
+    return order;
+  }
+
+  /**
+   * Orders still open, or taken today, join today's queue. Orders closed
+   * on an earlier business day are numbered on that day's counter, so
+   * history does not use up today's numbers.
+   */
+  private void numberImportedOrders(List<Order> orders) {
+    LocalDate today = businessCalendar.today();
+    Map<LocalDate, List<Order>> earlierDays = new TreeMap<>();
+    for (Order order : orders) {
+      LocalDate day = businessCalendar.businessDate(order.getOrderDate());
+      if (order.getStatus().isOpen() || !day.isBefore(today)) {
+        order.setQueueNumber(queueNumberAllocator.next());
+      } else {
+        earlierDays.computeIfAbsent(day, key -> new ArrayList<>()).add(order);
+      }
+    }
+    for (Map.Entry<LocalDate, List<Order>> day : earlierDays.entrySet()) {
+      int number = queueNumberAllocator.reserveEarlierDay(
+        day.getKey(),
+        day.getValue().size()
+      );
+      for (Order order : day.getValue()) {
+        order.setQueueNumber(number++);
+      }
+    }
+  }
+
+  /**
+   * Price the order with the running promos and count their use:
+   * item-level discounts go on their lines, an order-level discount on the
+   * order
+   */
+  private void applyPromos(Order order, String promoCode) {
+    List<PromoEngine.CartLine> lines = new ArrayList<>();
+    for (OrderItem orderItem : order.getOrderItems()) {
+      lines.add(
+        new PromoEngine.CartLine(
+          orderItem.getMenuItem().getId(),
+          orderItem.getMenuItem().getType(),
+          orderItem.getQuantity(),
+          orderItem.getUnitPrice()
+        )
+      );
+    }
+    CartEvaluationResponse pricing = promoService.priceAndRedeem(
+      lines,
+      promoCode
+    );
+    for (int i = 0; i < lines.size(); i++) {
+      CartLineResponse line = pricing.getLines().get(i);
+      OrderItem orderItem = order.getOrderItems().get(i);
+      orderItem.setDiscountAmount(line.getDiscountAmount());
+      orderItem.calculateSubtotal();
+    }
+    order.setDiscountAmount(pricing.getOrderDiscount());
+  }
+
+  /**
+   * Take the discounts an imported order was sold with, as long as no line
+   * or the order ends up below zero
+   */
+  private void applyRecordedDiscounts(Order order, ImportOrderRequest request) {
+    BigDecimal subtotal = BigDecimal.ZERO;
+    for (int i = 0; i < order.getOrderItems().size(); i++) {
+      OrderItem orderItem = order.getOrderItems().get(i);
+      BigDecimal discount = orZero(
+        request.getItems().get(i).getDiscountAmount()
+      );
+      BigDecimal gross = orderItem
+        .getUnitPrice()
+        .multiply(BigDecimal.valueOf(orderItem.getQuantity()));
+      if (discount.compareTo(gross) > 0) {
+        throw new IllegalArgumentException(
+          "Discount exceeds the line total for menu item " +
+          orderItem.getMenuItem().getId()
+        );
+      }
+      orderItem.setDiscountAmount(discount);
+      subtotal = subtotal.add(orderItem.getSubtotal());
+    }
+
+    BigDecimal orderDiscount = orZero(request.getDiscountAmount());
+    if (orderDiscount.compareTo(subtotal) > 0) {
+      throw new IllegalArgumentException(
+        "Order discount exceeds the order subtotal"
+      );
+    }
+    order.setDiscountAmount(orderDiscount);
+  }
+
+  private static BigDecimal orZero(BigDecimal amount) {
+    return amount != null ? amount : BigDecimal.ZERO;
+  }
+
+  private Map<Long, User> loadCustomers(List<ImportOrderRequest> requests) {
+    Set<Long> ids = requests
+      .stream()
+      .map(ImportOrderRequest::getCustomerId)
+      .filter(Objects::nonNull)
+      .collect(Collectors.toSet());
+
+    Map<Long, User> customers = new HashMap<>();
+    for (User user : userRepository.findAllById(ids)) {
+      if (user.getRole() == User.Role.CLIENT) {
+        customers.put(user.getId(), user);
+      }
+    }
+    for (Long id : ids) {
+      if (!customers.containsKey(id)) {
+        throw new IllegalArgumentException("Customer not found with id: " + id);
+      }
+    }
+    return customers;
+  }
+
+  private Map<Long, MenuItem> loadOrderableItems(
+    List<? extends OrderItemRequest> items
+  ) {
+    Set<Long> ids = items
+      .stream()
+      .map(OrderItemRequest::getMenuItemId)
+      .collect(Collectors.toSet());
+
+    Map<Long, MenuItem> menuItems = new HashMap<>();
+    for (MenuItem menuItem : menuItemRepository.findAllById(ids)) {
+      menuItems.put(menuItem.getId(), menuItem);
+    }
+    for (Long id : ids) {
+      MenuItem menuItem = menuItems.get(id);
+      if (menuItem == null || Boolean.TRUE.equals(menuItem.getIsDeleted())) {
+        throw new IllegalArgumentException(
+          "Menu item not found with id: " + id
+        );
+      }
+      if (!Boolean.TRUE.equals(menuItem.getInStock())) {
+        throw new IllegalArgumentException(
+          "Menu item is out of stock: " + menuItem.getName()
+        );
+      }
+    }
+    return menuItems;
+  }
+
+  /**
+   * Put an imported order where the POS left it. A return can only follow
+   * a completion recorded here, so returned orders cannot be imported.
+   */
+  private void applyRecordedState(Order order, ImportOrderRequest request) {
+    if (request.getOrderDate() != null) {
+      order.setOrderDate(request.getOrderDate());
+    }
+    OrderStatus status = request.getStatus();
+    if (status == null) {
+      return;
+    }
+    if (status == OrderStatus.RETURN) {
+      throw new IllegalArgumentException("Returned orders cannot be imported");
+    }
+    order.setStatus(status);
+    if (status == OrderStatus.COMPLETE) {
+      order.setCompletedTime(order.getOrderDate());
+    }
+  }
+
+  private User loadStaff(Long staffId) {
+    User staff = userRepository
+      .findByIdAndIsDeletedFalse(staffId)
+      .orElseThrow(() ->
+        new IllegalArgumentException(
+          "Staff member not found with id: " + staffId
+        )
+      );
+    if (staff.getRole() == User.Role.CLIENT) {
+      throw new IllegalArgumentException(
+        "User " + staffId + " is not a staff member"
+      );
+    }
+    return staff;
+  }
+
+  private void recordPurchase(Order order) {
+    if (order.getCustomer() != null) {
+      purchaseHistoryRepository.save(
+        new PurchaseHistory(order.getCustomer(), order)
+      );
+    }
+  }
+}
@@ -0,0 +1,133 @@
+package coffee.astroneko.backend.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+/**
+ * Runs password hashing on its own small pool, off the Tomcat threads. The
+ * pool has one thread per core by default and a bounded queue; once both
+ * are full, new work is refused with a RejectedExecutionException instead
+ * of piling up, and callers answer 503 so clients back off and retry.
+ */
+@Service
+public class PasswordHasher implements MeterBinder {
+
+  @Autowired
+  private PasswordEncoder passwordEncoder;
+
+  @Value("${app.password.hashing.threads:0}")
+  private int threads;
+
+  @Value("${app.password.hashing.queue-capacity:64}")
+  private int queueCapacity;
+
+  private final AtomicLong rejected = new AtomicLong();
+
+  private ThreadPoolExecutor executor;
+
+  @PostConstruct
+  void start() {
+    int poolSize = threads > 0
+      ? threads
+      : Runtime.getRuntime().availableProcessors();
+    AtomicInteger count = new AtomicInteger();
+    ThreadFactory threadFactory = runnable -> {
+      Thread thread = new Thread(
+        runnable,
+        "password-hasher-" + count.incrementAndGet()
+      );
+      thread.setDaemon(true);
+      return thread;
+    };
+    executor = new ThreadPoolExecutor(
+      poolSize,
+      poolSize,
+      0L,
+      TimeUnit.MILLISECONDS,
+      new ArrayBlockingQueue<>(queueCapacity),
+      threadFactory,
+      (runnable, pool) -> {
+        rejected.incrementAndGet();
+        throw new RejectedExecutionException("Password hashing is saturated");
+      }
+    );
+  }
+
+  @PreDestroy
+  void stop() {
+    executor.shutdown();
+  }
+
+  /**
+   * Hash a password on the pool. Throws RejectedExecutionException if the
+   * pool is saturated.
+   */
+  public CompletableFuture<String> encode(CharSequence rawPassword) {
+    return CompletableFuture.supplyAsync(
+      () -> passwordEncoder.encode(rawPassword),
+      executor
+    );
+  }
+
+  /**
+   * Check a password against its stored hash on the pool. Throws
+   * RejectedExecutionException if the pool is saturated.
+   */
+  public CompletableFuture<Boolean> matches(
+    CharSequence rawPassword,
+    String encodedPassword
+  ) {
+    return CompletableFuture.supplyAsync(
+      () -> passwordEncoder.matches(rawPassword, encodedPassword),
+      executor
+    );
+  }
+
+  /**
+   * Whether a stored hash uses another algorithm or a weaker cost than the
+   * one configured. Cheap: it only reads the hash's prefix and parameters.
+   */
+  public boolean needsRehash(String encodedPassword) {
+    return passwordEncoder.upgradeEncoding(encodedPassword);
+  }
+
+  /**
+   * Pool queue depth and refusals, so saturation shows on the dashboards
+   */
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    Gauge.builder("astroneko.password.hashing.queued", executor, pool ->
+      pool.getQueue().size()
+    )
+      .description("Password hashes waiting for a hashing thread")
+      .register(registry);
+    Gauge.builder("astroneko.password.hashing.active", executor, pool ->
+      pool.getActiveCount()
+    )
+      .description("Password hashes being computed")
+      .register(registry);
+    FunctionCounter.builder(
+      "astroneko.password.hashing.rejected",
+      rejected,
+      AtomicLong::get
+    )
+      .description("Password hashes refused because the pool was full")
+      .register(registry);
+  }
+}
@@ -0,0 +1,236 @@
+package coffee.astroneko.backend.service;
+
+import coffee.astroneko.backend.dto.response.MenuItemResponse;
+import coffee.astroneko.backend.entity.Order;
+import coffee.astroneko.backend.entity.OrderItem;
+import coffee.astroneko.backend.repository.OrderItemRepository;
+import coffee.astroneko.backend.util.AfterCommit;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Sliding-window buy counters per menu item. Each item keeps a ring of daily
+ * buckets covering the last 30 days; completed orders add to today's bucket
+ * and a scheduled flush writes weekly_buys/monthly_buys back in one batch.
+ */
+@Service
+public class PopularityCounterService {
+
+  private static final int WINDOW_DAYS = 30;
+  private static final int WEEK_DAYS = 7;
+  private static final int FLUSH_BATCH_SIZE = 100;
+
+  private static final String UPDATE_BUYS_SQL =
+    "UPDATE menu_items SET weekly_buys = ?, monthly_buys = ? WHERE id = ?";
+
+  @Autowired
+  private OrderItemRepository orderItemRepository;
+
+  @Autowired
+  private MenuCatalog menuCatalog;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  private final Map<Long, DailyBuckets> counters = new ConcurrentHashMap<>();
+
+  private volatile boolean seeded = false;
+
+  /**
+   * Load the last 30 days of completed orders once, so counters survive
+   * restarts without rescanning order_items afterwards
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void seed() {
+    LocalDate today = LocalDate.now();
+    LocalDateTime since = today.minusDays(WINDOW_DAYS - 1).atStartOfDay();
+    for (Object[] row : orderItemRepository.findDailyCompletedQuantitiesSince(
+      since
+    )) {
+      Long menuItemId = (Long) row[0];
+      LocalDate day = (LocalDate) row[1];
+      long quantity = ((Number) row[2]).longValue();
+      add(menuItemId, day, (int) quantity, today);
+    }
+    seeded = true;
+    flush();
+  }
+
+  /**
+   * Count the items of a completed order once the transaction commits
+   */
+  public void recordCompletedOrder(Order order) {
+    record(order, 1);
+  }
+
+  /**
+   * Take back the items of a returned order once the transaction commits
+   */
+  public void recordReturnedOrder(Order order) {
+    record(order, -1);
+  }
+
+  /**
+   * Current weekly buys of a menu item according to the counters
+   */
+  public int getWeeklyBuys(Long menuItemId) {
+    DailyBuckets buckets = counters.get(menuItemId);
+    return buckets == null ? 0 : buckets.sum(today(), WEEK_DAYS);
+  }
+
+  /**
+   * Current monthly buys of a menu item according to the counters
+   */
+  public int getMonthlyBuys(Long menuItemId) {
+    DailyBuckets buckets = counters.get(menuItemId);
+    return buckets == null ? 0 : buckets.sum(today(), WINDOW_DAYS);
+  }
+
+  /**
+   * Write counters that differ from the catalog to menu_items in batches,
+   * then publish the new values to the catalog. Comparing against the
+   * catalog also picks up items whose counts only changed because a day
+   * slid out of the window.
+   */
+  @Scheduled(
+    fixedDelayString = "${app.popularity.flush-interval-ms:60000}",
+    initialDelayString = "${app.popularity.flush-interval-ms:60000}"
+  )
+  public synchronized void flush() {
+    if (!seeded) {
+      return;
+    }
+
+    long today = today();
+    Map<Long, Integer> weeklyBuys = new HashMap<>();
+    Map<Long, Integer> monthlyBuys = new HashMap<>();
+    List<Object[]> updates = new ArrayList<>();
+
+    for (MenuItemResponse item : menuCatalog.snapshot().getItems()) {
+      DailyBuckets buckets = counters.get(item.getId());
+      int weekly = buckets == null ? 0 : buckets.sum(today, WEEK_DAYS);
+      int monthly = buckets == null ? 0 : buckets.sum(today, WINDOW_DAYS);
+      if (
+        Integer.valueOf(weekly).equals(item.getWeeklyBuys()) &&
+        Integer.valueOf(monthly).equals(item.getMonthlyBuys())
+      ) {
+        continue;
+      }
+      weeklyBuys.put(item.getId(), weekly);
+      monthlyBuys.put(item.getId(), monthly);
+      updates.add(new Object[] { weekly, monthly, item.getId() });
+    }
+
+    if (!updates.isEmpty()) {
+      jdbcTemplate.batchUpdate(
+        UPDATE_BUYS_SQL,
+        updates,
+        FLUSH_BATCH_SIZE,
+        (ps, args) -> {
+          ps.setInt(1, (Integer) args[0]);
+          ps.setInt(2, (Integer) args[1]);
+          ps.setLong(3, (Long) args[2]);
+        }
+      );
+      menuCatalog.updateBuys(weeklyBuys, monthlyBuys);
+    }
+
+    // Drop items that have had no buys for the whole window
+    for (Long menuItemId : counters.keySet()) {
+      counters.computeIfPresent(menuItemId, (id, buckets) ->
+        buckets.isEmpty(today) ? null : buckets
+      );
+    }
+  }
+
+  private void record(Order order, int sign) {
+    LocalDateTime completedAt = order.getCompletedTime() != null
+      ? order.getCompletedTime()
+      : LocalDateTime.now();
+    LocalDate day = completedAt.toLocalDate();
+
+    // Capture ids and quantities now, while the order is still managed
+    Map<Long, Integer> quantities = new HashMap<>();
+    for (OrderItem orderItem : order.getOrderItems()) {
+      quantities.merge(
+        orderItem.getMenuItem().getId(),
+        sign * orderItem.getQuantity(),
+        Integer::sum
+      );
+    }
+
+    AfterCommit.run(() -> {
+      LocalDate today = LocalDate.now();
+      quantities.forEach((menuItemId, quantity) ->
+        add(menuItemId, day, quantity, today)
+      );
+    });
+  }
+
+  private void add(
+    Long menuItemId,
+    LocalDate day,
+    int quantity,
+    LocalDate today
+  ) {
+    long epochDay = day.toEpochDay();
+    long todayEpochDay = today.toEpochDay();
+    if (epochDay <= todayEpochDay - WINDOW_DAYS || epochDay > todayEpochDay) {
+      return;
+    }
+    // compute() keeps this atomic with the cleanup in flush()
+    counters.compute(menuItemId, (id, buckets) -> {
+      DailyBuckets target = buckets != null ? buckets : new DailyBuckets();
+      target.add(epochDay, quantity);
+      return target;
+    });
+  }
+
+  private static long today() {
+    return LocalDate.now().toEpochDay();
+  }
+
+  /**
+   * Ring of per-day counts indexed by epoch day modulo the window. A slot
+   * whose stored day is not the one being written is stale and is reset.
+   */
+  private static final class DailyBuckets {
+
+    private final long[] days = new long[WINDOW_DAYS];
+    private final int[] counts = new int[WINDOW_DAYS];
+
+    private synchronized void add(long epochDay, int quantity) {
+      int slot = (int) Math.floorMod(epochDay, (long) WINDOW_DAYS);
+      if (days[slot] != epochDay) {
+        days[slot] = epochDay;
+        counts[slot] = 0;
+      }
+      counts[slot] += quantity;
+    }
+
+    private synchronized int sum(long today, int span) {
+      int total = 0;
+      for (int slot = 0; slot < WINDOW_DAYS; slot++) {
+        if (days[slot] > today - span && days[slot] <= today) {
+          total += counts[slot];
+        }
+      }
+      return Math.max(total, 0);
+    }
+
+    private synchronized boolean isEmpty(long today) {
+      return sum(today, WINDOW_DAYS) == 0;
+    }
+  }
+}
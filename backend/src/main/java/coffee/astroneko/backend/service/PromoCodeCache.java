@@ -0,0 +1,134 @@
+package coffee.astroneko.backend.service;
+
+import coffee.astroneko.backend.dto.response.PromoResponse;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Promo code lookups, kept in a bounded LRU map with a TTL. Unknown codes
+ * are remembered too, for a shorter time, so repeated guesses do not reach
+ * the database. A known code's entry also expires when its promo starts or
+ * ends, and promo writes evict the codes they touch.
+ */
+@Service
+public class PromoCodeCache {
+
+  @Value("${app.promos.code-cache.max-size:10000}")
+  private int maxSize;
+
+  @Value("${app.promos.code-cache.ttl-seconds:600}")
+  private long ttlSeconds;
+
+  @Value("${app.promos.code-cache.negative-ttl-seconds:30}")
+  private long negativeTtlSeconds;
+
+  private final Map<String, Entry> entries = new LinkedHashMap<>(
+    16,
+    0.75f,
+    true
+  ) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+      return size() > maxSize;
+    }
+  };
+
+  // Bumped on every eviction, so a load that raced with a promo write is
+  // not cached
+  private long generation;
+
+  /**
+   * The promo with the given normalized code, loading and caching it on a
+   * miss. The loader runs outside the lock.
+   */
+  public Optional<PromoResponse> get(
+    String code,
+    Function<String, Optional<PromoResponse>> loader
+  ) {
+    LocalDateTime now = LocalDateTime.now();
+    long loadedAt;
+    synchronized (entries) {
+      Entry entry = entries.get(code);
+      if (entry != null && now.isBefore(entry.expiresAt)) {
+        return Optional.ofNullable(entry.promo);
+      }
+      loadedAt = generation;
+    }
+
+    Optional<PromoResponse> promo = loader.apply(code);
+    Entry entry = new Entry(promo.orElse(null), expiresAt(promo, now));
+    synchronized (entries) {
+      if (generation == loadedAt) {
+        entries.put(code, entry);
+      }
+    }
+    return promo;
+  }
+
+  public void evict(String code) {
+    if (code != null) {
+      synchronized (entries) {
+        entries.remove(code);
+        generation++;
+      }
+    }
+  }
+
+  /**
+   * Drop whatever code the given promo is cached under
+   */
+  public void evictPromo(Long promoId) {
+    synchronized (entries) {
+      entries
+        .values()
+        .removeIf(
+          entry -> entry.promo != null && promoId.equals(entry.promo.getId())
+        );
+      generation++;
+    }
+  }
+
+  public void clear() {
+    synchronized (entries) {
+      entries.clear();
+      generation++;
+    }
+  }
+
+  private LocalDateTime expiresAt(
+    Optional<PromoResponse> promo,
+    LocalDateTime now
+  ) {
+    if (promo.isEmpty()) {
+      return now.plusSeconds(negativeTtlSeconds);
+    }
+    LocalDateTime expiresAt = now.plusSeconds(ttlSeconds);
+    // Re-check at the next start or end so validity flips on time
+    LocalDateTime start = promo.get().getStartDate();
+    LocalDateTime end = promo.get().getEndDate();
+    if (start != null && start.isAfter(now) && start.isBefore(expiresAt)) {
+      expiresAt = start;
+    }
+    if (end != null && end.isAfter(now) && end.isBefore(expiresAt)) {
+      expiresAt = end.plusNanos(1);
+    }
+    return expiresAt;
+  }
+
+  private static final class Entry {
+
+    // Null for an unknown code
+    private final PromoResponse promo;
+    private final LocalDateTime expiresAt;
+
+    private Entry(PromoResponse promo, LocalDateTime expiresAt) {
+      this.promo = promo;
+      this.expiresAt = expiresAt;
+    }
+  }
+}
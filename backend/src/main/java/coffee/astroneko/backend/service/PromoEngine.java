@@ -0,0 +1,414 @@
+package coffee.astroneko.backend.service;
+
+import coffee.astroneko.backend.dto.request.OrderItemRequest;
+import coffee.astroneko.backend.dto.response.AppliedPromoResponse;
+import coffee.astroneko.backend.dto.response.CartEvaluationResponse;
+import coffee.astroneko.backend.dto.response.CartLineResponse;
+import coffee.astroneko.backend.dto.response.MenuItemResponse;
+import coffee.astroneko.backend.entity.MenuItem.ItemType;
+import coffee.astroneko.backend.entity.Promo.PromoType;
+import coffee.astroneko.backend.repository.PromoRepository;
+import coffee.astroneko.backend.util.AfterCommit;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * Prices carts against the running promos without touching the database.
+ * Promos are compiled into a {@link PromoIndex} that is rebuilt when a promo
+ * is written and, lazily, once the next start or end date passes.
+ *
+ * <p>Each line gets at most one item-level promo: the promos are tried
+ * best discount first and a line already discounted is skipped. The best
+ * MINIMUM_ORDER promo then applies to what is left of the order. Promos
+ * with a code only apply when that code is supplied.
+ */
+@Service
+public class PromoEngine {
+
+  private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+  @Autowired
+  private PromoRepository promoRepository;
+
+  @Autowired
+  private MenuCatalog menuCatalog;
+
+  private volatile PromoIndex index;
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void warmUp() {
+    rebuild();
+  }
+
+  /**
+   * Current index, rebuilt first if a promo has started or ended since it
+   * was built
+   */
+  public PromoIndex index() {
+    LocalDateTime now = LocalDateTime.now();
+    PromoIndex current = index;
+    if (current != null && current.isValidAt(now)) {
+      return current;
+    }
+    synchronized (this) {
+      current = index;
+      return current != null && current.isValidAt(now) ? current : rebuild();
+    }
+  }
+
+  public synchronized PromoIndex rebuild() {
+    LocalDateTime now = LocalDateTime.now();
+    PromoIndex next = PromoIndex.build(
+      promoRepository.findLivePromosWithMenuItems(now),
+      now
+    );
+    index = next;
+    return next;
+  }
+
+  /**
+   * Drop the index so the next request rebuilds it, e.g. once a promo is
+   * found to be used up
+   */
+  public void invalidate() {
+    index = null;
+  }
+
+  /**
+   * Rebuild the index once the surrounding transaction commits
+   */
+  public void rebuildAfterCommit() {
+    AfterCommit.run(this::rebuild);
+  }
+
+  /**
+   * Price requested items at their current menu prices
+   */
+  public CartEvaluationResponse evaluateCart(
+    List<OrderItemRequest> items,
+    String promoCode
+  ) {
+    MenuCatalogSnapshot snapshot = menuCatalog.snapshot();
+    List<CartLine> lines = new ArrayList<>(items.size());
+    for (OrderItemRequest item : items) {
+      MenuItemResponse menuItem = snapshot
+        .findById(item.getMenuItemId())
+        .orElseThrow(() ->
+          new IllegalArgumentException(
+            "Menu item not found with id: " + item.getMenuItemId()
+          )
+        );
+      lines.add(
+        new CartLine(
+          menuItem.getId(),
+          menuItem.getType(),
+          item.getQuantity(),
+          BigDecimal.valueOf(menuItem.getPrice())
+        )
+      );
+    }
+    return evaluate(lines, promoCode);
+  }
+
+  public CartEvaluationResponse evaluate(
+    List<CartLine> lines,
+    String promoCode
+  ) {
+    return evaluate(lines, promoCode, Set.of());
+  }
+
+  /**
+   * Price a cart in one pass over the index, ignoring the excluded promos.
+   * Line discounts come back in the same order as {@code lines}.
+   */
+  public CartEvaluationResponse evaluate(
+    List<CartLine> lines,
+    String promoCode,
+    Set<Long> excludedPromoIds
+  ) {
+    LocalDateTime now = LocalDateTime.now();
+    PromoIndex current = index();
+
+    BigDecimal subtotal = BigDecimal.ZERO;
+    for (CartLine line : lines) {
+      subtotal = subtotal.add(line.amount());
+    }
+    Optional<PromoRule> codeRule = current
+      .findByCode(promoCode)
+      .filter(rule -> rule.isActiveAt(now));
+
+    // Item-level candidates, each scored on the whole cart
+    Set<PromoRule> candidates = new LinkedHashSet<>();
+    for (CartLine line : lines) {
+      candidates.addAll(
+        current.itemRulesFor(line.getMenuItemId(), line.getType())
+      );
+    }
+    codeRule.filter(rule -> !rule.isOrderLevel()).ifPresent(candidates::add);
+    List<PromoRule> ranked = new ArrayList<>();
+    Map<PromoRule, BigDecimal> scores = new LinkedHashMap<>();
+    boolean[] none = new boolean[lines.size()];
+    for (PromoRule rule : candidates) {
+      if (
+        rule.isActiveAt(now) &&
+        rule.meetsMinimum(subtotal) &&
+        !excludedPromoIds.contains(rule.getId())
+      ) {
+        BigDecimal score = sum(discounts(rule, lines, none));
+        if (score.signum() > 0) {
+          ranked.add(rule);
+          scores.put(rule, score);
+        }
+      }
+    }
+    ranked.sort(
+      Comparator.comparing((PromoRule rule) -> scores.get(rule))
+        .reversed()
+        .thenComparing(PromoRule::getId)
+    );
+
+    BigDecimal[] lineDiscounts = new BigDecimal[lines.size()];
+    Long[] linePromos = new Long[lines.size()];
+    boolean[] claimed = new boolean[lines.size()];
+    List<AppliedPromoResponse> applied = new ArrayList<>();
+    BigDecimal itemDiscount = BigDecimal.ZERO;
+    for (PromoRule rule : ranked) {
+      BigDecimal[] discounts = discounts(rule, lines, claimed);
+      BigDecimal total = sum(discounts);
+      if (total.signum() <= 0) {
+        continue;
+      }
+      for (int i = 0; i < discounts.length; i++) {
+        if (discounts[i] != null && discounts[i].signum() > 0) {
+          lineDiscounts[i] = discounts[i];
+          linePromos[i] = rule.getId();
+          claimed[i] = true;
+        }
+      }
+      applied.add(applied(rule, total));
+      itemDiscount = itemDiscount.add(total);
+    }
+
+    // Order-level promos apply to what the items still cost
+    BigDecimal remaining = subtotal.subtract(itemDiscount);
+    List<PromoRule> orderRules = new ArrayList<>(current.getOrderLevelRules());
+    codeRule.filter(PromoRule::isOrderLevel).ifPresent(orderRules::add);
+    PromoRule bestOrderRule = null;
+    BigDecimal orderDiscount = BigDecimal.ZERO;
+    for (PromoRule rule : orderRules) {
+      if (
+        rule.isActiveAt(now) &&
+        rule.meetsMinimum(subtotal) &&
+        !excludedPromoIds.contains(rule.getId())
+      ) {
+        BigDecimal discount = orderDiscount(rule, remaining);
+        if (discount.compareTo(orderDiscount) > 0) {
+          bestOrderRule = rule;
+          orderDiscount = discount;
+        }
+      }
+    }
+    if (bestOrderRule != null) {
+      applied.add(applied(bestOrderRule, orderDiscount));
+    }
+
+    List<CartLineResponse> lineResponses = new ArrayList<>(lines.size());
+    for (int i = 0; i < lines.size(); i++) {
+      CartLine line = lines.get(i);
+      lineResponses.add(
+        new CartLineResponse(
+          line.getMenuItemId(),
+          line.getQuantity(),
+          line.getUnitPrice(),
+          line.amount(),
+          lineDiscounts[i] != null ? lineDiscounts[i] : BigDecimal.ZERO,
+          linePromos[i]
+        )
+      );
+    }
+
+    BigDecimal discountTotal = itemDiscount.add(orderDiscount);
+    CartEvaluationResponse response = new CartEvaluationResponse();
+    response.setSubtotal(subtotal);
+    response.setItemDiscount(itemDiscount);
+    response.setOrderDiscount(orderDiscount);
+    response.setDiscountTotal(discountTotal);
+    response.setTotal(subtotal.subtract(discountTotal));
+    response.setLines(lineResponses);
+    response.setAppliedPromos(applied);
+    response.setPromoCode(PromoRule.normalizeCode(promoCode));
+    response.setPromoCodeValid(codeRule.isPresent());
+    return response;
+  }
+
+  /**
+   * Discount per line for one promo over the lines it matches that are not
+   * yet claimed; null where it does not apply
+   */
+  private static BigDecimal[] discounts(
+    PromoRule rule,
+    List<CartLine> lines,
+    boolean[] claimed
+  ) {
+    BigDecimal[] discounts = new BigDecimal[lines.size()];
+    // A fixed amount is given once per order, spread over matching lines
+    BigDecimal fixedLeft = isFixed(rule) ? amountOf(rule) : null;
+    for (int i = 0; i < lines.size(); i++) {
+      CartLine line = lines.get(i);
+      if (
+        claimed[i] || !rule.appliesTo(line.getMenuItemId(), line.getType())
+      ) {
+        continue;
+      }
+      BigDecimal discount;
+      if (rule.getPromoType() == PromoType.BUY_ONE_GET_ONE) {
+        discount = line
+          .getUnitPrice()
+          .multiply(BigDecimal.valueOf(line.getQuantity() / 2));
+      } else if (fixedLeft != null) {
+        discount = fixedLeft.min(line.amount());
+        fixedLeft = fixedLeft.subtract(discount);
+      } else {
+        discount = percentOf(line.amount(), rule.getDiscountPercentage());
+      }
+      discounts[i] = discount.min(line.amount());
+    }
+    return limit(discounts, rule.getMaximumDiscountAmount());
+  }
+
+  private static BigDecimal orderDiscount(PromoRule rule, BigDecimal amount) {
+    BigDecimal discount = isFixed(rule)
+      ? amountOf(rule)
+      : percentOf(amount, rule.getDiscountPercentage());
+    return rule.cap(discount).min(amount).max(BigDecimal.ZERO);
+  }
+
+  /**
+   * FIXED_AMOUNT_DISCOUNT, or any other non-BOGO type that only has an
+   * amount set
+   */
+  private static boolean isFixed(PromoRule rule) {
+    if (rule.getPromoType() == PromoType.FIXED_AMOUNT_DISCOUNT) {
+      return true;
+    }
+    return (
+      rule.getPromoType() != PromoType.PERCENTAGE_DISCOUNT &&
+      rule.getPromoType() != PromoType.BUY_ONE_GET_ONE &&
+      rule.getDiscountPercentage() == null &&
+      rule.getDiscountAmount() != null
+    );
+  }
+
+  private static BigDecimal amountOf(PromoRule rule) {
+    return rule.getDiscountAmount() != null
+      ? rule.getDiscountAmount()
+      : BigDecimal.ZERO;
+  }
+
+  private static BigDecimal percentOf(BigDecimal amount, BigDecimal percent) {
+    if (percent == null) {
+      return BigDecimal.ZERO;
+    }
+    return amount.multiply(percent).divide(HUNDRED, 2, RoundingMode.HALF_UP);
+  }
+
+  /**
+   * Trim line discounts, first lines first, so their sum stays within
+   * maximumDiscountAmount
+   */
+  private static BigDecimal[] limit(BigDecimal[] discounts, BigDecimal max) {
+    BigDecimal left = max;
+    for (int i = 0; i < discounts.length; i++) {
+      if (discounts[i] == null) {
+        continue;
+      }
+      BigDecimal discount = discounts[i].setScale(2, RoundingMode.HALF_UP);
+      if (left != null) {
+        discount = discount.min(left);
+        left = left.subtract(discount);
+      }
+      discounts[i] = discount;
+    }
+    return discounts;
+  }
+
+  private static BigDecimal sum(BigDecimal[] discounts) {
+    BigDecimal total = BigDecimal.ZERO;
+    for (BigDecimal discount : discounts) {
+      if (discount != null) {
+        total = total.add(discount);
+      }
+    }
+    return total;
+  }
+
+  private static AppliedPromoResponse applied(
+    PromoRule rule,
+    BigDecimal discount
+  ) {
+    return new AppliedPromoResponse(
+      rule.getId(),
+      rule.getName(),
+      rule.getPromoType(),
+      rule.getApplicableTo(),
+      rule.getPromoCode(),
+      discount
+    );
+  }
+
+  /**
+   * One cart line as the engine sees it
+   */
+  public static final class CartLine {
+
+    private final Long menuItemId;
+    private final ItemType type;
+    private final int quantity;
+    private final BigDecimal unitPrice;
+
+    public CartLine(
+      Long menuItemId,
+      ItemType type,
+      int quantity,
+      BigDecimal unitPrice
+    ) {
+      this.menuItemId = menuItemId;
+      this.type = type;
+      this.quantity = quantity;
+      this.unitPrice = unitPrice;
+    }
+
+    public BigDecimal amount() {
+      return unitPrice.multiply(BigDecimal.valueOf(quantity));
+    }
+
+    public Long getMenuItemId() {
+      return menuItemId;
+    }
+
+    public ItemType getType() {
+      return type;
+    }
+
+    public int getQuantity() {
+      return quantity;
+    }
+
+    public BigDecimal getUnitPrice() {
+      return unitPrice;
+    }
+  }
+}
@@ -0,0 +1,173 @@
+package coffee.astroneko.backend.service;
+
+import coffee.astroneko.backend.entity.MenuItem.ItemType;
+import coffee.astroneko.backend.entity.Promo;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Immutable index of the promos running at one point in time, keyed by menu
+ * item, item type and code. Valid until the next promo start or end date,
+ * after which the engine builds a new one.
+ */
+public final class PromoIndex {
+
+  private final LocalDateTime builtAt;
+  private final LocalDateTime validUntil;
+  private final int size;
+  private final List<PromoRule> allItems;
+  private final Map<Long, List<PromoRule>> byMenuItem;
+  private final Map<ItemType, List<PromoRule>> byItemType;
+  private final List<PromoRule> orderLevel;
+  // Promos with a code are only reachable through it
+  private final Map<String, PromoRule> byCode;
+  private final Map<Long, PromoRule> byId;
+
+  private PromoIndex(List<Promo> promos, LocalDateTime now) {
+    List<PromoRule> all = new ArrayList<>();
+    Map<Long, List<PromoRule>> menuItems = new HashMap<>();
+    Map<ItemType, List<PromoRule>> itemTypes = new EnumMap<>(ItemType.class);
+    List<PromoRule> order = new ArrayList<>();
+    Map<String, PromoRule> codes = new HashMap<>();
+    Map<Long, PromoRule> ids = new HashMap<>();
+    LocalDateTime next = LocalDateTime.MAX;
+    int count = 0;
+
+    for (Promo promo : promos) {
+      if (promo.getStartDate() == null || promo.getEndDate() == null) {
+        continue;
+      }
+      // The boundary after endDate is when the promo stops matching
+      LocalDateTime expiresAt = promo.getEndDate().plusNanos(1);
+      if (promo.getStartDate().isAfter(now)) {
+        next = min(next, promo.getStartDate());
+        continue;
+      }
+      if (!expiresAt.isAfter(now) || isUsedUp(promo)) {
+        continue;
+      }
+      next = min(next, expiresAt);
+
+      PromoRule rule = PromoRule.from(promo);
+      count++;
+      ids.put(rule.getId(), rule);
+      if (rule.requiresCode()) {
+        codes.put(rule.getPromoCode(), rule);
+        continue;
+      }
+      switch (rule.getApplicableTo()) {
+        case ALL_ITEMS:
+          all.add(rule);
+          break;
+        case SPECIFIC_ITEMS:
+          for (Long menuItemId : rule.getMenuItemIds()) {
+            menuItems
+              .computeIfAbsent(menuItemId, k -> new ArrayList<>())
+              .add(rule);
+          }
+          break;
+        case CATEGORY_BASED:
+          for (ItemType type : rule.getItemTypes()) {
+            itemTypes.computeIfAbsent(type, k -> new ArrayList<>()).add(rule);
+          }
+          break;
+        case MINIMUM_ORDER:
+          order.add(rule);
+          break;
+        default:
+          break;
+      }
+    }
+
+    this.builtAt = now;
+    this.validUntil = next;
+    this.size = count;
+    this.allItems = List.copyOf(all);
+    this.byMenuItem = freeze(menuItems);
+    this.byItemType = freeze(itemTypes);
+    this.orderLevel = List.copyOf(order);
+    this.byCode = Map.copyOf(codes);
+    this.byId = Map.copyOf(ids);
+  }
+
+  /**
+   * Index the promos that are running at {@code now}. The list may also
+   * hold promos that start later; they only move the validity boundary.
+   */
+  public static PromoIndex build(List<Promo> promos, LocalDateTime now) {
+    return new PromoIndex(promos, now);
+  }
+
+  /**
+   * Item-level promos without a code that can match the given item
+   */
+  public Set<PromoRule> itemRulesFor(Long menuItemId, ItemType type) {
+    Set<PromoRule> rules = new LinkedHashSet<>(allItems);
+    rules.addAll(byMenuItem.getOrDefault(menuItemId, List.of()));
+    if (type != null) {
+      rules.addAll(byItemType.getOrDefault(type, List.of()));
+    }
+    return rules;
+  }
+
+  public List<PromoRule> getOrderLevelRules() {
+    return orderLevel;
+  }
+
+  public Optional<PromoRule> findByCode(String code) {
+    String normalized = PromoRule.normalizeCode(code);
+    return normalized != null
+      ? Optional.ofNullable(byCode.get(normalized))
+      : Optional.empty();
+  }
+
+  public Optional<PromoRule> findById(Long id) {
+    return Optional.ofNullable(byId.get(id));
+  }
+
+  /**
+   * Whether the index still describes the promos running at {@code now}
+   */
+  public boolean isValidAt(LocalDateTime now) {
+    return !now.isBefore(builtAt) && now.isBefore(validUntil);
+  }
+
+  public LocalDateTime getBuiltAt() {
+    return builtAt;
+  }
+
+  public LocalDateTime getValidUntil() {
+    return validUntil;
+  }
+
+  public int size() {
+    return size;
+  }
+
+  private static boolean isUsedUp(Promo promo) {
+    return (
+      promo.getUsageLimit() != null &&
+      promo.getCurrentUsage() != null &&
+      promo.getCurrentUsage() >= promo.getUsageLimit()
+    );
+  }
+
+  private static LocalDateTime min(LocalDateTime a, LocalDateTime b) {
+    return a.isBefore(b) ? a : b;
+  }
+
+  private static <K> Map<K, List<PromoRule>> freeze(
+    Map<K, List<PromoRule>> index
+  ) {
+    index.replaceAll((key, rules) -> Collections.unmodifiableList(rules));
+    return Collections.unmodifiableMap(index);
+  }
+}
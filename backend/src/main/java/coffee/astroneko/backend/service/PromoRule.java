@@ -0,0 +1,194 @@
+package coffee.astroneko.backend.service;
+
+import coffee.astroneko.backend.entity.MenuItem;
+import coffee.astroneko.backend.entity.MenuItem.ItemType;
+import coffee.astroneko.backend.entity.Promo;
+import coffee.astroneko.backend.entity.Promo.ApplicableTo;
+import coffee.astroneko.backend.entity.Promo.PromoType;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * A promo compiled for the promo engine: the pricing fields copied off the
+ * entity, plus the ids and item types of its linked menu items
+ */
+public final class PromoRule {
+
+  private final Long id;
+  private final String name;
+  private final PromoType promoType;
+  private final ApplicableTo applicableTo;
+  private final BigDecimal discountPercentage;
+  private final BigDecimal discountAmount;
+  private final BigDecimal minimumOrderAmount;
+  private final BigDecimal maximumDiscountAmount;
+  private final String promoCode;
+  private final LocalDateTime startDate;
+  private final LocalDateTime endDate;
+  private final Integer usageLimit;
+  private final Set<Long> menuItemIds;
+  private final Set<ItemType> itemTypes;
+
+  private PromoRule(Promo promo) {
+    this.id = promo.getId();
+    this.name = promo.getName();
+    this.promoType = promo.getPromoType();
+    this.applicableTo = promo.getApplicableTo();
+    this.discountPercentage = promo.getDiscountPercentage();
+    this.discountAmount = promo.getDiscountAmount();
+    this.minimumOrderAmount = promo.getMinimumOrderAmount();
+    this.maximumDiscountAmount = promo.getMaximumDiscountAmount();
+    this.promoCode = normalizeCode(promo.getPromoCode());
+    this.startDate = promo.getStartDate();
+    this.endDate = promo.getEndDate();
+    this.usageLimit = promo.getUsageLimit();
+
+    Set<Long> ids = new HashSet<>();
+    Set<ItemType> types = EnumSet.noneOf(ItemType.class);
+    if (promo.getMenuItems() != null) {
+      for (MenuItem menuItem : promo.getMenuItems()) {
+        if (!Boolean.TRUE.equals(menuItem.getIsDeleted())) {
+          ids.add(menuItem.getId());
+          if (menuItem.getType() != null) {
+            types.add(menuItem.getType());
+          }
+        }
+      }
+    }
+    this.menuItemIds = Set.copyOf(ids);
+    this.itemTypes = types.isEmpty() ? Set.of() : Set.copyOf(types);
+  }
+
+  public static PromoRule from(Promo promo) {
+    return new PromoRule(promo);
+  }
+
+  /**
+   * Promo codes are matched case-insensitively
+   */
+  public static String normalizeCode(String code) {
+    if (code == null || code.isBlank()) {
+      return null;
+    }
+    return code.trim().toUpperCase(Locale.ROOT);
+  }
+
+  /**
+   * startDate <= now <= endDate; the active flag and usage limit are
+   * checked when the index is built
+   */
+  public boolean isActiveAt(LocalDateTime now) {
+    return !startDate.isAfter(now) && !endDate.isBefore(now);
+  }
+
+  /**
+   * Whether the promo discounts whole orders rather than matching items
+   */
+  public boolean isOrderLevel() {
+    return applicableTo == ApplicableTo.MINIMUM_ORDER;
+  }
+
+  /**
+   * Whether redemptions count against a usage limit
+   */
+  public boolean isLimited() {
+    return usageLimit != null;
+  }
+
+  public boolean requiresCode() {
+    return promoCode != null;
+  }
+
+  public boolean appliesTo(Long menuItemId, ItemType type) {
+    switch (applicableTo) {
+      case ALL_ITEMS:
+        return true;
+      case SPECIFIC_ITEMS:
+        return menuItemIds.contains(menuItemId);
+      case CATEGORY_BASED:
+        return type != null && itemTypes.contains(type);
+      default:
+        return false;
+    }
+  }
+
+  public boolean meetsMinimum(BigDecimal orderSubtotal) {
+    return (
+      minimumOrderAmount == null ||
+      orderSubtotal.compareTo(minimumOrderAmount) >= 0
+    );
+  }
+
+  /**
+   * Caps a discount at maximumDiscountAmount, when one is set
+   */
+  public BigDecimal cap(BigDecimal discount) {
+    if (
+      maximumDiscountAmount != null &&
+      discount.compareTo(maximumDiscountAmount) > 0
+    ) {
+      return maximumDiscountAmount;
+    }
+    return discount;
+  }
+
+  public Long getId() {
+    return id;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public PromoType getPromoType() {
+    return promoType;
+  }
+
+  public ApplicableTo getApplicableTo() {
+    return applicableTo;
+  }
+
+  public BigDecimal getDiscountPercentage() {
+    return discountPercentage;
+  }
+
+  public BigDecimal getDiscountAmount() {
+    return discountAmount;
+  }
+
+  public BigDecimal getMinimumOrderAmount() {
+    return minimumOrderAmount;
+  }
+
+  public BigDecimal getMaximumDiscountAmount() {
+    return maximumDiscountAmount;
+  }
+
+  public String getPromoCode() {
+    return promoCode;
+  }
+
+  public LocalDateTime getStartDate() {
+    return startDate;
+  }
+
+  public LocalDateTime getEndDate() {
+    return endDate;
+  }
+
+  public Integer getUsageLimit() {
+    return usageLimit;
+  }
+
+  public Set<Long> getMenuItemIds() {
+    return menuItemIds;
+  }
+
+  public Set<ItemType> getItemTypes() {
+    return itemTypes;
+  }
+}
@@ -0,0 +1,351 @@
+package coffee.astroneko.backend.service;
+
+import coffee.astroneko.backend.dto.request.PromoRequest;
+import coffee.astroneko.backend.dto.response.AppliedPromoResponse;
+import coffee.astroneko.backend.dto.response.CartEvaluationResponse;
+import coffee.astroneko.backend.dto.response.PromoCodeResponse;
+import coffee.astroneko.backend.dto.response.PromoResponse;
+import coffee.astroneko.backend.entity.MenuItem;
+import coffee.astroneko.backend.entity.Promo;
+import coffee.astroneko.backend.entity.Promo.ApplicableTo;
+import coffee.astroneko.backend.entity.Promo.PromoType;
+import coffee.astroneko.backend.repository.MenuItemRepository;
+import coffee.astroneko.backend.repository.PromoRepository;
+import coffee.astroneko.backend.util.AfterCommit;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Transactional
+public class PromoService {
+
+  // Width of promos.promo_code
+  private static final int MAX_CODE_LENGTH = 50;
+
+  @Autowired
+  private PromoRepository promoRepository;
+
+  @Autowired
+  private MenuItemRepository menuItemRepository;
+
+  @Autowired
+  private PromoEngine promoEngine;
+
+  @Autowired
+  private MenuCatalog menuCatalog;
+
+  @Autowired
+  private PromoCodeCache promoCodeCache;
+
+  @Transactional(readOnly = true)
+  public List<PromoResponse> getAllPromos() {
+    return promoRepository
+      .findAll()
+      .stream()
+      .map(PromoResponse::from)
+      .collect(Collectors.toList());
+  }
+
+  @Transactional(readOnly = true)
+  public Optional<PromoResponse> getPromoById(Long id) {
+    return promoRepository.findById(id).map(PromoResponse::from);
+  }
+
+  /**
+   * Whether a promo code can be used right now. Served from the promo code
+   * cache, which also remembers unknown codes for a short while.
+   */
+  @Transactional(readOnly = true)
+  public PromoCodeResponse checkPromoCode(String code) {
+    String normalized = PromoRule.normalizeCode(code);
+    if (normalized == null) {
+      throw new IllegalArgumentException("Promo code is required");
+    }
+    if (normalized.length() > MAX_CODE_LENGTH) {
+      // Longer than any stored code; not worth a cache slot
+      return new PromoCodeResponse(normalized, "Promo code not found");
+    }
+    Optional<PromoResponse> promo = promoCodeCache.get(normalized, key ->
+      promoRepository.findByPromoCode(key).map(PromoResponse::from)
+    );
+    if (promo.isEmpty()) {
+      return new PromoCodeResponse(normalized, "Promo code not found");
+    }
+    return new PromoCodeResponse(promo.get(), unusableReason(promo.get()));
+  }
+
+  /**
+   * Create a promo and link it to its menu items (Manager only)
+   */
+  @PreAuthorize("hasRole('MANAGER') or hasRole('OWNER')")
+  public PromoResponse createPromo(PromoRequest request) {
+    validate(request, null);
+    Promo promo = new Promo();
+    apply(promo, request);
+    Promo saved = promoRepository.save(promo);
+    linkMenuItems(saved, request.getMenuItemIds());
+    published(null, saved.getPromoCode());
+    return PromoResponse.from(saved);
+  }
+
+  /**
+   * Replace a promo's settings and linked menu items. Usage so far is kept.
+   * Manager only.
+   */
+  @PreAuthorize("hasRole('MANAGER') or hasRole('OWNER')")
+  public PromoResponse updatePromo(Long id, PromoRequest request) {
+    Promo promo = promoRepository
+      .findById(id)
+      .orElseThrow(() ->
+        new RuntimeException("Promo not found with id: " + id)
+      );
+    validate(request, id);
+    String previousCode = promo.getPromoCode();
+    apply(promo, request);
+    promo.setUpdatedAt(LocalDateTime.now());
+    Promo saved = promoRepository.save(promo);
+    linkMenuItems(saved, request.getMenuItemIds());
+    published(previousCode, saved.getPromoCode());
+    return PromoResponse.from(saved);
+  }
+
+  /**
+   * Switch a promo off; it stays on record with its usage (Manager only)
+   */
+  @PreAuthorize("hasRole('MANAGER') or hasRole('OWNER')")
+  public void deactivatePromo(Long id) {
+    Promo promo = promoRepository
+      .findById(id)
+      .orElseThrow(() ->
+        new RuntimeException("Promo not found with id: " + id)
+      );
+    promo.setIsActive(false);
+    promo.setUpdatedAt(LocalDateTime.now());
+    promoRepository.save(promo);
+    published(null, promo.getPromoCode());
+  }
+
+  /**
+   * Take one use of a promo, in the caller's transaction. Returns false if
+   * the promo is inactive or already at its usage limit.
+   */
+  public boolean reserveUsage(Long promoId) {
+    boolean reserved =
+      promoRepository.reserveUsage(promoId, LocalDateTime.now()) == 1;
+    if (!reserved) {
+      // Cached copies still offer it; drop them so other carts stop
+      // getting it
+      promoEngine.invalidate();
+      promoCodeCache.evictPromo(promoId);
+    }
+    return reserved;
+  }
+
+  /**
+   * Price a cart and take one use of every limited promo applied to it. A
+   * promo that turns out to be used up is left out and the cart priced
+   * again, unless it was asked for by code. Uses roll back with the
+   * transaction. Rows are locked in promo id order, so carts sharing promos
+   * cannot deadlock; unlimited promos are not counted, so they lock
+   * nothing.
+   */
+  public CartEvaluationResponse priceAndRedeem(
+    List<PromoEngine.CartLine> lines,
+    String promoCode
+  ) {
+    Set<Long> usedUp = new HashSet<>();
+    Set<Long> reserved = new HashSet<>();
+    while (true) {
+      CartEvaluationResponse pricing = promoEngine.evaluate(
+        lines,
+        promoCode,
+        usedUp
+      );
+      if (
+        promoCode != null &&
+        !promoCode.isBlank() &&
+        !pricing.isPromoCodeValid()
+      ) {
+        throw new IllegalArgumentException(
+          "Promo code is not valid: " + promoCode
+        );
+      }
+
+      PromoIndex index = promoEngine.index();
+      List<AppliedPromoResponse> byId = pricing
+        .getAppliedPromos()
+        .stream()
+        .sorted(Comparator.comparing(AppliedPromoResponse::getPromoId))
+        .toList();
+      AppliedPromoResponse failed = null;
+      for (AppliedPromoResponse applied : byId) {
+        if (
+          reserved.contains(applied.getPromoId()) ||
+          !isLimited(index, applied.getPromoId())
+        ) {
+          continue;
+        }
+        if (!reserveUsage(applied.getPromoId())) {
+          failed = applied;
+          break;
+        }
+        reserved.add(applied.getPromoId());
+      }
+
+      if (failed == null) {
+        // Give back uses of promos dropped by an earlier re-pricing
+        Set<Long> kept = pricing
+          .getAppliedPromos()
+          .stream()
+          .map(AppliedPromoResponse::getPromoId)
+          .collect(Collectors.toSet());
+        LocalDateTime now = LocalDateTime.now();
+        for (Long promoId : reserved) {
+          if (!kept.contains(promoId)) {
+            promoRepository.releaseUsage(promoId, now);
+          }
+        }
+        return pricing;
+      }
+      if (failed.getPromoCode() != null) {
+        throw new IllegalStateException(
+          "Promo code has reached its usage limit: " + failed.getPromoCode()
+        );
+      }
+      usedUp.add(failed.getPromoId());
+    }
+  }
+
+  /**
+   * Unknown promos, e.g. dropped by a rebuild since pricing, are treated
+   * as limited so the conditional update still checks them
+   */
+  private static boolean isLimited(PromoIndex index, Long promoId) {
+    return index.findById(promoId).map(PromoRule::isLimited).orElse(true);
+  }
+
+  private void validate(PromoRequest request, Long id) {
+    if (!request.getEndDate().isAfter(request.getStartDate())) {
+      throw new IllegalArgumentException("End date must be after start date");
+    }
+    if (
+      request.getPromoType() != PromoType.BUY_ONE_GET_ONE &&
+      request.getDiscountPercentage() == null &&
+      request.getDiscountAmount() == null
+    ) {
+      throw new IllegalArgumentException(
+        "A discount percentage or amount is required"
+      );
+    }
+    boolean needsItems =
+      request.getApplicableTo() == ApplicableTo.SPECIFIC_ITEMS ||
+      request.getApplicableTo() == ApplicableTo.CATEGORY_BASED;
+    if (
+      needsItems &&
+      (request.getMenuItemIds() == null || request.getMenuItemIds().isEmpty())
+    ) {
+      throw new IllegalArgumentException(
+        request.getApplicableTo() + " promos need at least one menu item"
+      );
+    }
+    String code = PromoRule.normalizeCode(request.getPromoCode());
+    if (code != null) {
+      promoRepository
+        .findByPromoCode(code)
+        .filter(existing -> !existing.getId().equals(id))
+        .ifPresent(existing -> {
+          throw new IllegalArgumentException(
+            "Promo code already in use: " + code
+          );
+        });
+    }
+  }
+
+  private static void apply(Promo promo, PromoRequest request) {
+    promo.setName(request.getName());
+    promo.setDescription(request.getDescription());
+    promo.setPromoType(request.getPromoType());
+    promo.setDiscountPercentage(request.getDiscountPercentage());
+    promo.setDiscountAmount(request.getDiscountAmount());
+    promo.setStartDate(request.getStartDate());
+    promo.setEndDate(request.getEndDate());
+    promo.setIsActive(!Boolean.FALSE.equals(request.getIsActive()));
+    promo.setUsageLimit(request.getUsageLimit());
+    promo.setMinimumOrderAmount(request.getMinimumOrderAmount());
+    promo.setMaximumDiscountAmount(request.getMaximumDiscountAmount());
+    promo.setPromoCode(PromoRule.normalizeCode(request.getPromoCode()));
+    promo.setApplicableTo(request.getApplicableTo());
+  }
+
+  /**
+   * MenuItem owns the join table, so links are changed from its side
+   */
+  private void linkMenuItems(Promo promo, Set<Long> menuItemIds) {
+    Set<Long> wanted = menuItemIds != null ? menuItemIds : Set.of();
+    Set<MenuItem> linked = new HashSet<>();
+    for (MenuItem menuItem : menuItemRepository.findAllById(wanted)) {
+      if (Boolean.TRUE.equals(menuItem.getIsDeleted())) {
+        continue;
+      }
+      if (menuItem.getPromos() == null) {
+        menuItem.setPromos(new HashSet<>());
+      }
+      menuItem.getPromos().add(promo);
+      linked.add(menuItem);
+    }
+    if (linked.size() != wanted.size()) {
+      throw new IllegalArgumentException("Unknown menu item in promo");
+    }
+    if (promo.getMenuItems() != null) {
+      for (MenuItem menuItem : promo.getMenuItems()) {
+        if (!linked.contains(menuItem) && menuItem.getPromos() != null) {
+          menuItem.getPromos().remove(promo);
+        }
+      }
+    }
+    promo.setMenuItems(linked);
+  }
+
+  /**
+   * After commit: rebuild the promo index and the menu's promo windows,
+   * and evict the written codes, including a code that was negatively
+   * cached before the promo took it
+   */
+  private void published(String previousCode, String code) {
+    promoEngine.rebuildAfterCommit();
+    AfterCommit.run(() -> {
+      menuCatalog.reload();
+      promoCodeCache.evict(previousCode);
+      promoCodeCache.evict(code);
+    });
+  }
+
+  private static String unusableReason(PromoResponse promo) {
+    LocalDateTime now = LocalDateTime.now();
+    if (!Boolean.TRUE.equals(promo.getIsActive())) {
+      return "Promo is not active";
+    }
+    if (promo.getStartDate().isAfter(now)) {
+      return "Promo has not started yet";
+    }
+    if (promo.getEndDate().isBefore(now)) {
+      return "Promo has expired";
+    }
+    if (
+      promo.getUsageLimit() != null &&
+      promo.getCurrentUsage() >= promo.getUsageLimit()
+    ) {
+      return "Promo has reached its usage limit";
+    }
+    return null;
+  }
+}
@@ -0,0 +1,75 @@
+package coffee.astroneko.backend.service;
+
+import coffee.astroneko.backend.entity.Promo;
+import java.time.LocalDateTime;
+
+/**
+ * Time window of a promo linked to a menu item, detached from the entity so
+ * it can live in the menu catalog
+ */
+public final class PromoWindow {
+
+  private final Long promoId;
+  private final boolean active;
+  private final LocalDateTime startDate;
+  private final LocalDateTime endDate;
+
+  public PromoWindow(
+    Long promoId,
+    boolean active,
+    LocalDateTime startDate,
+    LocalDateTime endDate
+  ) {
+    this.promoId = promoId;
+    this.active = active;
+    this.startDate = startDate;
+    this.endDate = endDate;
+  }
+
+  public static PromoWindow from(Promo promo) {
+    return new PromoWindow(
+      promo.getId(),
+      Boolean.TRUE.equals(promo.getIsActive()),
+      promo.getStartDate(),
+      promo.getEndDate()
+    );
+  }
+
+  /**
+   * Same rule as the promotional items query: active flag set and
+   * startDate <= now <= endDate
+   */
+  public boolean isActiveAt(LocalDateTime now) {
+    return (
+      active &&
+      startDate != null &&
+      endDate != null &&
+      !startDate.isAfter(now) &&
+      !endDate.isBefore(now)
+    );
+  }
+
+  /**
+   * Whether the promo can still become or stay active at or after the given
+   * time
+   */
+  public boolean isLiveAfter(LocalDateTime time) {
+    return active && endDate != null && !endDate.isBefore(time);
+  }
+
+  public Long getPromoId() {
+    return promoId;
+  }
+
+  public boolean isActive() {
+    return active;
+  }
+
+  public LocalDateTime getStartDate() {
+    return startDate;
+  }
+
+  public LocalDateTime getEndDate() {
+    return endDate;
+  }
+}
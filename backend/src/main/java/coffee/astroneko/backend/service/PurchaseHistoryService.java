@@ -1,15 +1,35 @@
 package coffee.astroneko.backend.service;
 
+import coffee.astroneko.backend.dto.response.CursorPage;
 import coffee.astroneko.backend.dto.response.PurchaseHistoryResponse;
 import coffee.astroneko.backend.entity.PurchaseHistory;
+import coffee.astroneko.backend.repository.OrderItemRepository;
 import coffee.astroneko.backend.repository.PurchaseHistoryRepository;
+import coffee.astroneko.backend.repository.projection.PurchaseHistoryExportRow;
+import coffee.astroneko.backend.util.Cursor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -19,16 +39,31 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional
 public class PurchaseHistoryService {
 
+  private static final String CURSOR_SORT_BY = "orderDate";
+  private static final String CURSOR_SORT_DIR = "desc";
+  private static final String CSV_HEADER =
+    "id,customerId,customerName,customerEmail,orderId,orderDate,status," +
+    "paymentMethod,itemsCount,totalAmount,discountApplied,pointsEarned," +
+    "pointsUsed,notes,createdAt,updatedAt";
+
   @Autowired
   private PurchaseHistoryRepository purchaseHistoryRepository;
 
+  @Autowired
+  private OrderItemRepository orderItemRepository;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  public enum ExportFormat {
+    NDJSON,
+    CSV,
+  }
+
   @Transactional(readOnly = true)
   public List<PurchaseHistoryResponse> getAllPurchaseHistory() {
     List<PurchaseHistory> purchases = purchaseHistoryRepository.findAll();
-    return purchases
-      .stream()
-      .map(this::mapToPurchaseHistoryResponse)
-      .collect(Collectors.toList());
+    return mapToPurchaseHistoryResponses(purchases);
   }
 
   @Transactional(readOnly = true)
@@ -39,10 +74,7 @@ public class PurchaseHistoryService {
       purchaseHistoryRepository.findByCustomerIdOrderByOrderOrderDateDesc(
         customerId
       );
-    return purchases
-      .stream()
-      .map(this::mapToPurchaseHistoryResponse)
-      .collect(Collectors.toList());
+    return mapToPurchaseHistoryResponses(purchases);
   }
 
   @Transactional(readOnly = true)
@@ -57,13 +89,74 @@ public class PurchaseHistoryService {
         customerId,
         pageable
       );
-    return purchases.map(this::mapToPurchaseHistoryResponse);
+    return new PageImpl<>(
+      mapToPurchaseHistoryResponses(purchases.getContent()),
+      purchases.getPageable(),
+      purchases.getTotalElements()
+    );
+  }
+
+  /**
+   * Keyset-paginated purchase history for a customer, newest first. Seeks
+   * past the cursor on (order date, id) and reads one extra row instead of
+   * counting.
+   */
+  @Transactional(readOnly = true)
+  public CursorPage<
+    PurchaseHistoryResponse
+  > getPurchaseHistoryByCustomerIdAfterCursor(
+    Long customerId,
+    String cursor,
+    int size
+  ) {
+    if (size < 1) {
+      throw new IllegalArgumentException("Page size must not be less than one");
+    }
+    Limit limit = Limit.of(size + 1);
+
+    List<PurchaseHistory> rows;
+    if (cursor == null || cursor.isEmpty()) {
+      rows = purchaseHistoryRepository.findFirstByCustomerIdKeyset(
+        customerId,
+        limit
+      );
+    } else {
+      Cursor after = Cursor.decode(cursor);
+      after.checkSort(CURSOR_SORT_BY, CURSOR_SORT_DIR);
+      rows = purchaseHistoryRepository.findNextByCustomerIdKeyset(
+        customerId,
+        parseOrderDate(after.getValue()),
+        after.getId(),
+        limit
+      );
+    }
+
+    boolean hasNext = rows.size() > size;
+    List<PurchaseHistory> purchases = hasNext ? rows.subList(0, size) : rows;
+    String nextCursor = null;
+    if (hasNext) {
+      PurchaseHistory last = purchases.get(purchases.size() - 1);
+      nextCursor = Cursor.of(
+        CURSOR_SORT_BY,
+        CURSOR_SORT_DIR,
+        last.getId(),
+        last.getOrderDate()
+      ).encode();
+    }
+
+    return new CursorPage<>(
+      mapToPurchaseHistoryResponses(purchases),
+      nextCursor,
+      size
+    );
   }
 
   @Transactional(readOnly = true)
   public Optional<PurchaseHistoryResponse> getPurchaseHistoryById(Long id) {
     Optional<PurchaseHistory> purchase = purchaseHistoryRepository.findById(id);
-    return purchase.map(this::mapToPurchaseHistoryResponse);
+    return purchase.map(found ->
+      mapToPurchaseHistoryResponses(List.of(found)).get(0)
+    );
   }
 
   @Transactional(readOnly = true)
@@ -72,10 +165,7 @@ public class PurchaseHistoryService {
   ) {
     List<PurchaseHistory> purchases =
       purchaseHistoryRepository.findByOrderOrderNumber(orderId);
-    return purchases
-      .stream()
-      .map(this::mapToPurchaseHistoryResponse)
-      .collect(Collectors.toList());
+    return mapToPurchaseHistoryResponses(purchases);
   }
 
   @Transactional(readOnly = true)
@@ -87,10 +177,7 @@ public class PurchaseHistoryService {
       startDate,
       endDate
     );
-    return purchases
-      .stream()
-      .map(this::mapToPurchaseHistoryResponse)
-      .collect(Collectors.toList());
+    return mapToPurchaseHistoryResponses(purchases);
   }
 
   @Transactional(readOnly = true)
@@ -105,10 +192,7 @@ public class PurchaseHistoryService {
         startDate,
         endDate
       );
-    return purchases
-      .stream()
-      .map(this::mapToPurchaseHistoryResponse)
-      .collect(Collectors.toList());
+    return mapToPurchaseHistoryResponses(purchases);
   }
 
   @Transactional(readOnly = true)
@@ -124,8 +208,56 @@ public class PurchaseHistoryService {
     return total != null ? total : BigDecimal.ZERO;
   }
 
+  private static LocalDateTime parseOrderDate(String value) {
+    if (value == null) {
+      throw new IllegalArgumentException("Invalid cursor");
+    }
+    try {
+      return LocalDateTime.parse(value);
+    } catch (DateTimeParseException e) {
+      throw new IllegalArgumentException("Invalid cursor");
+    }
+  }
+
+  /**
+   * Map a batch of purchases, looking up item counts for all their orders in
+   * one query instead of walking each order's items
+   */
+  private List<PurchaseHistoryResponse> mapToPurchaseHistoryResponses(
+    List<PurchaseHistory> purchases
+  ) {
+    Set<Long> orderIds = new HashSet<>();
+    for (PurchaseHistory purchase : purchases) {
+      if (purchase.getOrder() != null) {
+        orderIds.add(purchase.getOrder().getId());
+      }
+    }
+
+    Map<Long, Integer> itemCounts = new HashMap<>();
+    if (!orderIds.isEmpty()) {
+      for (Object[] row : orderItemRepository.sumQuantitiesByOrderIds(
+        orderIds
+      )) {
+        itemCounts.put((Long) row[0], ((Number) row[1]).intValue());
+      }
+    }
+
+    return purchases
+      .stream()
+      .map(purchase ->
+        mapToPurchaseHistoryResponse(
+          purchase,
+          purchase.getOrder() != null
+            ? itemCounts.getOrDefault(purchase.getOrder().getId(), 0)
+            : 0
+        )
+      )
+      .collect(Collectors.toList());
+  }
+
   private PurchaseHistoryResponse mapToPurchaseHistoryResponse(
-    PurchaseHistory purchase
+    PurchaseHistory purchase,
+    Integer itemsCount
   ) {
     PurchaseHistoryResponse response = new PurchaseHistoryResponse();
 
@@ -139,7 +271,7 @@ public class PurchaseHistoryService {
     response.setCustomerEmail(purchase.getCustomer().getEmail());
     response.setOrderId(purchase.getOrderId());
     response.setTotalAmount(purchase.getTotalAmount());
-    response.setItemsCount(purchase.getItemsCount());
+    response.setItemsCount(itemsCount);
     response.setOrderDate(purchase.getOrderDate());
     response.setStatus(purchase.getStatus());
     response.setPaymentMethod(purchase.getPaymentMethod());
@@ -157,4 +289,157 @@ public class PurchaseHistoryService {
 
     return response;
   }
+
+  /**
+   * Write purchase history oldest first, one row at a time, straight from a
+   * database cursor. Nothing is collected, so memory stays flat however
+   * many rows are exported. Either date bound may be null for an
+   * open-ended range. The transaction is required: Postgres only
+   * honours the fetch size with autocommit off.
+   */
+  @Transactional(readOnly = true)
+  public void exportPurchaseHistory(
+    LocalDateTime startDate,
+    LocalDateTime endDate,
+    ExportFormat format,
+    OutputStream out
+  ) throws IOException {
+    Writer writer = new BufferedWriter(
+      new OutputStreamWriter(out, StandardCharsets.UTF_8)
+    );
+    if (format == ExportFormat.CSV) {
+      writer.write(CSV_HEADER);
+      writer.write('\n');
+    }
+
+    try (
+      Stream<PurchaseHistoryExportRow> rows = exportRows(startDate, endDate)
+    ) {
+      rows.forEach(row -> {
+        try {
+          PurchaseHistoryResponse response = mapToPurchaseHistoryResponse(row);
+          if (format == ExportFormat.CSV) {
+            writeCsvLine(writer, response);
+          } else {
+            writer.write(objectMapper.writeValueAsString(response));
+            writer.write('\n');
+          }
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      });
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+    writer.flush();
+  }
+
+  // Either bound may be left open
+  private Stream<PurchaseHistoryExportRow> exportRows(
+    LocalDateTime startDate,
+    LocalDateTime endDate
+  ) {
+    if (startDate != null && endDate != null) {
+      return purchaseHistoryRepository.streamByDateRangeForExport(
+        startDate,
+        endDate
+      );
+    }
+    if (startDate != null) {
+      return purchaseHistoryRepository.streamSinceForExport(startDate);
+    }
+    if (endDate != null) {
+      return purchaseHistoryRepository.streamUntilForExport(endDate);
+    }
+    return purchaseHistoryRepository.streamAllForExport();
+  }
+
+  private PurchaseHistoryResponse mapToPurchaseHistoryResponse(
+    PurchaseHistoryExportRow row
+  ) {
+    PurchaseHistoryResponse response = new PurchaseHistoryResponse();
+
+    response.setId(row.getId());
+    response.setCustomerId(row.getCustomerId());
+    response.setCustomerName(
+      row.getCustomerFirstName() + " " + row.getCustomerLastName()
+    );
+    response.setCustomerEmail(row.getCustomerEmail());
+    response.setOrderId(row.getOrderNumber());
+    response.setTotalAmount(row.getTotalAmount());
+    response.setItemsCount(row.getItemsCount().intValue());
+    response.setOrderDate(row.getOrderDate());
+    response.setStatus(
+      row.getStatus() != null ? row.getStatus().toString() : null
+    );
+    response.setPaymentMethod(
+      row.getPaymentMethod() != null ? row.getPaymentMethod().toString() : null
+    );
+    response.setNotes(row.getNotes());
+    response.setDiscountApplied(row.getDiscountAmount());
+    response.setPointsEarned(row.getPointsEarned());
+    response.setPointsUsed(row.getPointsUsed());
+    response.setCreatedAt(row.getCreatedAt());
+    response.setUpdatedAt(row.getUpdatedAt());
+
+    return response;
+  }
+
+  private static void writeCsvLine(
+    Writer writer,
+    PurchaseHistoryResponse response
+  ) throws IOException {
+    Object[] values = {
+      response.getId(),
+      response.getCustomerId(),
+      response.getCustomerName(),
+      response.getCustomerEmail(),
+      response.getOrderId(),
+      response.getOrderDate(),
+      response.getStatus(),
+      response.getPaymentMethod(),
+      response.getItemsCount(),
+      response.getTotalAmount(),
+      response.getDiscountApplied(),
+      response.getPointsEarned(),
+      response.getPointsUsed(),
+      response.getNotes(),
+      response.getCreatedAt(),
+      response.getUpdatedAt(),
+    };
+    for (int i = 0; i < values.length; i++) {
+      if (i > 0) {
+        writer.write(',');
+      }
+      writer.write(csvField(values[i]));
+    }
+    writer.write('\n');
+  }
+
+  /**
+   * Quotes the value if needed, and prefixes text that a spreadsheet would
+   * run as a formula with an apostrophe
+   */
+  private static String csvField(Object value) {
+    if (value == null) {
+      return "";
+    }
+    String text = value.toString();
+    if (value instanceof CharSequence && isFormula(text)) {
+      text = "'" + text;
+    }
+    if (
+      text.indexOf(',') < 0 &&
+      text.indexOf('"') < 0 &&
+      text.indexOf('\n') < 0 &&
+      text.indexOf('\r') < 0
+    ) {
+      return text;
+    }
+    return "\"" + text.replace("\"", "\"\"") + "\"";
+  }
+
+  private static boolean isFormula(String text) {
+    return !text.isEmpty() && "=+-@\t\r".indexOf(text.charAt(0)) >= 0;
+  }
 }
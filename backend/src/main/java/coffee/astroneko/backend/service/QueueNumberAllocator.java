@@ -0,0 +1,152 @@
+package coffee.astroneko.backend.service;
+
+import coffee.astroneko.backend.repository.OrderRepository;
+import coffee.astroneko.backend.util.BusinessCalendar;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Hands out per-day queue numbers from an in-memory block. Blocks are
+ * reserved from the daily_queue_counters row for the current business day,
+ * so checkouts only touch the database once per block and a restart skips
+ * to the next block instead of reusing numbers.
+ */
+@Service
+public class QueueNumberAllocator {
+
+  private static final String RESERVE_SQL =
+    "UPDATE daily_queue_counters SET last_reserved = last_reserved + ?, " +
+    "updated_at = ? WHERE business_date = ? RETURNING last_reserved";
+
+  private static final String CREATE_SQL =
+    "INSERT INTO daily_queue_counters " +
+    "(business_date, last_reserved, updated_at) VALUES (?, ?, ?) " +
+    "ON CONFLICT (business_date) DO UPDATE SET " +
+    "last_reserved = daily_queue_counters.last_reserved + ?, " +
+    "updated_at = EXCLUDED.updated_at RETURNING last_reserved";
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private OrderRepository orderRepository;
+
+  @Autowired
+  private BusinessCalendar businessCalendar;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @Value("${app.orders.queue-block-size:20}")
+  private int blockSize;
+
+  private volatile Block block;
+
+  /**
+   * Next queue number for the current business day
+   */
+  public int next() {
+    LocalDate today = businessCalendar.today();
+    Block current = block;
+    if (current != null && current.businessDate.equals(today)) {
+      int number = current.next.getAndIncrement();
+      if (number <= current.last) {
+        return number;
+      }
+    }
+    return nextFromNewBlock(today);
+  }
+
+  private synchronized int nextFromNewBlock(LocalDate today) {
+    // Another thread may have reserved a block while this one waited
+    Block current = block;
+    if (current != null && current.businessDate.equals(today)) {
+      int number = current.next.getAndIncrement();
+      if (number <= current.last) {
+        return number;
+      }
+    }
+
+    // Reserve in a transaction of its own so the counter row is not held
+    // locked until the caller's order commits
+    TransactionTemplate reserveTransaction = new TransactionTemplate(
+      transactionManager
+    );
+    reserveTransaction.setPropagationBehavior(
+      TransactionDefinition.PROPAGATION_REQUIRES_NEW
+    );
+    int last = reserveTransaction.execute(status ->
+      reserve(today, blockSize)
+    );
+    Block reserved = new Block(today, last - blockSize + 1, last);
+    int number = reserved.next.getAndIncrement();
+    block = reserved;
+    return number;
+  }
+
+  /**
+   * Reserve count numbers on an earlier business day, for orders imported
+   * after the fact, and return the first. Unlike next() this runs in the
+   * caller's transaction, so the numbers are given back if it rolls back.
+   */
+  public int reserveEarlierDay(LocalDate businessDate, int count) {
+    if (!businessDate.isBefore(businessCalendar.today())) {
+      throw new IllegalArgumentException(
+        "Not an earlier business day: " + businessDate
+      );
+    }
+    return reserve(businessDate, count) - count + 1;
+  }
+
+  private int reserve(LocalDate businessDate, int count) {
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    List<Integer> reserved = jdbcTemplate.query(
+      RESERVE_SQL,
+      (rs, rowNum) -> rs.getInt(1),
+      count,
+      now,
+      businessDate
+    );
+    if (!reserved.isEmpty()) {
+      return reserved.get(0);
+    }
+
+    // First block of the day: continue after any orders already numbered
+    // today, e.g. ones placed before this allocator was deployed
+    int seed = orderRepository.findMaxQueueNumberBetween(
+      businessCalendar.startOf(businessDate),
+      businessCalendar.endOf(businessDate)
+    );
+    return jdbcTemplate.queryForObject(
+      CREATE_SQL,
+      Integer.class,
+      businessDate,
+      seed + count,
+      now,
+      count
+    );
+  }
+
+  private static final class Block {
+
+    private final LocalDate businessDate;
+    private final AtomicInteger next;
+    private final int last;
+
+    private Block(LocalDate businessDate, int first, int last) {
+      this.businessDate = businessDate;
+      this.next = new AtomicInteger(first);
+      this.last = last;
+    }
+  }
+}
@@ -0,0 +1,300 @@
+package coffee.astroneko.backend.service;
+
+import coffee.astroneko.backend.entity.DailySalesRollup.Dimension;
+import coffee.astroneko.backend.entity.JobCheckpoint;
+import coffee.astroneko.backend.entity.Order;
+import coffee.astroneko.backend.entity.OrderItem;
+import coffee.astroneko.backend.repository.JobCheckpointRepository;
+import coffee.astroneko.backend.repository.OrderRepository;
+import coffee.astroneko.backend.util.BusinessCalendar;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Maintains daily_sales_rollup: per business day totals overall, per menu
+ * item and per payment method. Completing an order adds to its day in the
+ * same transaction and returning a completed order subtracts it again; a
+ * resumable backfill recomputes days from the orders table.
+ */
+@Service
+public class SalesRollupService {
+
+  private static final Logger logger = LoggerFactory.getLogger(
+    SalesRollupService.class
+  );
+
+  public static final String TOTAL_KEY = "ALL";
+  public static final String UNKNOWN_PAYMENT_METHOD = "UNKNOWN";
+
+  private static final String BACKFILL_JOB = "daily_sales_rollup_backfill";
+
+  // Adds to an existing row for the same day and key
+  private static final String ADD_ON_CONFLICT =
+    " ON CONFLICT (business_date, dimension, dimension_key) DO UPDATE SET " +
+    "order_count = daily_sales_rollup.order_count + EXCLUDED.order_count, " +
+    "item_quantity = " +
+    "daily_sales_rollup.item_quantity + EXCLUDED.item_quantity, " +
+    "revenue = daily_sales_rollup.revenue + EXCLUDED.revenue, " +
+    "updated_at = EXCLUDED.updated_at";
+
+  private static final String UPSERT_SQL =
+    "INSERT INTO daily_sales_rollup (business_date, dimension, " +
+    "dimension_key, order_count, item_quantity, revenue, updated_at) " +
+    "VALUES (?, ?, ?, ?, ?, ?, ?)" +
+    ADD_ON_CONFLICT;
+
+  private static final String DELETE_DAY_SQL =
+    "DELETE FROM daily_sales_rollup WHERE business_date = ?";
+
+  // Shared filter for the recompute statements: completed orders whose
+  // order date falls in the business day [?, ?)
+  private static final String COMPLETED_IN_DAY =
+    "o.status = 'COMPLETE' AND o.order_date >= ? AND o.order_date < ? ";
+
+  private static final String ORDER_QUANTITY =
+    "(SELECT COALESCE(SUM(oi.quantity), 0) FROM order_items oi " +
+    "WHERE oi.order_id = o.id)";
+
+  private static final String RECOMPUTE_TOTAL_SQL =
+    "INSERT INTO daily_sales_rollup (business_date, dimension, " +
+    "dimension_key, order_count, item_quantity, revenue, updated_at) " +
+    "SELECT ?, 'TOTAL', 'ALL', COUNT(*), COALESCE(SUM(" +
+    ORDER_QUANTITY +
+    "), 0), COALESCE(SUM(o.total_amount), 0), ? FROM orders o WHERE " +
+    COMPLETED_IN_DAY +
+    "HAVING COUNT(*) > 0" +
+    ADD_ON_CONFLICT;
+
+  private static final String RECOMPUTE_ITEMS_SQL =
+    "INSERT INTO daily_sales_rollup (business_date, dimension, " +
+    "dimension_key, order_count, item_quantity, revenue, updated_at) " +
+    "SELECT ?, 'ITEM', CAST(oi.menu_item_id AS VARCHAR), " +
+    "COUNT(DISTINCT o.id), SUM(oi.quantity), SUM(oi.subtotal), ? " +
+    "FROM order_items oi JOIN orders o ON o.id = oi.order_id WHERE " +
+    COMPLETED_IN_DAY +
+    "GROUP BY oi.menu_item_id" +
+    ADD_ON_CONFLICT;
+
+  private static final String RECOMPUTE_PAYMENT_METHODS_SQL =
+    "INSERT INTO daily_sales_rollup (business_date, dimension, " +
+    "dimension_key, order_count, item_quantity, revenue, updated_at) " +
+    "SELECT ?, 'PAYMENT_METHOD', COALESCE(o.payment_method, 'UNKNOWN'), " +
+    "COUNT(*), COALESCE(SUM(" +
+    ORDER_QUANTITY +
+    "), 0), COALESCE(SUM(o.total_amount), 0), ? FROM orders o WHERE " +
+    COMPLETED_IN_DAY +
+    "GROUP BY COALESCE(o.payment_method, 'UNKNOWN')" +
+    ADD_ON_CONFLICT;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private OrderRepository orderRepository;
+
+  @Autowired
+  private JobCheckpointRepository jobCheckpointRepository;
+
+  @Autowired
+  private BusinessCalendar businessCalendar;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  /**
+   * Add a completed order to its business day. Call inside the transaction
+   * that completes the order so the rollup commits or rolls back with it.
+   */
+  public void recordCompletedOrder(Order order) {
+    apply(order, 1);
+  }
+
+  /**
+   * Take a returned order back out of its business day
+   */
+  public void recordReturnedOrder(Order order) {
+    apply(order, -1);
+  }
+
+  /**
+   * Recompute every business day after the last checkpoint, oldest first,
+   * one transaction per day. Today is recomputed on every run but never
+   * checkpointed, so a day is only marked done once it is over. Safe to
+   * interrupt: the next run resumes after the last finished day.
+   */
+  @Scheduled(
+    initialDelayString = "${app.rollup.backfill-initial-delay-ms:30000}",
+    fixedDelayString = "${app.rollup.backfill-interval-ms:3600000}"
+  )
+  public synchronized void backfill() {
+    LocalDate today = businessCalendar.today();
+    LocalDate day = firstDayToBackfill();
+    if (day == null) {
+      return;
+    }
+
+    TransactionTemplate dayTransaction = new TransactionTemplate(
+      transactionManager
+    );
+    dayTransaction.setPropagationBehavior(
+      TransactionDefinition.PROPAGATION_REQUIRES_NEW
+    );
+    int days = 0;
+    for (; !day.isAfter(today); day = day.plusDays(1)) {
+      LocalDate businessDate = day;
+      dayTransaction.executeWithoutResult(status -> {
+        recomputeDay(businessDate);
+        if (businessDate.isBefore(today)) {
+          saveCheckpoint(businessDate);
+        }
+      });
+      days++;
+    }
+    logger.info("Sales rollup backfill recomputed {} business day(s)", days);
+  }
+
+  private LocalDate firstDayToBackfill() {
+    LocalDate lastCompleted = jobCheckpointRepository
+      .findById(BACKFILL_JOB)
+      .map(JobCheckpoint::getLastCompletedDate)
+      .orElse(null);
+    if (lastCompleted != null) {
+      return lastCompleted.plusDays(1);
+    }
+    LocalDateTime firstOrder = orderRepository.findFirstOrderDate();
+    return firstOrder != null
+      ? businessCalendar.businessDate(firstOrder)
+      : null;
+  }
+
+  /**
+   * Replace a day's rows with totals recomputed from the orders table. Each
+   * statement only sees orders committed before it started; a completion
+   * still in flight either waits on the rows written here or, if it wrote
+   * first, is added to rather than overwritten, so it is counted once.
+   */
+  private void recomputeDay(LocalDate businessDate) {
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    Timestamp start = Timestamp.valueOf(
+      businessCalendar.startOf(businessDate)
+    );
+    Timestamp end = Timestamp.valueOf(businessCalendar.endOf(businessDate));
+
+    jdbcTemplate.update(DELETE_DAY_SQL, businessDate);
+    jdbcTemplate.update(RECOMPUTE_TOTAL_SQL, businessDate, now, start, end);
+    jdbcTemplate.update(RECOMPUTE_ITEMS_SQL, businessDate, now, start, end);
+    jdbcTemplate.update(
+      RECOMPUTE_PAYMENT_METHODS_SQL,
+      businessDate,
+      now,
+      start,
+      end
+    );
+  }
+
+  private void saveCheckpoint(LocalDate businessDate) {
+    JobCheckpoint checkpoint = jobCheckpointRepository
+      .findById(BACKFILL_JOB)
+      .orElseGet(() -> new JobCheckpoint(BACKFILL_JOB));
+    checkpoint.setLastCompletedDate(businessDate);
+    checkpoint.setUpdatedAt(LocalDateTime.now());
+    jobCheckpointRepository.save(checkpoint);
+  }
+
+  private void apply(Order order, int sign) {
+    LocalDate businessDate = businessCalendar.businessDate(
+      order.getOrderDate()
+    );
+    long orderCount = sign;
+    long quantity = 0;
+    Map<Long, long[]> itemQuantities = new LinkedHashMap<>();
+    Map<Long, BigDecimal> itemRevenue = new LinkedHashMap<>();
+    for (OrderItem orderItem : order.getOrderItems()) {
+      Long menuItemId = orderItem.getMenuItem().getId();
+      quantity += orderItem.getQuantity();
+      itemQuantities.computeIfAbsent(menuItemId, id -> new long[1])[0] +=
+        orderItem.getQuantity();
+      itemRevenue.merge(menuItemId, orderItem.getSubtotal(), BigDecimal::add);
+    }
+    BigDecimal revenue = order
+      .getTotalAmount()
+      .multiply(BigDecimal.valueOf(sign));
+    String paymentMethod = order.getPaymentMethod() != null
+      ? order.getPaymentMethod().name()
+      : UNKNOWN_PAYMENT_METHOD;
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+    List<Object[]> rows = new ArrayList<>();
+    rows.add(
+      row(
+        businessDate,
+        Dimension.TOTAL,
+        TOTAL_KEY,
+        orderCount,
+        sign * quantity,
+        revenue,
+        now
+      )
+    );
+    rows.add(
+      row(
+        businessDate,
+        Dimension.PAYMENT_METHOD,
+        paymentMethod,
+        orderCount,
+        sign * quantity,
+        revenue,
+        now
+      )
+    );
+    itemQuantities.forEach((menuItemId, itemQuantity) ->
+      rows.add(
+        row(
+          businessDate,
+          Dimension.ITEM,
+          menuItemId.toString(),
+          orderCount,
+          sign * itemQuantity[0],
+          itemRevenue.get(menuItemId).multiply(BigDecimal.valueOf(sign)),
+          now
+        )
+      )
+    );
+    jdbcTemplate.batchUpdate(UPSERT_SQL, rows);
+  }
+
+  private static Object[] row(
+    LocalDate businessDate,
+    Dimension dimension,
+    String key,
+    long orderCount,
+    long quantity,
+    BigDecimal revenue,
+    Timestamp updatedAt
+  ) {
+    return new Object[] {
+      businessDate,
+      dimension.name(),
+      key,
+      orderCount,
+      quantity,
+      revenue,
+      updatedAt,
+    };
+  }
+}
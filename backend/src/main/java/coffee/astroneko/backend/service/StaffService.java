@@ -7,6 +7,7 @@ import coffee.astroneko.backend.entity.EmployeeInformation;
 import coffee.astroneko.backend.entity.User;
 import coffee.astroneko.backend.repository.EmployeeInformationRepository;
 import coffee.astroneko.backend.repository.UserRepository;
+import coffee.astroneko.backend.repository.projection.StaffSummary;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -104,8 +105,8 @@ public class StaffService {
       User.Role.MANAGER,
       User.Role.OWNER
     );
-    List<EmployeeInformation> employees =
-      employeeInformationRepository.findByUserRoles(staffRoles);
+    List<StaffSummary> employees =
+      employeeInformationRepository.findStaffSummariesByRoles(staffRoles);
     return employees
       .stream()
       .map(this::mapToStaffResponse)
@@ -123,11 +124,10 @@ public class StaffService {
       User.Role.MANAGER,
       User.Role.OWNER
     );
-    List<EmployeeInformation> employees =
-      employeeInformationRepository.findByUserRoles(staffRoles);
+    List<StaffSummary> employees =
+      employeeInformationRepository.findActiveStaffSummariesByRoles(staffRoles);
     return employees
       .stream()
-      .filter(emp -> emp.getIsActive() && emp.getUser().getIsActive())
       .map(this::mapToStaffResponse)
       .collect(Collectors.toList());
   }
@@ -355,6 +355,38 @@ public class StaffService {
       .collect(Collectors.toList());
   }
 
+  /**
+   * List view of a staff member; fields outside the projection stay null
+   */
+  private StaffResponse mapToStaffResponse(StaffSummary summary) {
+    StaffResponse response = new StaffResponse();
+    response.setId(summary.getId());
+    response.setUserId(summary.getUserId());
+    response.setFirstName(summary.getFirstName());
+    response.setLastName(summary.getLastName());
+    response.setUsername(summary.getUsername());
+    response.setEmail(summary.getEmail());
+    response.setRole(summary.getRole());
+    response.setSex(summary.getSex());
+    response.setAvatar(summary.getAvatar());
+    response.setIsUserActive(summary.getIsUserActive());
+
+    response.setEmployeeId(summary.getEmployeeId());
+    response.setHireDate(summary.getHireDate());
+    response.setEmploymentType(summary.getEmploymentType());
+    response.setSalary(summary.getSalary());
+    response.setPhone(summary.getPhone());
+    response.setPosition(summary.getPosition());
+    response.setDepartment(summary.getDepartment());
+    response.setShiftStart(summary.getShiftStart());
+    response.setShiftEnd(summary.getShiftEnd());
+    response.setIsActive(summary.getIsActive());
+    response.setCreatedAt(summary.getCreatedAt());
+    response.setUpdatedAt(summary.getUpdatedAt());
+
+    return response;
+  }
+
   private StaffResponse mapToStaffResponse(EmployeeInformation employeeInfo) {
     User user = employeeInfo.getUser();
 
@@ -0,0 +1,93 @@
+package coffee.astroneko.backend.service;
+
+import coffee.astroneko.backend.entity.MenuItem;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Tag condition of a menu query: items carrying all of the given tags, or
+ * any one of them. Tags are compared in their normalized form.
+ */
+public final class TagFilter {
+
+  public static final TagFilter NONE = new TagFilter(Set.of(), false);
+
+  private final Set<String> tags;
+  private final boolean matchAll;
+
+  private TagFilter(Set<String> tags, boolean matchAll) {
+    this.tags = tags;
+    this.matchAll = matchAll;
+  }
+
+  /**
+   * Filter for the given tags; match is "all" or "any", defaulting to any
+   */
+  public static TagFilter of(Collection<String> tags, String match) {
+    boolean matchAll;
+    if (match == null || match.equalsIgnoreCase("any")) {
+      matchAll = false;
+    } else if (match.equalsIgnoreCase("all")) {
+      matchAll = true;
+    } else {
+      throw new IllegalArgumentException("Tag match must be 'all' or 'any'");
+    }
+
+    Set<String> normalized = new TreeSet<>();
+    if (tags != null) {
+      for (String tag : tags) {
+        normalized.addAll(MenuItem.parseTags(tag));
+      }
+    }
+    if (normalized.isEmpty()) {
+      return NONE;
+    }
+    return new TagFilter(Collections.unmodifiableSet(normalized), matchAll);
+  }
+
+  public boolean isEmpty() {
+    return tags.isEmpty();
+  }
+
+  public Set<String> getTags() {
+    return tags;
+  }
+
+  public boolean isMatchAll() {
+    return matchAll;
+  }
+
+  /**
+   * How many of the tags an item must carry to match
+   */
+  public long required() {
+    return matchAll ? tags.size() : 1;
+  }
+
+  public boolean matches(Set<String> itemTags) {
+    if (tags.isEmpty()) {
+      return true;
+    }
+    if (matchAll) {
+      return itemTags.containsAll(tags);
+    }
+    for (String tag : tags) {
+      if (itemTags.contains(tag)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Stable text form, for cache keys
+   */
+  public String key() {
+    if (tags.isEmpty()) {
+      return "";
+    }
+    return (matchAll ? "all:" : "any:") + String.join(",", tags);
+  }
+}
@@ -8,23 +8,34 @@ import coffee.astroneko.backend.repository.UserRepository;
 import coffee.astroneko.backend.util.JwtUtil;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 @Service
 public class UserService {
 
+  private static final Logger logger = LoggerFactory.getLogger(
+    UserService.class
+  );
+
   @Autowired
   private UserRepository userRepository;
 
   @Autowired
-  private PasswordEncoder passwordEncoder;
+  private PasswordHasher passwordHasher;
 
   @Autowired
   private JwtUtil jwtUtil;
 
-  public AuthResponse signUp(SignUpRequest signUpRequest) {
+  /**
+   * Create a client account. The password is hashed on the hashing pool,
+   * which throws RejectedExecutionException right away when it is full.
+   */
+  public CompletableFuture<AuthResponse> signUp(SignUpRequest signUpRequest) {
     // Check if email already exists
     if (userRepository.existsByEmail(signUpRequest.getEmail())) {
       throw new RuntimeException("Email is already registered!");
@@ -50,7 +61,6 @@ public class UserService {
 
     user.setEmail(signUpRequest.getEmail());
     user.setPhoneNumber(signUpRequest.getPhoneNumber());
-    user.setPassword(passwordEncoder.encode(signUpRequest.getPassword()));
     user.setRole(User.Role.CLIENT); // Default role for sign up
 
     // Convert sex string to enum
@@ -63,25 +73,21 @@ public class UserService {
       }
     }
 
-    User savedUser = userRepository.save(user);
-
-    // Generate JWT token
-    String jwt = jwtUtil.generateJwtToken(
-      savedUser.getEmail(),
-      savedUser.getRole().name().toLowerCase(),
-      savedUser.getId()
-    );
-
-    return new AuthResponse(
-      jwt,
-      savedUser.getId(),
-      savedUser.getEmail(),
-      savedUser.getName(),
-      savedUser.getRole().name().toLowerCase()
-    );
+    return passwordHasher
+      .encode(signUpRequest.getPassword())
+      .thenApply(hash -> {
+        user.setPassword(hash);
+        return authResponse(userRepository.save(user));
+      });
   }
 
-  public AuthResponse login(LoginRequest loginRequest) {
+  /**
+   * Check credentials on the hashing pool, which throws
+   * RejectedExecutionException right away when it is full. A hash made
+   * with an older algorithm or cost is upgraded after the response, so
+   * the login never waits for the second hash.
+   */
+  public CompletableFuture<AuthResponse> login(LoginRequest loginRequest) {
     // Find user by email
     Optional<User> userOptional = userRepository.findByEmailAndIsDeletedFalse(
       loginRequest.getEmail()
@@ -98,12 +104,39 @@ public class UserService {
     }
 
     // Validate password
-    if (
-      !passwordEncoder.matches(loginRequest.getPassword(), user.getPassword())
-    ) {
-      throw new RuntimeException("Invalid email or password!");
+    String storedHash = user.getPassword();
+    return passwordHasher
+      .matches(loginRequest.getPassword(), storedHash)
+      .thenApply(matches -> {
+        if (!matches) {
+          throw new RuntimeException("Invalid email or password!");
+        }
+        if (passwordHasher.needsRehash(storedHash)) {
+          rehash(user.getId(), storedHash, loginRequest.getPassword());
+        }
+        return authResponse(user);
+      });
+  }
+
+  // Best effort: a saturated pool or a failed write just leaves the old
+  // hash in place until the next login
+  private void rehash(Long userId, String storedHash, String rawPassword) {
+    try {
+      passwordHasher
+        .encode(rawPassword)
+        .thenAccept(rehashed ->
+          userRepository.rehashPassword(userId, storedHash, rehashed)
+        )
+        .exceptionally(e -> {
+          logger.warn("Password rehash failed for user {}", userId, e);
+          return null;
+        });
+    } catch (RejectedExecutionException e) {
+      // Try again on a quieter login
     }
+  }
 
+  private AuthResponse authResponse(User user) {
     // Generate JWT token
     String jwt = jwtUtil.generateJwtToken(
       user.getEmail(),
@@ -0,0 +1,33 @@
+package coffee.astroneko.backend.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Defers in-memory side effects until the surrounding transaction commits,
+ * so caches never observe rows that were rolled back.
+ */
+public final class AfterCommit {
+
+  private AfterCommit() {}
+
+  /**
+   * Run the action after the current transaction commits, or immediately
+   * when no transaction is active
+   */
+  public static void run(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(
+      new TransactionSynchronization() {
+        @Override
+        public void afterCommit() {
+          action.run();
+        }
+      }
+    );
+  }
+}
@@ -0,0 +1,44 @@
+package coffee.astroneko.backend.util;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Maps wall-clock time to business days. A business day starts at
+ * {@code app.orders.business-day-start}, so orders placed after midnight
+ * but before opening still belong to the previous night's shift.
+ */
+@Component
+public class BusinessCalendar {
+
+  @Value("${app.orders.business-day-start:00:00}")
+  private LocalTime dayStart;
+
+  public LocalDate businessDate(LocalDateTime time) {
+    return time
+      .minusHours(dayStart.getHour())
+      .minusMinutes(dayStart.getMinute())
+      .toLocalDate();
+  }
+
+  public LocalDate today() {
+    return businessDate(LocalDateTime.now());
+  }
+
+  /**
+   * First instant of the given business day
+   */
+  public LocalDateTime startOf(LocalDate businessDate) {
+    return businessDate.atTime(dayStart);
+  }
+
+  /**
+   * First instant of the following business day
+   */
+  public LocalDateTime endOf(LocalDate businessDate) {
+    return startOf(businessDate.plusDays(1));
+  }
+}
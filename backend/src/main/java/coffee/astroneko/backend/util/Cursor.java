@@ -0,0 +1,114 @@
+package coffee.astroneko.backend.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Opaque keyset pagination cursor: the sort the page was read with plus the
+ * sort key and id of its last row. Clients only ever see the encoded form.
+ */
+public final class Cursor {
+
+  private static final String SEPARATOR = "\n";
+
+  private final String sortBy;
+  private final String sortDir;
+  private final Long id;
+  private final String value;
+
+  private Cursor(String sortBy, String sortDir, Long id, String value) {
+    this.sortBy = sortBy;
+    this.sortDir = sortDir;
+    this.id = id;
+    this.value = value;
+  }
+
+  /**
+   * Cursor pointing after the row with the given id and sort key value; a
+   * null value stands for a NULL sort key
+   */
+  public static Cursor of(
+    String sortBy,
+    String sortDir,
+    Long id,
+    Object value
+  ) {
+    return new Cursor(
+      sortBy,
+      sortDir.toLowerCase(),
+      id,
+      value == null ? null : value.toString()
+    );
+  }
+
+  public static Cursor decode(String token) {
+    String decoded;
+    try {
+      decoded = new String(
+        Base64.getUrlDecoder().decode(token),
+        StandardCharsets.UTF_8
+      );
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("Invalid cursor");
+    }
+
+    // The value goes last so it may contain the separator itself
+    String[] parts = decoded.split(SEPARATOR, 4);
+    if (parts.length < 3) {
+      throw new IllegalArgumentException("Invalid cursor");
+    }
+    try {
+      return new Cursor(
+        parts[0],
+        parts[1],
+        Long.valueOf(parts[2]),
+        parts.length == 4 ? parts[3] : null
+      );
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("Invalid cursor");
+    }
+  }
+
+  public String encode() {
+    String raw = sortBy + SEPARATOR + sortDir + SEPARATOR + id;
+    if (value != null) {
+      raw += SEPARATOR + value;
+    }
+    return Base64.getUrlEncoder()
+      .withoutPadding()
+      .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * A cursor is only valid for the sort it was issued with
+   */
+  public void checkSort(String sortBy, String sortDir) {
+    if (
+      !this.sortBy.equals(sortBy) || !this.sortDir.equalsIgnoreCase(sortDir)
+    ) {
+      throw new IllegalArgumentException(
+        "Cursor does not match the requested sort"
+      );
+    }
+  }
+
+  public boolean isDescending() {
+    return "desc".equals(sortDir);
+  }
+
+  public String getSortBy() {
+    return sortBy;
+  }
+
+  public String getSortDir() {
+    return sortDir;
+  }
+
+  public Long getId() {
+    return id;
+  }
+
+  public String getValue() {
+    return value;
+  }
+}
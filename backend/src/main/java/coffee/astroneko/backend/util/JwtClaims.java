@@ -0,0 +1,64 @@
+package coffee.astroneko.backend.util;
+
+import io.jsonwebtoken.Claims;
+import java.time.Instant;
+
+/**
+ * Verified claims of one of our tokens
+ */
+public final class JwtClaims {
+
+  private final String email;
+  private final String role;
+  private final Long userId;
+  private final Instant issuedAt;
+  private final Instant expiresAt;
+
+  public JwtClaims(
+    String email,
+    String role,
+    Long userId,
+    Instant issuedAt,
+    Instant expiresAt
+  ) {
+    this.email = email;
+    this.role = role;
+    this.userId = userId;
+    this.issuedAt = issuedAt;
+    this.expiresAt = expiresAt;
+  }
+
+  static JwtClaims from(Claims claims) {
+    return new JwtClaims(
+      claims.getSubject(),
+      claims.get("role", String.class),
+      claims.get("userId", Long.class),
+      claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null,
+      claims.getExpiration() != null ? claims.getExpiration().toInstant() : null
+    );
+  }
+
+  public String getEmail() {
+    return email;
+  }
+
+  public String getRole() {
+    return role;
+  }
+
+  public Long getUserId() {
+    return userId;
+  }
+
+  public Instant getIssuedAt() {
+    return issuedAt;
+  }
+
+  public Instant getExpiresAt() {
+    return expiresAt;
+  }
+
+  public boolean isExpiredAt(Instant now) {
+    return expiresAt != null && !now.isBefore(expiresAt);
+  }
+}
@@ -2,22 +2,63 @@ package coffee.astroneko.backend.util;
 
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
 import javax.crypto.SecretKey;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+/**
+ * Issues and verifies our JWTs. The signing key and parser are built once;
+ * verified claims are kept in a bounded LRU map keyed by the token's
+ * SHA-256, until the token expires, so repeat requests skip the HMAC check
+ * and the JSON parse.
+ */
 @Component
 public class JwtUtil {
 
+  private static final Logger logger = LoggerFactory.getLogger(JwtUtil.class);
+
   @Value("${app.jwt.secret:mySecretKey}")
   private String jwtSecret;
 
   @Value("${app.jwt.expiration:86400000}") // 24 hours
   private int jwtExpirationMs;
 
-  private SecretKey getSigningKey() {
-    return Keys.hmacShaKeyFor(jwtSecret.getBytes());
+  @Value("${app.jwt.claims-cache.max-size:10000}")
+  private int claimsCacheMaxSize;
+
+  private SecretKey signingKey;
+
+  private JwtParser parser;
+
+  private final Map<String, JwtClaims> verified = new LinkedHashMap<>(
+    16,
+    0.75f,
+    true
+  ) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<String, JwtClaims> eldest) {
+      return size() > claimsCacheMaxSize;
+    }
+  };
+
+  @PostConstruct
+  void init() {
+    signingKey = Keys.hmacShaKeyFor(
+      jwtSecret.getBytes(StandardCharsets.UTF_8)
+    );
+    parser = Jwts.parser().verifyWith(signingKey).build();
   }
 
   public String generateJwtToken(String email, String role, Long userId) {
@@ -27,53 +68,82 @@ public class JwtUtil {
       .claim("userId", userId)
       .issuedAt(new Date())
       .expiration(new Date((new Date()).getTime() + jwtExpirationMs))
-      .signWith(getSigningKey())
+      .signWith(signingKey)
       .compact();
   }
 
+  /**
+   * Verified claims of a token, from the cache when it has been seen
+   * before. Throws a JwtException if the token is invalid or expired.
+   */
+  public JwtClaims parseClaims(String token) {
+    if (token == null || token.isEmpty()) {
+      throw new IllegalArgumentException("JWT token is empty");
+    }
+    Instant now = Instant.now();
+    String key = hash(token);
+    synchronized (verified) {
+      JwtClaims cached = verified.get(key);
+      if (cached != null) {
+        if (!cached.isExpiredAt(now)) {
+          return cached;
+        }
+        verified.remove(key);
+      }
+    }
+
+    JwtClaims claims = JwtClaims.from(
+      parser.parseSignedClaims(token).getPayload()
+    );
+    synchronized (verified) {
+      verified.put(key, claims);
+    }
+    return claims;
+  }
+
+  /**
+   * Claims of a valid token, or empty if it does not verify
+   */
+  public Optional<JwtClaims> verify(String token) {
+    try {
+      return Optional.of(parseClaims(token));
+    } catch (ExpiredJwtException e) {
+      logger.debug("Rejected an expired JWT");
+    } catch (JwtException | IllegalArgumentException e) {
+      // Runs on every request with a bearer token, so stay at debug, and
+      // log only the kind of failure: messages can echo token content
+      logger.debug("Rejected a JWT: {}", e.getClass().getSimpleName());
+    }
+    return Optional.empty();
+  }
+
   public String getEmailFromJwtToken(String token) {
-    return Jwts.parser()
-      .verifyWith(getSigningKey())
-      .build()
-      .parseSignedClaims(token)
-      .getPayload()
-      .getSubject();
+    return parseClaims(token).getEmail();
   }
 
   public String getRoleFromJwtToken(String token) {
-    return Jwts.parser()
-      .verifyWith(getSigningKey())
-      .build()
-      .parseSignedClaims(token)
-      .getPayload()
-      .get("role", String.class);
+    return parseClaims(token).getRole();
   }
 
   public Long getUserIdFromJwtToken(String token) {
-    return Jwts.parser()
-      .verifyWith(getSigningKey())
-      .build()
-      .parseSignedClaims(token)
-      .getPayload()
-      .get("userId", Long.class);
+    return parseClaims(token).getUserId();
   }
 
   public boolean validateJwtToken(String authToken) {
+    return verify(authToken).isPresent();
+  }
+
+  /**
+   * SHA-256 of a token, so the cache holds no usable tokens
+   */
+  public static String hash(String token) {
     try {
-      Jwts.parser()
-        .verifyWith(getSigningKey())
-        .build()
-        .parseSignedClaims(authToken);
-      return true;
-    } catch (MalformedJwtException e) {
-      System.err.println("Invalid JWT token: " + e.getMessage());
-    } catch (ExpiredJwtException e) {
-      System.err.println("JWT token is expired: " + e.getMessage());
-    } catch (UnsupportedJwtException e) {
-      System.err.println("JWT token is unsupported: " + e.getMessage());
-    } catch (IllegalArgumentException e) {
-      System.err.println("JWT claims string is empty: " + e.getMessage());
+      byte[] digest = MessageDigest.getInstance("SHA-256").digest(
+        token.getBytes(StandardCharsets.UTF_8)
+      );
+      return Base64.getEncoder().encodeToString(digest);
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
     }
-    return false;
   }
 }
@@ -0,0 +1,9 @@
+package coffee.astroneko.backend.util;
+
+/**
+ * Source of unique order numbers, used by {@code Order.prePersist} when an
+ * order is saved without one
+ */
+public interface OrderNumberGenerator {
+  String next();
+}
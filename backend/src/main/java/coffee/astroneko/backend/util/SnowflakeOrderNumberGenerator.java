@@ -0,0 +1,78 @@
+package coffee.astroneko.backend.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Snowflake-style order numbers: 41 bits of milliseconds since 2024-01-01,
+ * a 10-bit node id and a 12-bit per-millisecond sequence, rendered as 13
+ * Crockford base32 characters after "ORD-". Fixed width keeps the text
+ * sortable in the same order as the numbers were issued.
+ *
+ * <p>Timestamp and sequence share one {@link AtomicLong} and advance with
+ * compare-and-set, so concurrent callers never block. When the sequence of
+ * a millisecond runs out, or the clock steps back, numbers keep counting
+ * from the last issued value instead of waiting for the clock.
+ */
+public class SnowflakeOrderNumberGenerator implements OrderNumberGenerator {
+
+  public static final String PREFIX = "ORD-";
+
+  private static final long EPOCH = 1704067200000L;
+  private static final int NODE_BITS = 10;
+  private static final int SEQUENCE_BITS = 12;
+  private static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+  private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+  private static final int ENCODED_LENGTH = 13;
+  private static final char[] ALPHABET =
+    "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+
+  private final long nodeId;
+
+  // Last issued (timestamp << SEQUENCE_BITS | sequence)
+  private final AtomicLong state = new AtomicLong();
+
+  public SnowflakeOrderNumberGenerator(long nodeId) {
+    if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+      throw new IllegalArgumentException(
+        "Node id must be between 0 and " + MAX_NODE_ID
+      );
+    }
+    this.nodeId = nodeId;
+  }
+
+  @Override
+  public String next() {
+    return PREFIX + encode(nextId());
+  }
+
+  /**
+   * Next raw id; strictly increasing for this generator
+   */
+  public long nextId() {
+    long next;
+    while (true) {
+      long previous = state.get();
+      long now = (System.currentTimeMillis() - EPOCH) << SEQUENCE_BITS;
+      next = now > previous ? now : previous + 1;
+      if (state.compareAndSet(previous, next)) {
+        break;
+      }
+    }
+    long timestamp = next >>> SEQUENCE_BITS;
+    long sequence = next & SEQUENCE_MASK;
+    return (
+      (timestamp << (NODE_BITS + SEQUENCE_BITS)) |
+      (nodeId << SEQUENCE_BITS) |
+      sequence
+    );
+  }
+
+  static String encode(long id) {
+    char[] chars = new char[ENCODED_LENGTH];
+    for (int i = ENCODED_LENGTH - 1; i >= 0; i--) {
+      chars[i] = ALPHABET[(int) (id & 31)];
+      id >>>= 5;
+    }
+    return new String(chars);
+  }
+}
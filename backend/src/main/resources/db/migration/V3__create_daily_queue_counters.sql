@@ -0,0 +1,7 @@
+-- Per-business-day queue number counters
+-- V3__create_daily_queue_counters.sql
+CREATE TABLE IF NOT EXISTS daily_queue_counters (
+    business_date DATE PRIMARY KEY,
+    last_reserved INTEGER NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL
+);
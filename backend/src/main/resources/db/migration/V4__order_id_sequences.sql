@@ -0,0 +1,17 @@
+-- Sequence-backed ids for orders and order items
+-- V4__order_id_sequences.sql
+-- Hibernate's pooled optimizer reads each sequence value as the top of a
+-- block of 50 ids, so start one full block past the highest existing id
+CREATE SEQUENCE IF NOT EXISTS orders_seq INCREMENT BY 50;
+
+CREATE SEQUENCE IF NOT EXISTS order_items_seq INCREMENT BY 50;
+
+SELECT
+    setval('orders_seq', COALESCE((SELECT MAX(id) FROM orders), 0) + 50, false);
+
+SELECT
+    setval(
+        'order_items_seq',
+        COALESCE((SELECT MAX(id) FROM order_items), 0) + 50,
+        false
+    );
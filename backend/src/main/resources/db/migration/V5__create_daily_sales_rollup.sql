@@ -0,0 +1,25 @@
+-- Pre-aggregated sales per business day and resumable job checkpoints
+-- V5__create_daily_sales_rollup.sql
+CREATE TABLE IF NOT EXISTS daily_sales_rollup (
+    id BIGSERIAL PRIMARY KEY,
+    business_date DATE NOT NULL,
+    dimension VARCHAR(20) NOT NULL,
+    dimension_key VARCHAR(50) NOT NULL,
+    order_count BIGINT NOT NULL DEFAULT 0,
+    item_quantity BIGINT NOT NULL DEFAULT 0,
+    revenue NUMERIC(14, 2) NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL,
+    CONSTRAINT uk_daily_sales_rollup_day_dimension_key UNIQUE (
+        business_date,
+        dimension,
+        dimension_key
+    )
+);
+
+CREATE INDEX IF NOT EXISTS idx_daily_sales_rollup_dimension_day ON daily_sales_rollup (dimension, business_date);
+
+CREATE TABLE IF NOT EXISTS job_checkpoints (
+    job_name VARCHAR(50) PRIMARY KEY,
+    last_completed_date DATE,
+    updated_at TIMESTAMP NOT NULL
+);
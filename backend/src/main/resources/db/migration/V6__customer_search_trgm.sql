@@ -0,0 +1,15 @@
+-- Trigram indexes behind customer search
+-- V6__customer_search_trgm.sql
+-- Substring searches (LIKE '%term%') on these columns can use the indexes
+-- instead of scanning every user; pg_trgm is a trusted extension since 13
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_users_first_name_trgm ON users USING GIN (lower(first_name) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_users_last_name_trgm ON users USING GIN (lower(last_name) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_users_username_trgm ON users USING GIN (lower(username) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_users_email_trgm ON users USING GIN (lower(email) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_users_phone_number_trgm ON users USING GIN (phone_number gin_trgm_ops);
@@ -0,0 +1,17 @@
+-- One row per menu item tag, normalized from menu_items.tags
+-- V7__create_menu_item_tags.sql
+CREATE TABLE IF NOT EXISTS menu_item_tags (
+    menu_item_id BIGINT NOT NULL REFERENCES menu_items (id),
+    tag VARCHAR(255) NOT NULL,
+    PRIMARY KEY (menu_item_id, tag)
+);
+
+CREATE INDEX IF NOT EXISTS idx_menu_item_tags_tag ON menu_item_tags (tag, menu_item_id);
+
+-- Same normalization as MenuItem.parseTags: trimmed, lower-cased, no blanks
+INSERT INTO menu_item_tags (menu_item_id, tag)
+SELECT DISTINCT m.id, lower(trim(t.tag))
+FROM menu_items m
+CROSS JOIN LATERAL unnest(string_to_array(m.tags, ',')) AS t (tag)
+WHERE trim(t.tag) <> ''
+ON CONFLICT DO NOTHING;
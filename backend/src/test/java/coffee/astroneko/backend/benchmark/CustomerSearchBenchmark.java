@@ -0,0 +1,179 @@
+package coffee.astroneko.backend.benchmark;
+
+import coffee.astroneko.backend.repository.UserRepository;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * Customer search over 1M synthetic customers in Postgres, with and
+ * without the V6 trigram indexes. "paged" is the query behind the
+ * paginated endpoint's search (a page plus its count), "ranked" the one
+ * behind /customers/search. Needs Docker; run main() from the IDE or with
+ * the test classpath. Not picked up by surefire.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class CustomerSearchBenchmark {
+
+  private static final int CUSTOMERS = 1_000_000;
+
+  // Mirrors the users table as Hibernate creates it
+  private static final String CREATE_USERS =
+    "CREATE TABLE users (" +
+    "id BIGSERIAL PRIMARY KEY, " +
+    "first_name VARCHAR(50) NOT NULL, " +
+    "last_name VARCHAR(50) NOT NULL, " +
+    "username VARCHAR(50) NOT NULL UNIQUE, " +
+    "email VARCHAR(100) NOT NULL UNIQUE, " +
+    "password VARCHAR(255) NOT NULL, " +
+    "role VARCHAR(20) NOT NULL, " +
+    "sex VARCHAR(10), " +
+    "avatar VARCHAR(500), " +
+    "phone_number VARCHAR(20) NOT NULL, " +
+    "is_active BOOLEAN NOT NULL, " +
+    "is_deleted BOOLEAN NOT NULL, " +
+    "deleted_at TIMESTAMP, " +
+    "created_at TIMESTAMP NOT NULL, " +
+    "updated_at TIMESTAMP NOT NULL)";
+
+  // Names drawn from small pools, so common fragments match many rows and
+  // a full username matches one
+  private static final String INSERT_CUSTOMERS =
+    "INSERT INTO users (first_name, last_name, username, email, " +
+    "password, role, phone_number, is_active, is_deleted, created_at, " +
+    "updated_at) " +
+    "SELECT f, l, lower(f || '.' || l || g), " +
+    "lower(f || '.' || l || g) || '@example.com', 'x', 'CLIENT', " +
+    "'09' || lpad(((g * 7919) % 1000000000)::text, 9, '0'), " +
+    "g % 10 <> 0, false, now(), now() " +
+    "FROM (SELECT g, " +
+    "(ARRAY['Maria','Jose','Ana','Juan','Mark','Angel','Paolo','Kim'," +
+    "'Carlo','Bea','Miguel','Joy','Rafael','Grace','Luis','Rose'," +
+    "'Andrea','Noel','Camille','Jerome'])[1 + g % 20] AS f, " +
+    "(ARRAY['Santos','Reyes','Cruz','Bautista','Garcia','Mendoza'," +
+    "'Torres','Flores','Ramos','Aquino','Castillo','Villanueva'," +
+    "'Navarro','Dela Cruz','Gonzales','Lopez','Rivera','Salazar'," +
+    "'Domingo','Pascual','Soriano'])[1 + g % 21] AS l " +
+    "FROM generate_series(1, ?) g) names";
+
+  private static final String PAGED_SEARCH =
+    "SELECT u.* FROM users u WHERE u.is_deleted = false " +
+    "AND u.role = :role AND (lower(u.first_name) LIKE :pattern " +
+    "OR lower(u.last_name) LIKE :pattern " +
+    "OR lower(u.username) LIKE :pattern " +
+    "OR lower(u.email) LIKE :pattern " +
+    "OR u.phone_number LIKE :pattern) " +
+    "ORDER BY u.first_name LIMIT 10";
+
+  private static final String PAGED_COUNT =
+    "SELECT count(*) FROM users u WHERE u.is_deleted = false " +
+    "AND u.role = :role AND (lower(u.first_name) LIKE :pattern " +
+    "OR lower(u.last_name) LIKE :pattern " +
+    "OR lower(u.username) LIKE :pattern " +
+    "OR lower(u.email) LIKE :pattern " +
+    "OR u.phone_number LIKE :pattern)";
+
+  @Param({ "false", "true" })
+  private boolean indexed;
+
+  // A common fragment, a surname and one exact username
+  @Param({ "mari", "villanueva", "noel.pascual123457" })
+  private String term;
+
+  private PostgreSQLContainer<?> postgres;
+  private SingleConnectionDataSource dataSource;
+  private NamedParameterJdbcTemplate jdbc;
+  private Map<String, Object> params;
+
+  @Setup(Level.Trial)
+  @SuppressWarnings("resource")
+  public void setUp() {
+    postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+    postgres.start();
+    dataSource = new SingleConnectionDataSource(
+      postgres.getJdbcUrl(),
+      postgres.getUsername(),
+      postgres.getPassword(),
+      true
+    );
+    JdbcTemplate template = new JdbcTemplate(dataSource);
+    template.execute(CREATE_USERS);
+    template.update(INSERT_CUSTOMERS, CUSTOMERS);
+    // similarity() needs the extension either way; only the indexes differ
+    template.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+    if (indexed) {
+      new ResourceDatabasePopulator(
+        new ClassPathResource("db/migration/V6__customer_search_trgm.sql")
+      ).execute(dataSource);
+    }
+    template.execute("ANALYZE users");
+
+    jdbc = new NamedParameterJdbcTemplate(dataSource);
+    params = Map.of(
+      "role",
+      "CLIENT",
+      "activeOnly",
+      false,
+      "pattern",
+      "%" + term + "%",
+      "prefix",
+      term + "%",
+      "term",
+      term,
+      "limit",
+      10
+    );
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    dataSource.destroy();
+    postgres.stop();
+  }
+
+  @Benchmark
+  public long paged() {
+    List<Map<String, Object>> page = jdbc.queryForList(PAGED_SEARCH, params);
+    Long total = jdbc.queryForObject(PAGED_COUNT, params, Long.class);
+    return page.size() + total;
+  }
+
+  @Benchmark
+  public List<Map<String, Object>> ranked() {
+    return jdbc.queryForList(UserRepository.CUSTOMER_SEARCH_RANKED, params);
+  }
+
+  public static void main(String[] args) throws Exception {
+    new Runner(
+      new OptionsBuilder()
+        .include(CustomerSearchBenchmark.class.getSimpleName())
+        .build()
+    ).run();
+  }
+}
@@ -0,0 +1,161 @@
+package coffee.astroneko.backend.benchmark;
+
+import coffee.astroneko.backend.config.PasswordConfig;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunResult;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Picks the password hashing cost for a target p99 login latency. Each
+ * setting is a login-time check (matches) through the same encoder
+ * PasswordConfig builds, sampled on as many threads as the hashing pool
+ * has, so the p99 includes CPU contention.
+ *
+ * A burst of logins spreads over the pool, so the slowest one waits for
+ * ceil(burst / threads) hashes. main() prints that estimate for every
+ * setting and recommends the strongest one per algorithm that keeps it
+ * under the target. Tune with -Dtarget.p99.ms (default 500), -Dburst
+ * (default 40, a shift change) and -Dthreads (default: cores, as
+ * app.password.hashing.threads). Not picked up by surefire.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 4)
+public class PasswordHashingBenchmark {
+
+  private static final String PASSWORD = "correct-horse-battery-staple";
+
+  // bcrypt-<strength> or argon2-<memory KiB>-<iterations>, weakest first
+  @Param(
+    {
+      "bcrypt-10",
+      "bcrypt-11",
+      "bcrypt-12",
+      "bcrypt-13",
+      "argon2-19456-2",
+      "argon2-47104-1",
+      "argon2-65536-3",
+    }
+  )
+  public String setting;
+
+  private PasswordEncoder encoder;
+
+  private String hash;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    encoder = encoder(setting);
+    hash = encoder.encode(PASSWORD);
+  }
+
+  @Benchmark
+  public boolean login() {
+    return encoder.matches(PASSWORD, hash);
+  }
+
+  // The other algorithm's parameters are the application defaults
+  static PasswordEncoder encoder(String setting) {
+    String[] parts = setting.split("-");
+    boolean bcrypt = PasswordConfig.BCRYPT.equals(parts[0]);
+    return new PasswordConfig()
+      .passwordEncoder(
+        parts[0],
+        bcrypt ? Integer.parseInt(parts[1]) : 10,
+        bcrypt ? 19456 : Integer.parseInt(parts[1]),
+        bcrypt ? 2 : Integer.parseInt(parts[2]),
+        1
+      );
+  }
+
+  public static void main(String[] args) throws Exception {
+    double targetMs = Double.parseDouble(
+      System.getProperty("target.p99.ms", "500")
+    );
+    int burst = Integer.getInteger("burst", 40);
+    int threads = Integer.getInteger(
+      "threads",
+      Runtime.getRuntime().availableProcessors()
+    );
+    int waves = (burst + threads - 1) / threads;
+
+    Collection<RunResult> results = new Runner(
+      new OptionsBuilder()
+        .include(PasswordHashingBenchmark.class.getSimpleName())
+        .threads(threads)
+        .build()
+    ).run();
+
+    // Per algorithm, the slowest setting that still fits is the strongest
+    Map<String, String> picked = new HashMap<>();
+    Map<String, Double> pickedP99 = new HashMap<>();
+    System.out.printf(
+      "%nTarget p99 %.0f ms for %d logins on %d threads%n",
+      targetMs,
+      burst,
+      threads
+    );
+    for (RunResult result : results) {
+      String candidate = result.getParams().getParam("setting");
+      double p99 = result
+        .getPrimaryResult()
+        .getStatistics()
+        .getPercentile(99);
+      double burstP99 = p99 * waves;
+      boolean fits = burstP99 <= targetMs;
+      System.out.printf(
+        "%-16s hash p99 %8.1f ms  burst p99 %8.1f ms  %s%n",
+        candidate,
+        p99,
+        burstP99,
+        fits ? "fits" : "too slow"
+      );
+
+      String algorithm = candidate.split("-")[0];
+      if (fits && p99 > pickedP99.getOrDefault(algorithm, -1.0)) {
+        picked.put(algorithm, candidate);
+        pickedP99.put(algorithm, p99);
+      }
+    }
+
+    System.out.println();
+    printRecommendation(picked.get(PasswordConfig.BCRYPT));
+    printRecommendation(picked.get(PasswordConfig.ARGON2));
+  }
+
+  private static void printRecommendation(String setting) {
+    if (setting == null) {
+      return;
+    }
+    String[] parts = setting.split("-");
+    System.out.println("# " + setting);
+    System.out.println("app.password.algorithm=" + parts[0]);
+    if (PasswordConfig.BCRYPT.equals(parts[0])) {
+      System.out.println("app.password.bcrypt.strength=" + parts[1]);
+    } else {
+      System.out.println("app.password.argon2.memory-kib=" + parts[1]);
+      System.out.println("app.password.argon2.iterations=" + parts[2]);
+      System.out.println("app.password.argon2.parallelism=1");
+    }
+  }
+}
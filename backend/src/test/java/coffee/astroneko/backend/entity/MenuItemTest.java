@@ -2,6 +2,7 @@ package coffee.astroneko.backend.entity;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -60,4 +61,26 @@ class MenuItemTest {
     assertNotNull(name);
     assertFalse(name.trim().isEmpty());
   }
+
+  @Test
+  void testSetTagsKeepsTagSetInStep() {
+    // When
+    menuItem.setTags(" Vegan, iced ,,VEGAN");
+
+    // Then
+    assertEquals(" Vegan, iced ,,VEGAN", menuItem.getTags());
+    assertEquals(Set.of("vegan", "iced"), menuItem.getTagSet());
+
+    // When the tags change
+    menuItem.setTags("iced, seasonal");
+
+    // Then
+    assertEquals(Set.of("iced", "seasonal"), menuItem.getTagSet());
+
+    // When the tags are cleared
+    menuItem.setTags(null);
+
+    // Then
+    assertTrue(menuItem.getTagSet().isEmpty());
+  }
 }
@@ -6,6 +6,9 @@ import coffee.astroneko.backend.dto.request.CreateMenuItemRequest;
 import coffee.astroneko.backend.dto.request.UpdateMenuItemRequest;
 import coffee.astroneko.backend.entity.MenuItem;
 import coffee.astroneko.backend.repository.MenuItemRepository;
+import coffee.astroneko.backend.util.JwtUtil;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,6 +17,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.http.*;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.springframework.transaction.annotation.Transactional;
@@ -50,12 +54,32 @@ class MenuManagementIntegrationTest {
   @Autowired
   private MenuItemRepository menuItemRepository;
 
+  @Autowired
+  private JwtUtil jwtUtil;
+
   private String baseUrl;
 
   @BeforeEach
   void setUp() {
     baseUrl = "http://localhost:" + port;
     menuItemRepository.deleteAll();
+
+    // Secure endpoints need a bearer token; menu writes need OWNER/MANAGER
+    String token = jwtUtil.generateJwtToken(
+      "owner@astroneko.coffee",
+      "owner",
+      1L
+    );
+    ClientHttpRequestInterceptor bearer = (request, body, execution) -> {
+      request.getHeaders().setBearerAuth(token);
+      return execution.execute(request, body);
+    };
+    restTemplate.getRestTemplate().setInterceptors(List.of(bearer));
+  }
+
+  @AfterEach
+  void tearDown() {
+    restTemplate.getRestTemplate().setInterceptors(List.of());
   }
 
   @Test
@@ -227,4 +251,42 @@ class MenuManagementIntegrationTest {
     );
     assertEquals(HttpStatus.NOT_FOUND, deleteResponse.getStatusCode());
   }
+
+  @Test
+  void testSecureEndpointsRequireToken() {
+    restTemplate.getRestTemplate().setInterceptors(List.of());
+
+    ResponseEntity<String> response = restTemplate.getForEntity(
+      baseUrl + "/api/v1/secure/menu",
+      String.class
+    );
+    assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
+
+    ResponseEntity<String> publicResponse = restTemplate.getForEntity(
+      baseUrl + "/api/v1/expose/menu",
+      String.class
+    );
+    assertEquals(HttpStatus.OK, publicResponse.getStatusCode());
+  }
+
+  @Test
+  void testMenuWritesRequireManagerRole() {
+    String clientToken = jwtUtil.generateJwtToken(
+      "client@astroneko.coffee",
+      "client",
+      2L
+    );
+    HttpHeaders headers = new HttpHeaders();
+    headers.setContentType(MediaType.APPLICATION_JSON);
+    headers.setBearerAuth(clientToken);
+    restTemplate.getRestTemplate().setInterceptors(List.of());
+
+    ResponseEntity<String> response = restTemplate.exchange(
+      baseUrl + "/api/v1/secure/menu/999",
+      HttpMethod.DELETE,
+      new HttpEntity<>(headers),
+      String.class
+    );
+    assertEquals(HttpStatus.FORBIDDEN, response.getStatusCode());
+  }
 }
@@ -0,0 +1,168 @@
+package coffee.astroneko.backend.integration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import coffee.astroneko.backend.entity.MenuItem.ItemType;
+import coffee.astroneko.backend.entity.Promo;
+import coffee.astroneko.backend.repository.PromoRepository;
+import coffee.astroneko.backend.service.PromoEngine;
+import coffee.astroneko.backend.service.PromoService;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@SpringBootTest
+@Testcontainers
+class PromoUsageConcurrencyIntegrationTest {
+
+  private static final int THREADS = 32;
+  private static final int ATTEMPTS_PER_THREAD = 25;
+
+  @Container
+  @SuppressWarnings("resource")
+  static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>(
+    "postgres:16-alpine"
+  )
+    .withDatabaseName("testdb")
+    .withUsername("test")
+    .withPassword("test");
+
+  @DynamicPropertySource
+  static void configureProperties(DynamicPropertyRegistry registry) {
+    registry.add("spring.datasource.url", postgres::getJdbcUrl);
+    registry.add("spring.datasource.username", postgres::getUsername);
+    registry.add("spring.datasource.password", postgres::getPassword);
+  }
+
+  @Autowired
+  private PromoRepository promoRepository;
+
+  @Autowired
+  private PromoService promoService;
+
+  @Autowired
+  private PromoEngine promoEngine;
+
+  @Test
+  void concurrentRedemptionsNeverExceedUsageLimit() throws Exception {
+    Promo promo = promoRepository.save(promo(50));
+
+    int redeemed = hammer(promo.getId());
+
+    assertEquals(50, redeemed);
+    Promo reloaded = promoRepository.findById(promo.getId()).orElseThrow();
+    assertEquals(50, reloaded.getCurrentUsage());
+  }
+
+  @Test
+  void concurrentRedemptionsWithoutLimitAreAllCounted() throws Exception {
+    Promo promo = promoRepository.save(promo(null));
+
+    int redeemed = hammer(promo.getId());
+
+    assertEquals(THREADS * ATTEMPTS_PER_THREAD, redeemed);
+    Promo reloaded = promoRepository.findById(promo.getId()).orElseThrow();
+    assertEquals(THREADS * ATTEMPTS_PER_THREAD, reloaded.getCurrentUsage());
+  }
+
+  @Test
+  void inactivePromoCannotBeRedeemed() {
+    Promo promo = promo(10);
+    promo.setIsActive(false);
+    promo = promoRepository.save(promo);
+
+    assertFalse(promoService.reserveUsage(promo.getId()));
+    Promo reloaded = promoRepository.findById(promo.getId()).orElseThrow();
+    assertEquals(0, reloaded.getCurrentUsage());
+  }
+
+  @Test
+  void checkoutCountsOnlyLimitedPromos() {
+    Promo limited = promoRepository.save(promo(10));
+    Promo unlimited = promoRepository.save(promo(null));
+    promoEngine.invalidate();
+    List<PromoEngine.CartLine> lines = List.of(
+      new PromoEngine.CartLine(1L, ItemType.COFFEE, 1, new BigDecimal("4.00"))
+    );
+
+    promoService.priceAndRedeem(lines, limited.getPromoCode());
+    promoService.priceAndRedeem(lines, unlimited.getPromoCode());
+
+    assertEquals(
+      1,
+      promoRepository.findById(limited.getId()).orElseThrow().getCurrentUsage()
+    );
+    assertEquals(
+      0,
+      promoRepository
+        .findById(unlimited.getId())
+        .orElseThrow()
+        .getCurrentUsage()
+    );
+  }
+
+  /**
+   * Every thread waits on one latch, then redeems the same promo as fast as
+   * it can; returns how many redemptions succeeded
+   */
+  private int hammer(Long promoId) throws Exception {
+    ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+    CountDownLatch start = new CountDownLatch(1);
+    AtomicInteger redeemed = new AtomicInteger();
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int t = 0; t < THREADS; t++) {
+        futures.add(
+          pool.submit(() -> {
+            start.await();
+            for (int i = 0; i < ATTEMPTS_PER_THREAD; i++) {
+              if (promoService.reserveUsage(promoId)) {
+                redeemed.incrementAndGet();
+              }
+            }
+            return null;
+          })
+        );
+      }
+      start.countDown();
+      for (Future<?> future : futures) {
+        future.get(60, TimeUnit.SECONDS);
+      }
+    } finally {
+      pool.shutdownNow();
+    }
+    return redeemed.get();
+  }
+
+  private static Promo promo(Integer usageLimit) {
+    String suffix = UUID.randomUUID().toString().substring(0, 8);
+    Promo promo = new Promo(
+      "Launch week " + suffix,
+      "Ten percent off while codes last",
+      Promo.PromoType.PERCENTAGE_DISCOUNT,
+      LocalDateTime.now().minusDays(1),
+      LocalDateTime.now().plusDays(1)
+    );
+    promo.setDiscountPercentage(BigDecimal.TEN);
+    promo.setApplicableTo(Promo.ApplicableTo.ALL_ITEMS);
+    promo.setPromoCode("LAUNCH-" + suffix.toUpperCase());
+    promo.setUsageLimit(usageLimit);
+    return promo;
+  }
+}
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import coffee.astroneko.backend.entity.MenuItem;
 import java.util.List;
+import java.util.Set;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -129,4 +130,21 @@ class MenuItemRepositoryTest {
     assertEquals("Updated Espresso", updatedMenuItem.getName());
     assertEquals(3.00, updatedMenuItem.getPrice());
   }
+
+  @Test
+  void testTagsAreStoredNormalizedInTagTable() {
+    // Given
+    menuItem1.setDescription("Double shot");
+    menuItem1.setType(MenuItem.ItemType.COFFEE);
+    menuItem1.setTags(" Iced, Vegan,iced ");
+    MenuItem saved = entityManager.persistAndFlush(menuItem1);
+    entityManager.clear();
+
+    // When
+    MenuItem reloaded = menuItemRepository.findById(saved.getId()).get();
+
+    // Then
+    assertEquals(Set.of("iced", "vegan"), reloaded.getTagSet());
+    assertTrue(menuItemRepository.findItemsWithUnsyncedTags().isEmpty());
+  }
 }
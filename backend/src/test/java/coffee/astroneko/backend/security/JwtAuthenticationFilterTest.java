@@ -0,0 +1,114 @@
+package coffee.astroneko.backend.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import coffee.astroneko.backend.util.JwtUtil;
+import java.time.Instant;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class JwtAuthenticationFilterTest {
+
+  private static final String SECRET =
+    "testSecretForAstronekoCoffeeThatIsLongEnoughForHmacSha";
+
+  private JwtUtil jwtUtil;
+  private TokenDenyList denyList;
+  private JwtAuthenticationFilter filter;
+
+  @BeforeEach
+  void setUp() {
+    jwtUtil = new JwtUtil();
+    ReflectionTestUtils.setField(jwtUtil, "jwtSecret", SECRET);
+    ReflectionTestUtils.setField(jwtUtil, "jwtExpirationMs", 60_000);
+    ReflectionTestUtils.setField(jwtUtil, "claimsCacheMaxSize", 10);
+    ReflectionTestUtils.invokeMethod(jwtUtil, "init");
+
+    denyList = new TokenDenyList();
+    filter = new JwtAuthenticationFilter(jwtUtil, denyList);
+  }
+
+  @AfterEach
+  void tearDown() {
+    SecurityContextHolder.clearContext();
+  }
+
+  @Test
+  void testValidTokenAuthenticatesFromClaims() throws Exception {
+    // Given
+    String token = jwtUtil.generateJwtToken(
+      "nova@astroneko.coffee",
+      "manager",
+      7L
+    );
+
+    // When
+    Authentication authentication = filter(token);
+
+    // Then
+    assertNotNull(authentication);
+    assertTrue(authentication.isAuthenticated());
+    AuthenticatedUser principal = (AuthenticatedUser) authentication
+      .getPrincipal();
+    assertEquals(7L, principal.getUserId());
+    assertEquals("nova@astroneko.coffee", principal.getEmail());
+    assertEquals(
+      "ROLE_MANAGER",
+      authentication.getAuthorities().iterator().next().getAuthority()
+    );
+  }
+
+  @Test
+  void testMissingOrInvalidTokenLeavesRequestAnonymous() throws Exception {
+    assertNull(filter(null));
+    assertNull(filter("not-a-jwt"));
+  }
+
+  @Test
+  void testRevokedTokenIsRefused() throws Exception {
+    // Given
+    String token = jwtUtil.generateJwtToken(
+      "nova@astroneko.coffee",
+      "client",
+      7L
+    );
+    denyList.revoke(token, jwtUtil.parseClaims(token).getExpiresAt());
+
+    // When & Then
+    assertTrue(denyList.isRevoked(token));
+    assertNull(filter(token));
+  }
+
+  @Test
+  void testPurgeDropsExpiredRevocations() {
+    // Given
+    denyList.revoke("live", Instant.now().plusSeconds(60));
+    denyList.revoke("expired", Instant.now().minusSeconds(60));
+
+    // When
+    denyList.purgeExpired();
+
+    // Then
+    assertEquals(1, denyList.size());
+    assertTrue(denyList.isRevoked("live"));
+  }
+
+  private Authentication filter(String token) throws Exception {
+    SecurityContextHolder.clearContext();
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    if (token != null) {
+      request.addHeader("Authorization", "Bearer " + token);
+    }
+    MockFilterChain chain = new MockFilterChain();
+    filter.doFilter(request, new MockHttpServletResponse(), chain);
+    assertNotNull(chain.getRequest());
+    return SecurityContextHolder.getContext().getAuthentication();
+  }
+}
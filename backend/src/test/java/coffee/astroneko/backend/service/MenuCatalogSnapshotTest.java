@@ -0,0 +1,309 @@
+package coffee.astroneko.backend.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import coffee.astroneko.backend.dto.response.MenuFacetsResponse;
+import coffee.astroneko.backend.dto.response.MenuItemResponse;
+import coffee.astroneko.backend.entity.MenuItem;
+import coffee.astroneko.backend.entity.MenuItem.ItemType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Checks the bitset indexes against a plain stream filter over the same
+ * items
+ */
+class MenuCatalogSnapshotTest {
+
+  private static final String[] TAGS = { "iced", "vegan", "hot", "seasonal" };
+
+  private static final List<TagFilter> TAG_FILTERS = List.of(
+    TagFilter.NONE,
+    TagFilter.of(List.of("iced", "vegan"), "any"),
+    TagFilter.of(List.of("iced", "vegan"), "all"),
+    TagFilter.of(List.of("unknown"), "any")
+  );
+
+  private List<MenuItemResponse> items;
+  private MenuCatalogSnapshot snapshot;
+
+  @BeforeEach
+  void setUp() {
+    // Few distinct prices, so many items share a sort key; some have none
+    Random random = new Random(42);
+    items = new ArrayList<>();
+    for (long id = 1; id <= 80; id++) {
+      MenuItemResponse item = new MenuItemResponse();
+      item.setId(id);
+      item.setName(random.nextBoolean() ? "Latte " + id : "latte " + id);
+      item.setType(ItemType.values()[random.nextInt(3)]);
+      item.setPrice(random.nextInt(8) == 0 ? null : 2.0 + random.nextInt(4));
+      item.setInStock(random.nextInt(4) != 0);
+      item.setIsOnSale(random.nextBoolean());
+      item.setIsCombo(random.nextInt(5) == 0);
+      item.setTags(
+        Arrays.stream(TAGS)
+          .filter(tag -> random.nextBoolean())
+          .map(tag -> random.nextBoolean() ? tag.toUpperCase() : tag)
+          .collect(Collectors.joining(", "))
+      );
+      items.add(item);
+    }
+    // Shuffled, so the snapshot cannot rely on the input order
+    Collections.shuffle(items, random);
+    snapshot = MenuCatalogSnapshot.of(1L, items, Map.of());
+  }
+
+  @Test
+  void testFilterMatchesNaiveScan() {
+    for (ItemType type : types()) {
+      for (Boolean inStock : flags()) {
+        for (Boolean onSale : flags()) {
+          for (Boolean combo : flags()) {
+            for (TagFilter tags : TAG_FILTERS) {
+              // When
+              List<MenuItemResponse> filtered = snapshot.filter(
+                type,
+                inStock,
+                onSale,
+                combo,
+                tags
+              );
+
+              // Then
+              assertEquals(
+                ids(naive(type, inStock, onSale, combo, tags, byId())),
+                ids(filtered)
+              );
+            }
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  void testPagesMatchNaiveSortAndSlice() {
+    List<Sort> sorts = List.of(
+      Sort.by(Sort.Direction.ASC, "price"),
+      Sort.by(Sort.Direction.DESC, "price"),
+      Sort.by(Sort.Direction.ASC, "name")
+    );
+    for (Sort sort : sorts) {
+      for (TagFilter tags : TAG_FILTERS) {
+        // Given
+        List<MenuItemResponse> expected = naive(
+          ItemType.COFFEE,
+          true,
+          null,
+          null,
+          tags,
+          naiveOrder(sort.iterator().next())
+        );
+
+        for (int page = 0; page * 7 <= expected.size(); page++) {
+          // When
+          Page<MenuItemResponse> result = snapshot.page(
+            ItemType.COFFEE,
+            true,
+            null,
+            null,
+            tags,
+            PageRequest.of(page, 7, sort)
+          );
+
+          // Then
+          int from = page * 7;
+          int to = Math.min(from + 7, expected.size());
+          assertEquals(
+            ids(expected.subList(from, to)),
+            ids(result.getContent()),
+            sort + " page " + page
+          );
+          assertEquals(expected.size(), result.getTotalElements());
+        }
+      }
+    }
+  }
+
+  @Test
+  void testFacetsMatchNaiveCounts() {
+    // Given
+    TagFilter tags = TagFilter.of(List.of("iced"), "any");
+
+    // When
+    MenuFacetsResponse facets = snapshot.facets(
+      ItemType.COFFEE,
+      true,
+      null,
+      false,
+      tags
+    );
+
+    // Then - each count leaves out its own facet's selection
+    assertEquals(
+      count(ItemType.COFFEE, true, null, false, tags),
+      facets.getTotal()
+    );
+    for (ItemType type : ItemType.values()) {
+      assertEquals(
+        count(type, true, null, false, tags),
+        facets.getTypes().get(type),
+        type.name()
+      );
+    }
+    for (boolean flag : new boolean[] { true, false }) {
+      assertEquals(
+        count(ItemType.COFFEE, flag, null, false, tags),
+        facets.getInStock().get(flag)
+      );
+      assertEquals(
+        count(ItemType.COFFEE, true, flag, false, tags),
+        facets.getOnSale().get(flag)
+      );
+      assertEquals(
+        count(ItemType.COFFEE, true, null, flag, tags),
+        facets.getCombo().get(flag)
+      );
+    }
+  }
+
+  @Test
+  void testSeekWalksEqualSortKeysInBothDirections() {
+    for (Sort.Direction direction : Sort.Direction.values()) {
+      for (TagFilter tags : List.of(TagFilter.NONE, TAG_FILTERS.get(1))) {
+        // Given
+        Sort.Order order = new Sort.Order(direction, "price");
+        List<MenuItemResponse> expected = naive(
+          null,
+          true,
+          null,
+          null,
+          tags,
+          naiveOrder(order)
+        );
+
+        // When - walk the catalog five items at a time, as cursors do
+        List<MenuItemResponse> walked = new ArrayList<>();
+        Long afterId = null;
+        String afterKey = null;
+        while (true) {
+          List<MenuItemResponse> batch = snapshot.seek(
+            null,
+            true,
+            null,
+            null,
+            tags,
+            order,
+            afterId,
+            afterKey,
+            5
+          );
+          walked.addAll(batch);
+          if (batch.size() < 5) {
+            break;
+          }
+          MenuItemResponse last = batch.get(batch.size() - 1);
+          afterId = last.getId();
+          afterKey = MenuCatalogSnapshot.sortKey("price", last);
+        }
+
+        // Then - no item is skipped or repeated where prices tie
+        assertEquals(ids(expected), ids(walked), direction.name());
+      }
+    }
+  }
+
+  @Test
+  void testSeekRejectsUnparsableCursorKey() {
+    assertThrows(IllegalArgumentException.class, () ->
+      snapshot.seek(
+        null,
+        null,
+        null,
+        null,
+        TagFilter.NONE,
+        Sort.Order.asc("price"),
+        1L,
+        "not-a-price",
+        5
+      )
+    );
+  }
+
+  private List<MenuItemResponse> naive(
+    ItemType type,
+    Boolean inStock,
+    Boolean onSale,
+    Boolean combo,
+    TagFilter tags,
+    Comparator<MenuItemResponse> order
+  ) {
+    Predicate<MenuItemResponse> matches = item ->
+      (type == null || type == item.getType()) &&
+      (inStock == null || inStock.equals(item.getInStock())) &&
+      (onSale == null || onSale.equals(item.getIsOnSale())) &&
+      (combo == null || combo.equals(item.getIsCombo())) &&
+      tags.matches(MenuItem.parseTags(item.getTags()));
+    return items.stream().filter(matches).sorted(order).toList();
+  }
+
+  private long count(
+    ItemType type,
+    Boolean inStock,
+    Boolean onSale,
+    Boolean combo,
+    TagFilter tags
+  ) {
+    return naive(type, inStock, onSale, combo, tags, byId()).size();
+  }
+
+  /**
+   * Price or name, nulls last ascending and first descending, then id
+   */
+  private static Comparator<MenuItemResponse> naiveOrder(Sort.Order order) {
+    Comparator<MenuItemResponse> property = order.getProperty().equals("name")
+      ? Comparator.comparing(
+        MenuItemResponse::getName,
+        Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER)
+      )
+      : Comparator.comparing(
+        MenuItemResponse::getPrice,
+        Comparator.nullsLast(Comparator.<Double>naturalOrder())
+      );
+    if (order.isDescending()) {
+      property = property.reversed();
+    }
+    return property.thenComparing(byId());
+  }
+
+  private static Comparator<MenuItemResponse> byId() {
+    return Comparator.comparing(MenuItemResponse::getId);
+  }
+
+  private static List<ItemType> types() {
+    List<ItemType> types = new ArrayList<>(Arrays.asList(ItemType.values()));
+    types.add(null);
+    return types;
+  }
+
+  private static List<Boolean> flags() {
+    return Arrays.asList(null, true, false);
+  }
+
+  private static List<Long> ids(List<MenuItemResponse> items) {
+    return items.stream().map(MenuItemResponse::getId).toList();
+  }
+}
@@ -0,0 +1,109 @@
+package coffee.astroneko.backend.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import coffee.astroneko.backend.dto.response.MenuItemResponse;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class MenuSearchIndexTest {
+
+  @Test
+  void testPrefixMatchBeatsInfixMatch() {
+    // Given
+    MenuSearchIndex index = MenuSearchIndex.of(
+      List.of(item(1L, "Espresso", null), item(2L, "Spritz", null))
+    );
+
+    // When
+    List<Long> prefix = search(index, "spr");
+    List<Long> infix = search(index, "spresso");
+
+    // Then - "spr" starts Spritz, and only lies inside Espresso
+    assertEquals(2L, prefix.get(0));
+    assertEquals(List.of(1L), infix);
+  }
+
+  @Test
+  void testEveryWordOfTheQueryMustMatch() {
+    // Given
+    MenuSearchIndex index = MenuSearchIndex.of(
+      List.of(
+        item(1L, "Iced Latte", null),
+        item(2L, "Hot Latte", null),
+        item(3L, "Iced Tea", null)
+      )
+    );
+
+    // When
+    List<Long> both = search(index, "iced latte");
+    List<Long> one = search(index, "latte");
+
+    // Then
+    assertEquals(List.of(1L), both);
+    assertEquals(List.of(1L, 2L), one);
+  }
+
+  @Test
+  void testCaseAndAccentsAreFolded() {
+    // Given
+    MenuSearchIndex index = MenuSearchIndex.of(
+      List.of(item(1L, "Crème Brûlée Latte", null), item(2L, "Mocha", null))
+    );
+
+    // When & Then
+    assertEquals(List.of(1L), search(index, "CREME brulee"));
+    assertEquals(List.of(1L), search(index, "crème"));
+    assertEquals(List.of(2L), search(index, "MOCHA"));
+  }
+
+  @Test
+  void testNameHitRanksAboveDescriptionHit() {
+    // Given
+    MenuSearchIndex index = MenuSearchIndex.of(
+      List.of(
+        item(1L, "Chocolate Cookie", "Goes well with a mocha"),
+        item(2L, "Mocha", "Espresso, chocolate and milk")
+      )
+    );
+
+    // When
+    List<Long> results = search(index, "mocha");
+
+    // Then
+    assertEquals(List.of(2L, 1L), results);
+  }
+
+  @Test
+  void testQueryWithoutMatchesReturnsEmpty() {
+    // Given
+    MenuSearchIndex index = MenuSearchIndex.of(
+      List.of(item(1L, "Espresso", "Double shot"))
+    );
+
+    // When & Then
+    assertTrue(search(index, "matcha").isEmpty());
+    assertTrue(search(index, "espresso matcha").isEmpty());
+    assertTrue(search(index, "  ").isEmpty());
+  }
+
+  private static List<Long> search(MenuSearchIndex index, String query) {
+    return index
+      .search(query, item -> true, 10)
+      .stream()
+      .map(MenuItemResponse::getId)
+      .toList();
+  }
+
+  private static MenuItemResponse item(
+    Long id,
+    String name,
+    String description
+  ) {
+    MenuItemResponse item = new MenuItemResponse();
+    item.setId(id);
+    item.setName(name);
+    item.setDescription(description);
+    return item;
+  }
+}
@@ -0,0 +1,103 @@
+package coffee.astroneko.backend.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import coffee.astroneko.backend.config.PasswordConfig;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class PasswordHasherTest {
+
+  private PasswordHasher passwordHasher;
+
+  @AfterEach
+  void tearDown() {
+    ReflectionTestUtils.invokeMethod(passwordHasher, "stop");
+  }
+
+  @Test
+  void testLegacyBcryptHashVerifiesAndNeedsRehash() {
+    // Given
+    passwordHasher = passwordHasher(bcrypt(5), 1, 4);
+    String legacy = new BCryptPasswordEncoder(4).encode("password123");
+
+    // When
+    boolean matches = passwordHasher.matches("password123", legacy).join();
+
+    // Then
+    assertTrue(matches);
+    assertTrue(passwordHasher.needsRehash(legacy));
+  }
+
+  @Test
+  void testCurrentHashDoesNotNeedRehash() {
+    // Given
+    passwordHasher = passwordHasher(bcrypt(5), 1, 4);
+
+    // When
+    String hash = passwordHasher.encode("password123").join();
+
+    // Then
+    assertTrue(hash.startsWith("{bcrypt}"));
+    assertTrue(passwordHasher.matches("password123", hash).join());
+    assertFalse(passwordHasher.matches("wrong", hash).join());
+    assertFalse(passwordHasher.needsRehash(hash));
+  }
+
+  @Test
+  void testSaturatedPoolRejectsNewWork() {
+    // Given one busy thread and a full one-slot queue
+    CountDownLatch release = new CountDownLatch(1);
+    PasswordEncoder slow = new PasswordEncoder() {
+      @Override
+      public String encode(CharSequence rawPassword) {
+        try {
+          release.await();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        return rawPassword.toString();
+      }
+
+      @Override
+      public boolean matches(CharSequence rawPassword, String encoded) {
+        return encode(rawPassword).equals(encoded);
+      }
+    };
+    passwordHasher = passwordHasher(slow, 1, 1);
+    CompletableFuture<String> running = passwordHasher.encode("a");
+    CompletableFuture<String> queued = passwordHasher.encode("b");
+
+    // When & Then
+    assertThrows(RejectedExecutionException.class, () ->
+      passwordHasher.encode("c")
+    );
+    release.countDown();
+    assertEquals("a", running.join());
+    assertEquals("b", queued.join());
+  }
+
+  private static PasswordEncoder bcrypt(int strength) {
+    return new PasswordConfig()
+      .passwordEncoder(PasswordConfig.BCRYPT, strength, 19456, 2, 1);
+  }
+
+  private static PasswordHasher passwordHasher(
+    PasswordEncoder encoder,
+    int threads,
+    int queueCapacity
+  ) {
+    PasswordHasher hasher = new PasswordHasher();
+    ReflectionTestUtils.setField(hasher, "passwordEncoder", encoder);
+    ReflectionTestUtils.setField(hasher, "threads", threads);
+    ReflectionTestUtils.setField(hasher, "queueCapacity", queueCapacity);
+    ReflectionTestUtils.invokeMethod(hasher, "start");
+    return hasher;
+  }
+}
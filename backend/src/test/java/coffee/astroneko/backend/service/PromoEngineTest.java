@@ -0,0 +1,295 @@
+package coffee.astroneko.backend.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import coffee.astroneko.backend.dto.response.CartEvaluationResponse;
+import coffee.astroneko.backend.entity.MenuItem;
+import coffee.astroneko.backend.entity.MenuItem.ItemType;
+import coffee.astroneko.backend.entity.Promo;
+import coffee.astroneko.backend.entity.Promo.ApplicableTo;
+import coffee.astroneko.backend.entity.Promo.PromoType;
+import coffee.astroneko.backend.repository.PromoRepository;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class PromoEngineTest {
+
+  @Mock
+  private PromoRepository promoRepository;
+
+  @Mock
+  private MenuCatalog menuCatalog;
+
+  @InjectMocks
+  private PromoEngine promoEngine;
+
+  @Test
+  void testPercentageRoundsEachLineHalfUp() {
+    // Given - 15% of 3.35 is 0.5025 and of 2.10 is 0.315
+    promos(percentage(1L, ApplicableTo.ALL_ITEMS, "15"));
+
+    // When
+    CartEvaluationResponse cart = promoEngine.evaluate(
+      List.of(line(1L, 1, "3.35"), line(2L, 1, "2.10")),
+      null
+    );
+
+    // Then
+    assertAmount("0.50", cart.getLines().get(0).getDiscountAmount());
+    assertAmount("0.32", cart.getLines().get(1).getDiscountAmount());
+    assertAmount("0.82", cart.getItemDiscount());
+    assertAmount("4.63", cart.getTotal());
+  }
+
+  @Test
+  void testFixedAmountIsSpreadOverLinesOnce() {
+    // Given
+    Promo promo = promo(
+      1L,
+      PromoType.FIXED_AMOUNT_DISCOUNT,
+      ApplicableTo.ALL_ITEMS
+    );
+    promo.setDiscountAmount(new BigDecimal("5.00"));
+    promos(promo);
+
+    // When
+    CartEvaluationResponse cart = promoEngine.evaluate(
+      List.of(line(1L, 1, "3.00"), line(2L, 1, "4.00")),
+      null
+    );
+
+    // Then - the first line is covered in full, the rest goes on the next
+    assertAmount("3.00", cart.getLines().get(0).getDiscountAmount());
+    assertAmount("2.00", cart.getLines().get(1).getDiscountAmount());
+    assertAmount("5.00", cart.getDiscountTotal());
+  }
+
+  @Test
+  void testBuyOneGetOneGivesEverySecondItem() {
+    // Given
+    Promo promo = promo(
+      1L,
+      PromoType.BUY_ONE_GET_ONE,
+      ApplicableTo.SPECIFIC_ITEMS
+    );
+    promo.setMenuItems(Set.of(menuItem(1L)));
+    promos(promo);
+
+    // When
+    CartEvaluationResponse cart = promoEngine.evaluate(
+      List.of(line(1L, 3, "2.50"), line(2L, 2, "4.00")),
+      null
+    );
+
+    // Then - three lattes pay for two; the unlinked item is untouched
+    assertAmount("2.50", cart.getLines().get(0).getDiscountAmount());
+    assertEquals(1L, cart.getLines().get(0).getPromoId());
+    assertAmount("0", cart.getLines().get(1).getDiscountAmount());
+    assertNull(cart.getLines().get(1).getPromoId());
+  }
+
+  @Test
+  void testMaximumDiscountTrimsLaterLines() {
+    // Given
+    Promo promo = percentage(1L, ApplicableTo.ALL_ITEMS, "50");
+    promo.setMaximumDiscountAmount(new BigDecimal("3.00"));
+    promos(promo);
+
+    // When
+    CartEvaluationResponse cart = promoEngine.evaluate(
+      List.of(line(1L, 1, "4.00"), line(2L, 1, "4.00")),
+      null
+    );
+
+    // Then
+    assertAmount("2.00", cart.getLines().get(0).getDiscountAmount());
+    assertAmount("1.00", cart.getLines().get(1).getDiscountAmount());
+    assertAmount("3.00", cart.getItemDiscount());
+  }
+
+  @Test
+  void testMinimumOrderAppliesAfterItemDiscounts() {
+    // Given - 10% off items, then 20% off orders of at least 10.00
+    Promo orderPromo = percentage(2L, ApplicableTo.MINIMUM_ORDER, "20");
+    orderPromo.setMinimumOrderAmount(new BigDecimal("10.00"));
+    promos(percentage(1L, ApplicableTo.ALL_ITEMS, "10"), orderPromo);
+
+    // When
+    CartEvaluationResponse cart = promoEngine.evaluate(
+      List.of(line(1L, 1, "10.00")),
+      null
+    );
+
+    // Then - the minimum is checked on the subtotal, the 20% taken off 9.00
+    assertAmount("1.00", cart.getItemDiscount());
+    assertAmount("1.80", cart.getOrderDiscount());
+    assertAmount("7.20", cart.getTotal());
+    assertEquals(2, cart.getAppliedPromos().size());
+  }
+
+  @Test
+  void testMinimumOrderNotMetGivesNoOrderDiscount() {
+    // Given
+    Promo orderPromo = percentage(1L, ApplicableTo.MINIMUM_ORDER, "20");
+    orderPromo.setMinimumOrderAmount(new BigDecimal("10.00"));
+    promos(orderPromo);
+
+    // When
+    CartEvaluationResponse cart = promoEngine.evaluate(
+      List.of(line(1L, 1, "9.99")),
+      null
+    );
+
+    // Then
+    assertAmount("0", cart.getOrderDiscount());
+    assertTrue(cart.getAppliedPromos().isEmpty());
+  }
+
+  @Test
+  void testCodePromoOnlyAppliesWithItsCode() {
+    // Given
+    Promo promo = percentage(1L, ApplicableTo.ALL_ITEMS, "10");
+    promo.setPromoCode("SAVE10");
+    promos(promo);
+    List<PromoEngine.CartLine> lines = List.of(line(1L, 1, "5.00"));
+
+    // When
+    CartEvaluationResponse withoutCode = promoEngine.evaluate(lines, null);
+    CartEvaluationResponse withCode = promoEngine.evaluate(lines, " save10 ");
+
+    // Then
+    assertAmount("0", withoutCode.getDiscountTotal());
+    assertFalse(withoutCode.isPromoCodeValid());
+    assertAmount("0.50", withCode.getDiscountTotal());
+    assertTrue(withCode.isPromoCodeValid());
+    assertEquals("SAVE10", withCode.getPromoCode());
+  }
+
+  @Test
+  void testBestPromoWinsAndTiesGoToTheLowerId() {
+    // Given - 7 and 3 give 10% on everything, 5 gives 20% on pastries
+    Promo pastries = percentage(5L, ApplicableTo.CATEGORY_BASED, "20");
+    MenuItem croissant = menuItem(2L);
+    croissant.setType(ItemType.PASTRIES);
+    pastries.setMenuItems(Set.of(croissant));
+    promos(
+      percentage(7L, ApplicableTo.ALL_ITEMS, "10"),
+      percentage(3L, ApplicableTo.ALL_ITEMS, "10"),
+      pastries
+    );
+
+    // When
+    CartEvaluationResponse cart = promoEngine.evaluate(
+      List.of(
+        line(1L, 1, "4.00"),
+        new PromoEngine.CartLine(
+          2L,
+          ItemType.PASTRIES,
+          1,
+          new BigDecimal("3.00")
+        )
+      ),
+      null
+    );
+
+    // Then - promos rank by their discount on the whole cart: 7 and 3 both
+    // give 0.70, so 3 wins by id and claims both lines; 7 and the 0.60
+    // pastry promo find nothing left, as a line takes one promo only
+    assertEquals(3L, cart.getLines().get(0).getPromoId());
+    assertAmount("0.40", cart.getLines().get(0).getDiscountAmount());
+    assertEquals(3L, cart.getLines().get(1).getPromoId());
+    assertAmount("0.30", cart.getLines().get(1).getDiscountAmount());
+    assertEquals(1, cart.getAppliedPromos().size());
+  }
+
+  @Test
+  void testExcludedPromosAreSkipped() {
+    // Given
+    promos(
+      percentage(1L, ApplicableTo.ALL_ITEMS, "20"),
+      percentage(2L, ApplicableTo.ALL_ITEMS, "10")
+    );
+
+    // When
+    CartEvaluationResponse cart = promoEngine.evaluate(
+      List.of(line(1L, 1, "5.00")),
+      null,
+      Set.of(1L)
+    );
+
+    // Then
+    assertEquals(2L, cart.getLines().get(0).getPromoId());
+    assertAmount("0.50", cart.getDiscountTotal());
+  }
+
+  private void promos(Promo... promos) {
+    when(promoRepository.findLivePromosWithMenuItems(any())).thenReturn(
+      List.of(promos)
+    );
+  }
+
+  private static Promo promo(
+    Long id,
+    PromoType type,
+    ApplicableTo applicableTo
+  ) {
+    Promo promo = new Promo(
+      "Promo " + id,
+      "Test promo",
+      type,
+      LocalDateTime.now().minusDays(1),
+      LocalDateTime.now().plusDays(1)
+    );
+    promo.setId(id);
+    promo.setApplicableTo(applicableTo);
+    return promo;
+  }
+
+  private static Promo percentage(
+    Long id,
+    ApplicableTo applicableTo,
+    String percent
+  ) {
+    Promo promo = promo(id, PromoType.PERCENTAGE_DISCOUNT, applicableTo);
+    promo.setDiscountPercentage(new BigDecimal(percent));
+    return promo;
+  }
+
+  private static MenuItem menuItem(Long id) {
+    MenuItem menuItem = new MenuItem();
+    menuItem.setId(id);
+    menuItem.setType(ItemType.COFFEE);
+    return menuItem;
+  }
+
+  private static PromoEngine.CartLine line(
+    Long menuItemId,
+    int quantity,
+    String unitPrice
+  ) {
+    return new PromoEngine.CartLine(
+      menuItemId,
+      ItemType.COFFEE,
+      quantity,
+      new BigDecimal(unitPrice)
+    );
+  }
+
+  private static void assertAmount(String expected, BigDecimal actual) {
+    assertEquals(
+      0,
+      new BigDecimal(expected).compareTo(actual),
+      "expected " + expected + " but was " + actual
+    );
+  }
+}
@@ -0,0 +1,242 @@
+package coffee.astroneko.backend.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import coffee.astroneko.backend.dto.response.PurchaseHistoryResponse;
+import coffee.astroneko.backend.entity.MenuItem;
+import coffee.astroneko.backend.entity.Order;
+import coffee.astroneko.backend.entity.OrderItem;
+import coffee.astroneko.backend.entity.PurchaseHistory;
+import coffee.astroneko.backend.entity.User;
+import coffee.astroneko.backend.service.PurchaseHistoryService.ExportFormat;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.test.context.TestPropertySource;
+
+@DataJpaTest
+@Import({ PurchaseHistoryService.class, JacksonAutoConfiguration.class })
+@TestPropertySource(
+  properties = {
+    "spring.datasource.url=jdbc:h2:mem:testdb",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+  }
+)
+class PurchaseHistoryServiceTest {
+
+  private static final int PURCHASES = 5;
+
+  @Autowired
+  private TestEntityManager entityManager;
+
+  @Autowired
+  private PurchaseHistoryService purchaseHistoryService;
+
+  private Statistics statistics;
+  private User customer;
+
+  @BeforeEach
+  void setUp() {
+    customer = new User(
+      "Jane",
+      "Doe",
+      "janedoe",
+      "jane@example.com",
+      "secret"
+    );
+    customer.setPhoneNumber("09171234567");
+    entityManager.persist(customer);
+
+    MenuItem latte = new MenuItem(
+      "Latte",
+      "Espresso with steamed milk",
+      3.50,
+      MenuItem.ItemType.COFFEE,
+      null
+    );
+    MenuItem croissant = new MenuItem(
+      "Croissant",
+      "Butter croissant",
+      2.25,
+      MenuItem.ItemType.PASTRIES,
+      null
+    );
+    entityManager.persist(latte);
+    entityManager.persist(croissant);
+
+    for (int i = 0; i < PURCHASES; i++) {
+      Order order = new Order("Jane Doe", customer);
+      order.setOrderNumber("ORD-TEST-" + i);
+      order.setQueueNumber(i + 1);
+      order.setOrderDate(LocalDateTime.now().minusHours(i));
+      order.getOrderItems().add(new OrderItem(order, latte, 2));
+      order.getOrderItems().add(new OrderItem(order, croissant, 1));
+      entityManager.persist(order);
+      entityManager.persist(new PurchaseHistory(customer, order));
+    }
+
+    entityManager.flush();
+    entityManager.clear();
+
+    statistics = entityManager
+      .getEntityManager()
+      .getEntityManagerFactory()
+      .unwrap(SessionFactory.class)
+      .getStatistics();
+    statistics.setStatisticsEnabled(true);
+    statistics.clear();
+  }
+
+  @Test
+  void testPageLoadsInConstantStatements() {
+    // When
+    Page<PurchaseHistoryResponse> page =
+      purchaseHistoryService.getPurchaseHistoryByCustomerId(
+        customer.getId(),
+        0,
+        3
+      );
+
+    // Then - page select, count and one item-count query
+    assertEquals(3, page.getContent().size());
+    assertEquals(PURCHASES, page.getTotalElements());
+    assertEquals("Jane Doe", page.getContent().get(0).getCustomerName());
+    assertEquals(3, page.getContent().get(0).getItemsCount());
+    assertEquals(3, statistics.getPrepareStatementCount());
+  }
+
+  @Test
+  void testListLoadsInConstantStatements() {
+    // When
+    List<PurchaseHistoryResponse> history =
+      purchaseHistoryService.getPurchaseHistoryByCustomerId(customer.getId());
+
+    // Then - one select for purchases with customer and order, one for counts
+    assertEquals(PURCHASES, history.size());
+    history.forEach(purchase -> assertEquals(3, purchase.getItemsCount()));
+    assertEquals(2, statistics.getPrepareStatementCount());
+  }
+
+  @Test
+  void testDateRangeLoadsInConstantStatements() {
+    // When
+    List<PurchaseHistoryResponse> history =
+      purchaseHistoryService.getPurchaseHistoryByDateRange(
+        LocalDateTime.now().minusDays(1),
+        LocalDateTime.now().plusDays(1)
+      );
+
+    // Then
+    assertEquals(PURCHASES, history.size());
+    assertEquals(2, statistics.getPrepareStatementCount());
+  }
+
+  @Test
+  void testCsvExportStreamsEveryRowInOneStatement() throws Exception {
+    // Given
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    // When
+    purchaseHistoryService.exportPurchaseHistory(
+      null,
+      null,
+      ExportFormat.CSV,
+      out
+    );
+
+    // Then - header plus one line per purchase, oldest first
+    String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+    assertEquals(PURCHASES + 1, lines.length);
+    assertTrue(lines[0].startsWith("id,customerId,customerName"));
+    assertTrue(lines[1].contains("ORD-TEST-" + (PURCHASES - 1)));
+    assertTrue(lines[1].contains(",Jane Doe,"));
+    assertEquals(1, statistics.getPrepareStatementCount());
+  }
+
+  @Test
+  void testCsvExportNeutralizesFormulas() throws Exception {
+    // Given - customer-controlled text that a spreadsheet would evaluate
+    PurchaseHistory purchase = entityManager
+      .getEntityManager()
+      .createQuery("SELECT p FROM PurchaseHistory p", PurchaseHistory.class)
+      .setMaxResults(1)
+      .getSingleResult();
+    purchase.setNotes("=HYPERLINK(\"http://evil.example\",\"Refund\")");
+    entityManager.flush();
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    // When
+    purchaseHistoryService.exportPurchaseHistory(
+      null,
+      null,
+      ExportFormat.CSV,
+      out
+    );
+
+    // Then - the note opens as text, not a formula
+    String csv = out.toString(StandardCharsets.UTF_8);
+    assertTrue(csv.contains(",\"'=HYPERLINK(\"\"http://evil.example\"\","));
+    assertFalse(csv.contains(",=HYPERLINK"));
+    assertFalse(csv.contains(",\"=HYPERLINK"));
+  }
+
+  @Test
+  void testNdjsonExportWritesOneObjectPerLine() throws Exception {
+    // Given
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    // When
+    purchaseHistoryService.exportPurchaseHistory(
+      LocalDateTime.now().minusDays(1),
+      LocalDateTime.now().plusDays(1),
+      ExportFormat.NDJSON,
+      out
+    );
+
+    // Then
+    String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+    assertEquals(PURCHASES, lines.length);
+    assertTrue(lines[0].startsWith("{"));
+    assertTrue(lines[0].contains("\"itemsCount\":3"));
+  }
+
+  @Test
+  void testExportHonoursOpenEndedRanges() throws Exception {
+    // Given - orders are one hour apart, the newest placed now
+    LocalDateTime cutoff = LocalDateTime.now().minusMinutes(150);
+    ByteArrayOutputStream since = new ByteArrayOutputStream();
+    ByteArrayOutputStream until = new ByteArrayOutputStream();
+
+    // When
+    purchaseHistoryService.exportPurchaseHistory(
+      cutoff,
+      null,
+      ExportFormat.NDJSON,
+      since
+    );
+    purchaseHistoryService.exportPurchaseHistory(
+      null,
+      cutoff,
+      ExportFormat.NDJSON,
+      until
+    );
+
+    // Then - the three newest after the cutoff, the rest before it
+    assertEquals(3, since.toString(StandardCharsets.UTF_8).split("\n").length);
+    assertEquals(
+      PURCHASES - 3,
+      until.toString(StandardCharsets.UTF_8).split("\n").length
+    );
+  }
+}
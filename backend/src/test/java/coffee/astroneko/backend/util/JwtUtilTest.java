@@ -0,0 +1,98 @@
+package coffee.astroneko.backend.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class JwtUtilTest {
+
+  private static final String SECRET =
+    "testSecretForAstronekoCoffeeThatIsLongEnoughForHmacSha";
+  private static final String EMAIL = "nova@astroneko.coffee";
+
+  private JwtUtil jwtUtil;
+
+  @BeforeEach
+  void setUp() {
+    jwtUtil = jwtUtil(SECRET, 60_000);
+  }
+
+  @Test
+  void testParseClaimsReturnsTypedClaims() {
+    // Given
+    String token = jwtUtil.generateJwtToken(EMAIL, "CLIENT", 42L);
+
+    // When
+    JwtClaims claims = jwtUtil.parseClaims(token);
+
+    // Then
+    assertEquals(EMAIL, claims.getEmail());
+    assertEquals("CLIENT", claims.getRole());
+    assertEquals(42L, claims.getUserId());
+    assertTrue(claims.getExpiresAt().isAfter(claims.getIssuedAt()));
+    assertEquals("CLIENT", jwtUtil.getRoleFromJwtToken(token));
+    assertEquals(42L, jwtUtil.getUserIdFromJwtToken(token));
+  }
+
+  @Test
+  void testRepeatParsesAreServedFromCache() {
+    // Given
+    String token = jwtUtil.generateJwtToken(EMAIL, "CLIENT", 42L);
+
+    // When
+    JwtClaims first = jwtUtil.parseClaims(token);
+    JwtClaims second = jwtUtil.parseClaims(token);
+
+    // Then
+    assertSame(first, second);
+  }
+
+  @Test
+  void testTamperedTokenIsRejected() {
+    // Given
+    String token = jwtUtil.generateJwtToken(EMAIL, "CLIENT", 42L);
+    jwtUtil.parseClaims(token);
+    String tampered = token.substring(0, token.length() - 2) + "xx";
+
+    // When & Then
+    assertThrows(JwtException.class, () -> jwtUtil.parseClaims(tampered));
+    assertFalse(jwtUtil.validateJwtToken(tampered));
+    assertTrue(jwtUtil.validateJwtToken(token));
+  }
+
+  @Test
+  void testTokenFromAnotherKeyIsRejected() {
+    // Given
+    JwtUtil other = jwtUtil(SECRET + "-other", 60_000);
+    String token = other.generateJwtToken(EMAIL, "OWNER", 1L);
+
+    // When & Then
+    assertTrue(jwtUtil.verify(token).isEmpty());
+  }
+
+  @Test
+  void testExpiredTokenIsRejected() {
+    // Given
+    JwtUtil shortLived = jwtUtil(SECRET, -1_000);
+    String token = shortLived.generateJwtToken(EMAIL, "CLIENT", 42L);
+
+    // When & Then
+    assertThrows(ExpiredJwtException.class, () ->
+      shortLived.parseClaims(token)
+    );
+    assertFalse(shortLived.validateJwtToken(token));
+  }
+
+  private static JwtUtil jwtUtil(String secret, int expirationMs) {
+    JwtUtil util = new JwtUtil();
+    ReflectionTestUtils.setField(util, "jwtSecret", secret);
+    ReflectionTestUtils.setField(util, "jwtExpirationMs", expirationMs);
+    ReflectionTestUtils.setField(util, "claimsCacheMaxSize", 10);
+    util.init();
+    return util;
+  }
+}
@@ -0,0 +1,106 @@
+package coffee.astroneko.backend.util;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import coffee.astroneko.backend.entity.Order;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class SnowflakeOrderNumberGeneratorTest {
+
+  private static final int THREADS = 16;
+  private static final int ORDERS_PER_THREAD = 20_000;
+
+  @AfterEach
+  void tearDown() {
+    Order.setOrderNumberGenerator(new SnowflakeOrderNumberGenerator(0));
+  }
+
+  @Test
+  void testConcurrentOrdersGetUniqueAscendingNumbers() throws Exception {
+    // Given
+    Order.setOrderNumberGenerator(new SnowflakeOrderNumberGenerator(7));
+    Set<String> numbers = ConcurrentHashMap.newKeySet();
+    CountDownLatch start = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+    // When - every thread persists orders as fast as it can
+    List<Future<Boolean>> results = new ArrayList<>();
+    for (int t = 0; t < THREADS; t++) {
+      results.add(
+        executor.submit(() -> {
+          start.await();
+          String previous = "";
+          boolean ascending = true;
+          for (int i = 0; i < ORDERS_PER_THREAD; i++) {
+            Order order = new Order();
+            order.prePersist();
+            String number = order.getOrderNumber();
+            numbers.add(number);
+            ascending &= number.compareTo(previous) > 0;
+            previous = number;
+          }
+          return ascending;
+        })
+      );
+    }
+    start.countDown();
+    executor.shutdown();
+    assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+
+    // Then
+    assertEquals(THREADS * ORDERS_PER_THREAD, numbers.size());
+    for (Future<Boolean> result : results) {
+      assertTrue(result.get(), "numbers seen by one thread must ascend");
+    }
+  }
+
+  @Test
+  void testNumbersSortInIssueOrder() {
+    // Given
+    SnowflakeOrderNumberGenerator generator = new SnowflakeOrderNumberGenerator(
+      1
+    );
+
+    // When
+    long first = generator.nextId();
+    long second = generator.nextId();
+
+    // Then
+    String firstText = SnowflakeOrderNumberGenerator.encode(first);
+    String secondText = SnowflakeOrderNumberGenerator.encode(second);
+    assertTrue(second > first);
+    assertTrue(secondText.compareTo(firstText) > 0);
+    assertTrue(generator.next().startsWith("ORD-"));
+  }
+
+  @Test
+  void testNodeIdIsEncoded() {
+    // Given
+    long nodeA = new SnowflakeOrderNumberGenerator(3).nextId();
+    long nodeB = new SnowflakeOrderNumberGenerator(1023).nextId();
+
+    // Then
+    assertEquals(3, (nodeA >>> 12) & 1023);
+    assertEquals(1023, (nodeB >>> 12) & 1023);
+  }
+
+  @Test
+  void testNodeIdOutOfRangeIsRejected() {
+    assertThrows(IllegalArgumentException.class, () ->
+      new SnowflakeOrderNumberGenerator(1024)
+    );
+    assertThrows(IllegalArgumentException.class, () ->
+      new SnowflakeOrderNumberGenerator(-1)
+    );
+  }
+}